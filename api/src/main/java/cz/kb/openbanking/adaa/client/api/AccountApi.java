@@ -2,11 +2,15 @@ package cz.kb.openbanking.adaa.client.api;
 
 import java.time.OffsetDateTime;
 
+import cz.kb.openbanking.adaa.client.api.exception.ItemSearchException;
 import cz.kb.openbanking.adaa.client.api.search.AccountBalancesSearch;
 import cz.kb.openbanking.adaa.client.api.search.AccountSearch;
 import cz.kb.openbanking.adaa.client.api.search.AccountStatementsSearch;
+import cz.kb.openbanking.adaa.client.api.search.ItemSearch;
 import cz.kb.openbanking.adaa.client.api.search.PdfStatementSearch;
 import cz.kb.openbanking.adaa.client.api.search.TransactionHistorySearch;
+import cz.kb.openbanking.adaa.client.model.generated.SubscriptionInfo;
+import cz.kb.openbanking.adaa.client.model.generated.SubscriptionRequest;
 
 /**
  * Provides information about user's account details.
@@ -61,4 +65,79 @@ public interface AccountApi {
      * @return {@link PdfStatementSearch}
      */
     PdfStatementSearch statementPdf(String accountId, String accessToken, long statementId);
+
+    /**
+     * Binds the searches to the access token, e.g. for repeated searches over the user's accounts
+     * for the lifetime of the token. By default the session only passes the token to the searches
+     * of this {@link AccountApi}.
+     *
+     * @param accessToken OAuth2 access token, used to requests' authorization
+     * @return {@link AccountSession} of the access token
+     * @since 1.3
+     */
+    default AccountSession session(String accessToken) {
+        return new DelegatingAccountSession(this, accessToken);
+    }
+
+    /**
+     * Searches for id of the account with the IBAN and currency, the id is used by the other searches
+     * as {@code accountId}. Implementations may cache resolved ids.
+     *
+     * @param iban        IBAN of the account, spaces are ignored
+     * @param currency    ISO 4217 code of the account's currency
+     * @param accessToken OAuth2 access token, used to requests' authorization
+     * @return search for the account id
+     * @throws UnsupportedOperationException if the implementation doesn't support resolution of account ids
+     * @since 1.3
+     */
+    default ItemSearch<String> accountId(String iban, String currency, String accessToken) {
+        throw new UnsupportedOperationException("Resolution of account ids is not supported.");
+    }
+
+    /**
+     * Subscribes to events of the account's transactions. The events are sent to the Event API
+     * at {@link SubscriptionRequest#getEventApiUrl()}, which must be already available, e.g. by
+     * {@code TransactionEventReceiver} of the Jersey implementation.
+     * The subscription is created right away by this call, which is never retried.
+     *
+     * @param accountId           id of account
+     * @param accessToken         OAuth2 access token, used to requests' authorization
+     * @param subscriptionRequest URL and API key of the Event API
+     * @return {@link SubscriptionInfo} of the created subscription
+     * @throws ItemSearchException           if the subscription can't be created
+     * @throws UnsupportedOperationException if the implementation doesn't support event subscriptions
+     * @since 1.3
+     */
+    default SubscriptionInfo createSubscription(String accountId, String accessToken,
+                                                SubscriptionRequest subscriptionRequest) {
+        throw new UnsupportedOperationException("Event subscriptions are not supported.");
+    }
+
+    /**
+     * Searches for the subscription to events of the account's transactions, e.g. to check its status.
+     *
+     * @param accountId      id of account
+     * @param accessToken    OAuth2 access token, used to requests' authorization
+     * @param subscriptionId id of the subscription
+     * @return search for {@link SubscriptionInfo}
+     * @throws UnsupportedOperationException if the implementation doesn't support event subscriptions
+     * @since 1.3
+     */
+    default ItemSearch<SubscriptionInfo> subscription(String accountId, String accessToken, String subscriptionId) {
+        throw new UnsupportedOperationException("Event subscriptions are not supported.");
+    }
+
+    /**
+     * Unsubscribes from events of the account's transactions. The subscription is deleted right away by this call.
+     *
+     * @param accountId      id of account
+     * @param accessToken    OAuth2 access token, used to requests' authorization
+     * @param subscriptionId id of the subscription
+     * @throws ItemSearchException           if the subscription can't be deleted
+     * @throws UnsupportedOperationException if the implementation doesn't support event subscriptions
+     * @since 1.3
+     */
+    default void deleteSubscription(String accountId, String accessToken, String subscriptionId) {
+        throw new UnsupportedOperationException("Event subscriptions are not supported.");
+    }
 }
@@ -0,0 +1,65 @@
+package cz.kb.openbanking.adaa.client.api;
+
+import java.time.OffsetDateTime;
+
+import cz.kb.openbanking.adaa.client.api.search.AccountBalancesSearch;
+import cz.kb.openbanking.adaa.client.api.search.AccountSearch;
+import cz.kb.openbanking.adaa.client.api.search.AccountStatementsSearch;
+import cz.kb.openbanking.adaa.client.api.search.PdfStatementSearch;
+import cz.kb.openbanking.adaa.client.api.search.TransactionHistorySearch;
+
+/**
+ * Searches of the {@link AccountApi} bound to one OAuth2 access token, see {@link AccountApi#session(String)}.
+ * A session is used for the lifetime of its access token, e.g. by a loop polling balances of the user's accounts,
+ * implementations may reuse the state of the requests between the searches.
+ *
+ * @since 1.3
+ */
+public interface AccountSession {
+
+    /**
+     * Searches for all accounts.
+     *
+     * @return {@link AccountSearch}
+     * @see AccountApi#accounts(String)
+     */
+    AccountSearch accounts();
+
+    /**
+     * Searches for the user's transaction history.
+     *
+     * @param accountId id of account
+     * @return {@link TransactionHistorySearch}
+     * @see AccountApi#transactions(String, String)
+     */
+    TransactionHistorySearch transactions(String accountId);
+
+    /**
+     * Searches for all account's balances.
+     *
+     * @param accountId id of account
+     * @return {@link AccountBalancesSearch}
+     * @see AccountApi#balances(String, String)
+     */
+    AccountBalancesSearch balances(String accountId);
+
+    /**
+     * Searches for all account's statements.
+     *
+     * @param accountId id of account
+     * @param dateFrom  date of returned statements
+     * @return {@link AccountStatementsSearch}
+     * @see AccountApi#statements(String, String, OffsetDateTime)
+     */
+    AccountStatementsSearch statements(String accountId, OffsetDateTime dateFrom);
+
+    /**
+     * Searches for statement in the PDF format.
+     *
+     * @param accountId   id of account
+     * @param statementId statement identifier
+     * @return {@link PdfStatementSearch}
+     * @see AccountApi#statementPdf(String, String, long)
+     */
+    PdfStatementSearch statementPdf(String accountId, long statementId);
+}
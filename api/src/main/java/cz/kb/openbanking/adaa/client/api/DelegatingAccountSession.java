@@ -0,0 +1,65 @@
+package cz.kb.openbanking.adaa.client.api;
+
+import java.time.OffsetDateTime;
+
+import cz.kb.openbanking.adaa.client.api.search.AccountBalancesSearch;
+import cz.kb.openbanking.adaa.client.api.search.AccountSearch;
+import cz.kb.openbanking.adaa.client.api.search.AccountStatementsSearch;
+import cz.kb.openbanking.adaa.client.api.search.PdfStatementSearch;
+import cz.kb.openbanking.adaa.client.api.search.TransactionHistorySearch;
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * {@link AccountSession} passing its access token to the searches of an {@link AccountApi}.
+ *
+ * @since 1.3
+ */
+final class DelegatingAccountSession implements AccountSession {
+
+    private final AccountApi accountApi;
+
+    private final String accessToken;
+
+    /**
+     * New instance.
+     *
+     * @param accountApi  {@link AccountApi} doing the searches
+     * @param accessToken OAuth2 access token, used to requests' authorization
+     */
+    DelegatingAccountSession(AccountApi accountApi, String accessToken) {
+        if (accountApi == null) {
+            throw new IllegalArgumentException("accountApi must not be null");
+        }
+        if (StringUtils.isBlank(accessToken)) {
+            throw new IllegalArgumentException("accessToken must not be blank");
+        }
+
+        this.accountApi = accountApi;
+        this.accessToken = accessToken;
+    }
+
+    @Override
+    public AccountSearch accounts() {
+        return accountApi.accounts(accessToken);
+    }
+
+    @Override
+    public TransactionHistorySearch transactions(String accountId) {
+        return accountApi.transactions(accountId, accessToken);
+    }
+
+    @Override
+    public AccountBalancesSearch balances(String accountId) {
+        return accountApi.balances(accountId, accessToken);
+    }
+
+    @Override
+    public AccountStatementsSearch statements(String accountId, OffsetDateTime dateFrom) {
+        return accountApi.statements(accountId, accessToken, dateFrom);
+    }
+
+    @Override
+    public PdfStatementSearch statementPdf(String accountId, long statementId) {
+        return accountApi.statementPdf(accountId, accessToken, statementId);
+    }
+}
@@ -0,0 +1,19 @@
+package cz.kb.openbanking.adaa.client.api.exception;
+
+/**
+ * Exception thrown without calling the ADAA API because the client's circuit breaker is open,
+ * i.e. the API was recently failing or responding too slowly and it isn't known to be alive again.
+ *
+ * @since 1.3
+ */
+public class CircuitBreakerOpenException extends ItemSearchException {
+
+    /**
+     * New instance.
+     *
+     * @param message error message
+     */
+    public CircuitBreakerOpenException(String message) {
+        super(message);
+    }
+}
@@ -2,8 +2,6 @@ package cz.kb.openbanking.adaa.client.api.model;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
-import org.apache.commons.lang3.builder.EqualsBuilder;
-import org.apache.commons.lang3.builder.HashCodeBuilder;
 import org.apache.commons.lang3.builder.ToStringBuilder;
 
 import java.util.ArrayList;
@@ -13,6 +11,8 @@ import java.util.List;
 
 /**
  * Contains basic information about current page with elements.
+ * The page is immutable, its content is an unmodifiable list and the hash code is computed only once,
+ * so pages can be used as keys of maps and sets. Elements of the content must not be modified then.
  *
  * @param <T> type of elements on the page
  * @author <a href="mailto:aleh_kuchynski@kb.cz">Aleh Kuchynski</a>
@@ -21,47 +21,52 @@ import java.util.List;
 public class PageSlice<T> {
 
     /**
-     * List of elements.
+     * Unmodifiable list of elements.
      */
-    private List<T> content;
+    private final List<T> content;
 
     /**
      * Total number of pages.
      */
-    private int totalPages;
+    private final int totalPages;
 
     /**
      * Current page number.
      */
-    private int pageNumber;
+    private final int pageNumber;
 
     /**
      * PageSlice size.
      */
-    private int pageSize;
+    private final int pageSize;
 
     /**
      * Number of elements on the current page.
      */
-    private int numberOfElements;
+    private final int numberOfElements;
 
     /**
      * Is the first page.
      */
-    private boolean first;
+    private final boolean first;
 
     /**
      * Is the last page.
      */
-    private boolean last;
+    private final boolean last;
 
     /**
      * Is the current page empty.
      */
-    private boolean empty;
+    private final boolean empty;
 
     /**
-     * New instance.
+     * Cached hash code, {@code 0} if it's not computed yet.
+     */
+    private int hash;
+
+    /**
+     * New instance, the content is copied.
      *
      * @param content          list of elements
      * @param totalPages       total number of pages
@@ -72,15 +77,27 @@ public class PageSlice<T> {
      * @param last             is the last page
      * @param empty            is the current page empty
      */
-    @JsonCreator
-    public PageSlice(@JsonProperty("content") Collection<T> content, @JsonProperty("totalPages") int totalPages,
-                     @JsonProperty("pageNumber") int pageNumber, @JsonProperty("pageSize") int pageSize,
-                     @JsonProperty("numberOfElements") int numberOfElements, @JsonProperty("first") boolean first,
-                     @JsonProperty("last") boolean last, @JsonProperty("empty") boolean empty)
+    public PageSlice(Collection<T> content, int totalPages, int pageNumber, int pageSize, int numberOfElements,
+                     boolean first, boolean last, boolean empty)
+    {
+        this(totalPages, pageNumber, pageSize, numberOfElements, first, last, empty, copyOf(content));
+    }
+
+    /**
+     * New instance that owns the given content.
+     *
+     * @param totalPages       total number of pages
+     * @param pageNumber       number of page
+     * @param pageSize         page size
+     * @param numberOfElements number of elements on the current page
+     * @param first            is the first page
+     * @param last             is the last page
+     * @param empty            is the current page empty
+     * @param content          unmodifiable list of elements, it's not copied
+     */
+    private PageSlice(int totalPages, int pageNumber, int pageSize, int numberOfElements, boolean first,
+                      boolean last, boolean empty, List<T> content)
     {
-        if (content == null) {
-            throw new IllegalArgumentException("content must not be null");
-        }
         if (totalPages < 0) {
             throw new IllegalArgumentException("totalPages must be greater or equal to zero");
         }
@@ -94,7 +111,7 @@ public class PageSlice<T> {
             throw new IllegalArgumentException("numberOfElements must be greater or equal to zero");
         }
 
-        this.content = new ArrayList<>(content);
+        this.content = content;
         this.totalPages = totalPages;
         this.pageNumber = pageNumber;
         this.pageSize = pageSize;
@@ -104,13 +121,53 @@ public class PageSlice<T> {
         this.empty = empty;
     }
 
+    /**
+     * Creates a deserialized page. The content list is created by Jackson for this page only,
+     * thus the page takes it over without copying.
+     *
+     * @param content          list of elements
+     * @param totalPages       total number of pages
+     * @param pageNumber       number of page
+     * @param pageSize         page size
+     * @param numberOfElements number of elements on the current page
+     * @param first            is the first page
+     * @param last             is the last page
+     * @param empty            is the current page empty
+     * @param <T>              type of elements on the page
+     * @return new {@link PageSlice}
+     */
+    @JsonCreator
+    private static <T> PageSlice<T> fromJson(@JsonProperty("content") List<T> content,
+                                             @JsonProperty("totalPages") int totalPages,
+                                             @JsonProperty("pageNumber") int pageNumber,
+                                             @JsonProperty("pageSize") int pageSize,
+                                             @JsonProperty("numberOfElements") int numberOfElements,
+                                             @JsonProperty("first") boolean first,
+                                             @JsonProperty("last") boolean last,
+                                             @JsonProperty("empty") boolean empty)
+    {
+        if (content == null) {
+            throw new IllegalArgumentException("content must not be null");
+        }
+
+        return new PageSlice<>(totalPages, pageNumber, pageSize, numberOfElements, first, last, empty,
+                Collections.unmodifiableList(content));
+    }
+
+    private static <T> List<T> copyOf(Collection<T> content) {
+        if (content == null) {
+            throw new IllegalArgumentException("content must not be null");
+        }
+        return Collections.unmodifiableList(new ArrayList<>(content));
+    }
+
     /**
      * Gets page content.
      *
-     * @return page content
+     * @return unmodifiable page content
      */
     public List<T> getContent() {
-        return Collections.unmodifiableList(content);
+        return content;
     }
 
     /**
@@ -188,30 +245,38 @@ public class PageSlice<T> {
 
         final PageSlice<?> pageSlice = (PageSlice<?>) o;
 
-        return new EqualsBuilder()
-                .append(getTotalPages(), pageSlice.getTotalPages())
-                .append(getPageNumber(), pageSlice.getPageNumber())
-                .append(getPageSize(), pageSlice.getPageSize())
-                .append(getNumberOfElements(), pageSlice.getNumberOfElements())
-                .append(isFirst(), pageSlice.isFirst())
-                .append(isLast(), pageSlice.isLast())
-                .append(isEmpty(), pageSlice.isEmpty())
-                .append(getContent(), pageSlice.getContent())
-                .isEquals();
+        // cheap fields and already computed hash codes are compared before the content
+        if (totalPages != pageSlice.totalPages
+                || pageNumber != pageSlice.pageNumber
+                || pageSize != pageSlice.pageSize
+                || numberOfElements != pageSlice.numberOfElements
+                || first != pageSlice.first
+                || last != pageSlice.last
+                || empty != pageSlice.empty) {
+            return false;
+        }
+        if (hash != 0 && pageSlice.hash != 0 && hash != pageSlice.hash) {
+            return false;
+        }
+        return content.equals(pageSlice.content);
     }
 
     @Override
     public int hashCode() {
-        return new HashCodeBuilder(17, 37)
-                .append(getContent())
-                .append(getTotalPages())
-                .append(getPageNumber())
-                .append(getPageSize())
-                .append(getNumberOfElements())
-                .append(isFirst())
-                .append(isLast())
-                .append(isEmpty())
-                .toHashCode();
+        int result = hash;
+        if (result == 0) {
+            result = content.hashCode();
+            result = 31 * result + totalPages;
+            result = 31 * result + pageNumber;
+            result = 31 * result + pageSize;
+            result = 31 * result + numberOfElements;
+            result = 31 * result + (first ? 1 : 0);
+            result = 31 * result + (last ? 1 : 0);
+            result = 31 * result + (empty ? 1 : 0);
+            // racy single-check, the page is immutable thus all threads compute the same value
+            hash = result;
+        }
+        return result;
     }
 
     @Override
@@ -1,5 +1,8 @@
 package cz.kb.openbanking.adaa.client.api.search;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
 import cz.kb.openbanking.adaa.client.api.exception.ItemSearchException;
 
 /**
@@ -17,4 +20,20 @@ public interface ItemSearch<RES> {
      * @throws ItemSearchException all errors
      */
     RES find() throws ItemSearchException;
+
+    /**
+     * Finds a requested item asynchronously.
+     * If the search fails then the returned stage is completed exceptionally with {@link ItemSearchException}.
+     * <p>
+     * Default implementation runs {@link #find()} in the common {@link java.util.concurrent.ForkJoinPool}, it's meant
+     * only for searches that don't block (e.g. in-memory test doubles). <b>Implementations calling the API must
+     * override it</b> with a non-blocking variant or run {@link #find()} on their own executor, blocking I/O
+     * in the common pool starves all other tasks of the JVM using it.
+     *
+     * @return stage that is completed with the requested item
+     * @since 1.3
+     */
+    default CompletionStage<RES> findAsync() {
+        return CompletableFuture.supplyAsync(this::find);
+    }
 }
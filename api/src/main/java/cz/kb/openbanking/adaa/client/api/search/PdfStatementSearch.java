@@ -1,5 +1,16 @@
 package cz.kb.openbanking.adaa.client.api.search;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+import cz.kb.openbanking.adaa.client.api.exception.ItemSearchException;
+
 /**
  * Searches for statement in the PDF format.
  *
@@ -8,4 +19,68 @@ package cz.kb.openbanking.adaa.client.api.search;
  * @since 1.1
  */
 public interface PdfStatementSearch extends ItemSearch<byte[]> {
+
+    /**
+     * Finds the statement and returns it as a stream read directly from the HTTP response,
+     * the document is never held in memory as a whole.
+     * <b>The caller must close the stream</b>, otherwise the underlying HTTP connection is not released.
+     * <p>
+     * Default implementation wraps the document found by {@link #find()}.
+     *
+     * @return stream of the PDF document
+     * @throws ItemSearchException all errors
+     * @since 1.3
+     */
+    default InputStream findAsStream() throws ItemSearchException {
+        return new ByteArrayInputStream(find());
+    }
+
+    /**
+     * Finds the statement and writes it to the given file. An existing file is overwritten.
+     *
+     * @param target file to write the PDF document to
+     * @return number of written bytes
+     * @throws ItemSearchException all errors, incl. I/O errors of writing the file
+     * @since 1.3
+     */
+    default long downloadTo(Path target) throws ItemSearchException {
+        if (target == null) {
+            throw new IllegalArgumentException("target must not be null");
+        }
+
+        try (InputStream document = findAsStream()) {
+            return Files.copy(document, target, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            throw new ItemSearchException("Error occurred during downloading statement. Error: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Finds the statement and writes it to the given channel. The channel is not closed.
+     *
+     * @param target channel to write the PDF document to
+     * @return number of written bytes
+     * @throws ItemSearchException all errors, incl. I/O errors of writing to the channel
+     * @since 1.3
+     */
+    default long transferTo(WritableByteChannel target) throws ItemSearchException {
+        if (target == null) {
+            throw new IllegalArgumentException("target must not be null");
+        }
+
+        try (InputStream document = findAsStream()) {
+            byte[] buffer = new byte[8192];
+            long result = 0;
+            int read;
+            while ((read = document.read(buffer)) != -1) {
+                ByteBuffer chunk = ByteBuffer.wrap(buffer, 0, read);
+                while (chunk.hasRemaining()) {
+                    result += target.write(chunk);
+                }
+            }
+            return result;
+        } catch (IOException e) {
+            throw new ItemSearchException("Error occurred during downloading statement. Error: " + e.getMessage());
+        }
+    }
 }
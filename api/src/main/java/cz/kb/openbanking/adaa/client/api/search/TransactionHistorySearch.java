@@ -1,5 +1,16 @@
 package cz.kb.openbanking.adaa.client.api.search;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import cz.kb.openbanking.adaa.client.api.exception.ItemSearchException;
 import cz.kb.openbanking.adaa.client.api.model.PageSlice;
 import cz.kb.openbanking.adaa.client.model.generated.AccountTransaction;
 
@@ -15,4 +26,80 @@ import cz.kb.openbanking.adaa.client.model.generated.AccountTransaction;
  */
 public interface TransactionHistorySearch extends ItemSearch<PageSlice<AccountTransaction>>,
         PageSearch<TransactionHistorySearch>, DateSearch<TransactionHistorySearch> {
+
+    /**
+     * Iterates over transactions of all pages, starting with the first page regardless of {@link #page(int)}.
+     * Pages are requested lazily, the next page is requested while the transactions
+     * of the current one are being processed. At most two pages are held in memory.
+     * {@link ItemSearchException} is thrown by the iterator if any page can't be found.
+     * <p>
+     * The default implementation requests the pages one by one by {@link #find()}, when the transactions
+     * of the previous page are consumed.
+     *
+     * @return iterator over all transactions
+     * @since 1.3
+     */
+    default Iterator<AccountTransaction> iterator() {
+        return new TransactionPageIterator(this);
+    }
+
+    /**
+     * Streams transactions of all pages, see {@link #iterator()}.
+     *
+     * @return sequential stream of all transactions
+     * @since 1.3
+     */
+    default Stream<AccountTransaction> stream() {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator(),
+                Spliterator.ORDERED | Spliterator.NONNULL), false);
+    }
+
+    /**
+     * Finds transactions of all pages, starting with the first page regardless of {@link #page(int)}.
+     * The first page is requested alone to get the total number of pages,
+     * the remaining pages are then requested concurrently.
+     * <p>
+     * The default implementation ignores the parallelism and requests the pages one by one, see {@link #iterator()}.
+     *
+     * @param parallelism maximal number of concurrently requested pages, must be greater than zero
+     * @return transactions of all pages in the order of pages
+     * @throws ItemSearchException if any page can't be found
+     * @since 1.3
+     */
+    default List<AccountTransaction> findAll(int parallelism) throws ItemSearchException {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("parallelism must be greater than zero");
+        }
+
+        List<AccountTransaction> result = new ArrayList<>();
+        iterator().forEachRemaining(result::add);
+        return result;
+    }
+
+    /**
+     * Finds the requested page and hands its transactions to the consumer one by one as they are parsed
+     * from the HTTP response, the transactions of the page are never held in memory together.
+     * Suitable for large page sizes. The response is not cached nor shared by concurrent identical searches.
+     * An exception thrown by the consumer stops reading of the page and is rethrown.
+     * <p>
+     * The default implementation finds the whole page by {@link #find()} and hands its transactions
+     * to the consumer afterwards, so it doesn't save memory.
+     *
+     * @param consumer consumer of the transactions of the page
+     * @return metadata of the page (number of pages, elements etc.) with empty {@link PageSlice#getContent()}
+     * @throws ItemSearchException if the page can't be found or read; the consumer may have received
+     *                             a part of the transactions already
+     * @since 1.3
+     */
+    default PageSlice<AccountTransaction> findEach(Consumer<? super AccountTransaction> consumer)
+            throws ItemSearchException {
+        if (consumer == null) {
+            throw new IllegalArgumentException("consumer must not be null");
+        }
+
+        PageSlice<AccountTransaction> page = find();
+        page.getContent().forEach(consumer);
+        return new PageSlice<>(Collections.emptyList(), page.getTotalPages(), page.getPageNumber(),
+                page.getPageSize(), page.getNumberOfElements(), page.isFirst(), page.isLast(), page.isEmpty());
+    }
 }
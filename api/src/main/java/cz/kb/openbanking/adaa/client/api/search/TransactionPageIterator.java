@@ -0,0 +1,64 @@
+package cz.kb.openbanking.adaa.client.api.search;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import cz.kb.openbanking.adaa.client.api.model.PageSlice;
+import cz.kb.openbanking.adaa.client.model.generated.AccountTransaction;
+
+/**
+ * Iterator over transactions of all pages of a {@link TransactionHistorySearch}, the pages are requested
+ * one by one by {@link ItemSearch#find()} when the transactions of the previous page are consumed.
+ *
+ * @see TransactionHistorySearch#iterator()
+ * @since 1.3
+ */
+final class TransactionPageIterator implements Iterator<AccountTransaction> {
+
+    /**
+     * Search used to request particular pages.
+     */
+    private final TransactionHistorySearch search;
+
+    /**
+     * Transactions of the current page.
+     */
+    private Iterator<AccountTransaction> currentPage = Collections.emptyIterator();
+
+    /**
+     * Number of the page that is requested next, {@code -1} if there is no next page.
+     */
+    private int nextPageNumber;
+
+    /**
+     * New instance.
+     *
+     * @param search search used to request particular pages
+     */
+    TransactionPageIterator(TransactionHistorySearch search) {
+        if (search == null) {
+            throw new IllegalArgumentException("search must not be null");
+        }
+
+        this.search = search;
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (!currentPage.hasNext() && nextPageNumber >= 0) {
+            PageSlice<AccountTransaction> page = search.page(nextPageNumber).find();
+            currentPage = page.getContent().iterator();
+            nextPageNumber = page.isLast() || page.getContent().isEmpty() ? -1 : nextPageNumber + 1;
+        }
+        return currentPage.hasNext();
+    }
+
+    @Override
+    public AccountTransaction next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return currentPage.next();
+    }
+}
@@ -0,0 +1,101 @@
+package cz.kb.openbanking.adaa.client.benchmarks;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * In-process HTTP stub of the ADAA API listening on a random local port.
+ * Serves fixed responses, so the benchmarks measure the client and not the server.
+ *
+ * @since 1.3
+ */
+final class AdaaStubServer implements Closeable {
+
+    /**
+     * ID of the account with successful responses.
+     */
+    static final String ACCOUNT_ID = "benchmarkAccount";
+
+    /**
+     * ID of the account whose transactions are refused by {@code 400 Bad Request} with an error response.
+     */
+    static final String FAILING_ACCOUNT_ID = "failingAccount";
+
+    /**
+     * ID of the statement served as PDF.
+     */
+    static final long STATEMENT_ID = 1L;
+
+    static {
+        // the JDK server writes headers and body separately, without TCP_NODELAY each response waits for delayed ACK
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+    }
+
+    private final HttpServer server;
+
+    private final ExecutorService executor;
+
+    /**
+     * Starts a new server.
+     *
+     * @param transactionPage JSON of the transaction page to serve
+     * @param pdfStatement    content of the PDF statement to serve
+     * @throws IOException if the server can't be started
+     */
+    AdaaStubServer(byte[] transactionPage, byte[] pdfStatement) throws IOException {
+        byte[] accounts = BenchmarkData.resource("response-accounts.json");
+        byte[] error = BenchmarkData.resource("response-missing-corr-id.json");
+
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        this.executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+        server.setExecutor(executor);
+        server.createContext("/accounts", exchange -> {
+            String path = exchange.getRequestURI().getPath();
+            if (path.equals("/accounts")) {
+                respond(exchange, 200, "application/json", accounts);
+            } else if (path.equals("/accounts/" + ACCOUNT_ID + "/transactions")) {
+                respond(exchange, 200, "application/json", transactionPage);
+            } else if (path.equals("/accounts/" + FAILING_ACCOUNT_ID + "/transactions")) {
+                respond(exchange, 400, "application/json", error);
+            } else if (path.equals("/accounts/" + ACCOUNT_ID + "/statements/" + STATEMENT_ID)) {
+                respond(exchange, 200, "application/pdf", pdfStatement);
+            } else {
+                respond(exchange, 404, "application/json", new byte[0]);
+            }
+        });
+        server.start();
+    }
+
+    /**
+     * Gets base URL of the stubbed ADAA API.
+     *
+     * @return base URL
+     */
+    String getBaseUrl() {
+        return "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private static void respond(HttpExchange exchange, int status, String contentType, byte[] body)
+            throws IOException {
+        exchange.getRequestBody().close();
+        exchange.getResponseHeaders().set("Content-Type", contentType);
+        exchange.sendResponseHeaders(status, body.length == 0 ? -1 : body.length);
+        try (OutputStream output = exchange.getResponseBody()) {
+            output.write(body);
+        }
+    }
+}
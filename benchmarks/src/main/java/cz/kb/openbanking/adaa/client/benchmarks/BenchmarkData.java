@@ -0,0 +1,94 @@
+package cz.kb.openbanking.adaa.client.benchmarks;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+/**
+ * Data served by the {@link AdaaStubServer} and read by the benchmarks.
+ *
+ * @since 1.3
+ */
+final class BenchmarkData {
+
+    private BenchmarkData() {
+    }
+
+    /**
+     * Creates JSON of one page of the transaction history with distinct transactions.
+     *
+     * @param pageSize number of transactions in the page
+     * @return UTF-8 encoded JSON
+     */
+    static byte[] transactionPage(int pageSize) {
+        StringBuilder result = new StringBuilder(pageSize * 1024);
+        result.append("{\"content\":[");
+        for (int i = 0; i < pageSize; i++) {
+            if (i > 0) {
+                result.append(',');
+            }
+            result.append("{\"lastUpdated\":\"2020-01-14T09:33:06.323Z\",\"accountType\":\"KB\",")
+                  .append("\"entryReference\":\"KB-").append(1000000000L + i).append("\",")
+                  .append("\"iban\":\"CZ9501000000001234567899\",")
+                  .append("\"creditDebitIndicator\":\"").append(i % 2 == 0 ? "CREDIT" : "DEBIT").append("\",")
+                  .append("\"transactionType\":\"DOMESTIC\",")
+                  .append("\"amount\":{\"value\":").append(100 + i).append(",\"currency\":\"CZK\"},")
+                  .append("\"bookingDate\":\"2019-04-23\",\"valueDate\":\"2019-04-24\",")
+                  .append("\"instructed\":{\"value\":").append(100 + i).append(",\"currency\":\"CZK\"},")
+                  .append("\"reversalIndicator\":false,\"status\":\"BOOK\",")
+                  .append("\"counterParty\":{\"iban\":\"CZ9501000000001234567899\",")
+                  .append("\"name\":\"Tesco Stores ČR a.s.\",\"accountNo\":\"1234567899\",")
+                  .append("\"bankBic\":\"KOMBCZPPXXX\",\"bankCode\":\"0100\",")
+                  .append("\"bankName\":\"Česká spořitelna, a.s.\"},")
+                  .append("\"references\":{\"variable\":\"").append(2018000 + i).append("\",")
+                  .append("\"constant\":\"0514\",\"specific\":\"708090\",\"receiver\":\"Zpráva pro příjemce\"},")
+                  .append("\"additionalTransactionInformation\":")
+                  .append("\"8201701069595 BIC: GIBACZPXXXX; #71A# SHA ZALOHA DLE SMLOUVY O DODAVKACH\"}");
+        }
+        result.append("],\"totalPages\":1,\"pageNumber\":0,\"pageSize\":").append(pageSize)
+              .append(",\"numberOfElements\":").append(pageSize)
+              .append(",\"first\":true,\"last\":true,\"empty\":").append(pageSize == 0).append('}');
+        return result.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Creates pseudo-random content of a PDF statement.
+     *
+     * @param size size of the content in bytes
+     * @return content of the statement
+     */
+    static byte[] pdfStatement(int size) {
+        byte[] result = new byte[size];
+        new Random(size).nextBytes(result);
+        byte[] header = "%PDF-1.4\n".getBytes(StandardCharsets.US_ASCII);
+        System.arraycopy(header, 0, result, 0, Math.min(header.length, size));
+        return result;
+    }
+
+    /**
+     * Reads a classpath resource.
+     *
+     * @param name name of the resource
+     * @return content of the resource
+     */
+    static byte[] resource(String name) {
+        try (InputStream input = BenchmarkData.class.getClassLoader().getResourceAsStream(name)) {
+            if (input == null) {
+                throw new IllegalArgumentException("Resource '" + name + "' doesn't exist.");
+            }
+
+            ByteArrayOutputStream result = new ByteArrayOutputStream();
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = input.read(buffer)) != -1) {
+                result.write(buffer, 0, read);
+            }
+            return result.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
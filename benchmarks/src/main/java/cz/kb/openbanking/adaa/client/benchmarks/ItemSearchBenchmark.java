@@ -0,0 +1,85 @@
+package cz.kb.openbanking.adaa.client.benchmarks;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import cz.kb.openbanking.adaa.client.api.exception.ItemSearchException;
+import cz.kb.openbanking.adaa.client.api.model.PageSlice;
+import cz.kb.openbanking.adaa.client.jersey.AccountApiJerseyImpl;
+import cz.kb.openbanking.adaa.client.model.generated.Account;
+import cz.kb.openbanking.adaa.client.model.generated.AccountTransaction;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * End-to-end {@code find()} against the in-process {@link AdaaStubServer}: request preparation,
+ * HTTP exchange over the pooled transport, deserialization and mapping of errors.
+ *
+ * @since 1.3
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ItemSearchBenchmark {
+
+    private static final String ACCESS_TOKEN = "accessToken";
+
+    @Param({"10", "100"})
+    private int pageSize;
+
+    private AdaaStubServer server;
+
+    private AccountApiJerseyImpl accountApi;
+
+    @Setup
+    public void setUp() throws IOException {
+        server = new AdaaStubServer(BenchmarkData.transactionPage(pageSize), new byte[0]);
+        accountApi = AccountApiJerseyImpl.builder(server.getBaseUrl(), "apiKey").build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        accountApi.close();
+        server.close();
+    }
+
+    @Benchmark
+    public List<Account> findAccounts() {
+        return accountApi.accounts(ACCESS_TOKEN).find();
+    }
+
+    @Benchmark
+    public PageSlice<AccountTransaction> findTransactions() {
+        return accountApi.transactions(AdaaStubServer.ACCOUNT_ID, ACCESS_TOKEN)
+                         .page(0)
+                         .size(pageSize)
+                         .find();
+    }
+
+    /**
+     * Error path: {@code 400 Bad Request} with an error response parsed to {@link ItemSearchException}.
+     */
+    @Benchmark
+    public ItemSearchException findTransactionsError() {
+        try {
+            accountApi.transactions(AdaaStubServer.FAILING_ACCOUNT_ID, ACCESS_TOKEN).find();
+        } catch (ItemSearchException e) {
+            return e;
+        }
+        throw new IllegalStateException("Search of transactions should fail.");
+    }
+}
@@ -0,0 +1,56 @@
+package cz.kb.openbanking.adaa.client.benchmarks;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import cz.kb.openbanking.adaa.client.api.model.PageSlice;
+import cz.kb.openbanking.adaa.client.model.generated.AccountTransaction;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Deserialization of transaction pages of various sizes, configured the same way as by the client.
+ *
+ * @since 1.3
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PageSliceDeserializationBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int pageSize;
+
+    private byte[] page;
+
+    private ObjectReader reader;
+
+    @Setup
+    public void setUp() {
+        page = BenchmarkData.transactionPage(pageSize);
+        reader = new ObjectMapper().registerModule(new JavaTimeModule())
+                                   .readerFor(new TypeReference<PageSlice<AccountTransaction>>() {
+                                   });
+    }
+
+    @Benchmark
+    public PageSlice<AccountTransaction> deserializePage() throws IOException {
+        return reader.readValue(page);
+    }
+}
@@ -0,0 +1,86 @@
+package cz.kb.openbanking.adaa.client.benchmarks;
+
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import cz.kb.openbanking.adaa.client.api.model.PageSlice;
+import cz.kb.openbanking.adaa.client.model.generated.AccountTransaction;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Using deserialized transaction pages as keys, e.g. for de-duplication of pages, and reading their content.
+ *
+ * @since 1.3
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PageSliceEqualityBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int pageSize;
+
+    private PageSlice<AccountTransaction> page;
+
+    private PageSlice<AccountTransaction> equalPage;
+
+    private PageSlice<AccountTransaction> otherPage;
+
+    @Setup
+    public void setUp() throws IOException {
+        ObjectReader reader = new ObjectMapper().registerModule(new JavaTimeModule())
+                                                .readerFor(new TypeReference<PageSlice<AccountTransaction>>() {
+                                                });
+        page = reader.readValue(BenchmarkData.transactionPage(pageSize));
+        equalPage = reader.readValue(BenchmarkData.transactionPage(pageSize));
+        otherPage = reader.readValue(BenchmarkData.transactionPage(pageSize + 1));
+    }
+
+    @Benchmark
+    public int hashCodeOfPage() {
+        return page.hashCode();
+    }
+
+    @Benchmark
+    public boolean equalsOfEqualPages() {
+        return page.equals(equalPage);
+    }
+
+    @Benchmark
+    public boolean equalsOfDifferentPages() {
+        return page.equals(otherPage);
+    }
+
+    @Benchmark
+    public boolean deduplicatePages() {
+        Set<PageSlice<AccountTransaction>> pages = new HashSet<>();
+        pages.add(page);
+        pages.add(otherPage);
+        return pages.add(equalPage);
+    }
+
+    @Benchmark
+    public List<AccountTransaction> getContent() {
+        return page.getContent();
+    }
+}
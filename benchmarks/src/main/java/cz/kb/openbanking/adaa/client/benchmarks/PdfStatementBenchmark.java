@@ -0,0 +1,125 @@
+package cz.kb.openbanking.adaa.client.benchmarks;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import cz.kb.openbanking.adaa.client.jersey.AccountApiJerseyImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Download of a PDF statement from the in-process {@link AdaaStubServer}: buffered to {@code byte[]},
+ * consumed as a stream, transferred to a channel and downloaded to a file.
+ *
+ * @since 1.3
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PdfStatementBenchmark {
+
+    @Param({"65536", "4194304"})
+    private int statementSize;
+
+    private AdaaStubServer server;
+
+    private AccountApiJerseyImpl accountApi;
+
+    private Path target;
+
+    private byte[] buffer;
+
+    @Setup
+    public void setUp() throws IOException {
+        server = new AdaaStubServer(BenchmarkData.transactionPage(0), BenchmarkData.pdfStatement(statementSize));
+        accountApi = AccountApiJerseyImpl.builder(server.getBaseUrl(), "apiKey").build();
+        target = Files.createTempFile("statement", ".pdf");
+        buffer = new byte[16 * 1024];
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        accountApi.close();
+        server.close();
+        Files.deleteIfExists(target);
+    }
+
+    @Benchmark
+    public byte[] findBytes() {
+        return accountApi.statementPdf(AdaaStubServer.ACCOUNT_ID, "accessToken", AdaaStubServer.STATEMENT_ID)
+                         .find();
+    }
+
+    @Benchmark
+    public long findAsStream() throws IOException {
+        long result = 0;
+        try (InputStream input = accountApi.statementPdf(AdaaStubServer.ACCOUNT_ID, "accessToken",
+                AdaaStubServer.STATEMENT_ID).findAsStream()) {
+            int read;
+            while ((read = input.read(buffer)) != -1) {
+                result += read;
+            }
+        }
+        return result;
+    }
+
+    @Benchmark
+    public long transferTo(Blackhole blackhole) {
+        return accountApi.statementPdf(AdaaStubServer.ACCOUNT_ID, "accessToken", AdaaStubServer.STATEMENT_ID)
+                         .transferTo(new BlackholeChannel(blackhole));
+    }
+
+    @Benchmark
+    public long downloadTo() {
+        return accountApi.statementPdf(AdaaStubServer.ACCOUNT_ID, "accessToken", AdaaStubServer.STATEMENT_ID)
+                         .downloadTo(target);
+    }
+
+    /**
+     * Channel that consumes all written bytes by {@link Blackhole}.
+     */
+    private static final class BlackholeChannel implements WritableByteChannel {
+
+        private final Blackhole blackhole;
+
+        private BlackholeChannel(Blackhole blackhole) {
+            this.blackhole = blackhole;
+        }
+
+        @Override
+        public int write(ByteBuffer src) {
+            int result = src.remaining();
+            blackhole.consume(src);
+            src.position(src.limit());
+            return result;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return true;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
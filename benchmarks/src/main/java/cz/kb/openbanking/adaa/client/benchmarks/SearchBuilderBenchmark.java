@@ -0,0 +1,57 @@
+package cz.kb.openbanking.adaa.client.benchmarks;
+
+import java.time.OffsetDateTime;
+import java.util.concurrent.TimeUnit;
+
+import cz.kb.openbanking.adaa.client.api.search.TransactionHistorySearch;
+import cz.kb.openbanking.adaa.client.jersey.AccountApiJerseyImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Building of the transaction history search by the fluent API, no request is sent.
+ *
+ * @since 1.3
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SearchBuilderBenchmark {
+
+    private static final OffsetDateTime FROM_DATE = OffsetDateTime.parse("2020-01-01T00:00:00Z");
+
+    private static final OffsetDateTime TO_DATE = OffsetDateTime.parse("2020-01-31T23:59:59Z");
+
+    private AccountApiJerseyImpl accountApi;
+
+    @Setup
+    public void setUp() {
+        accountApi = AccountApiJerseyImpl.builder("http://localhost:1080", "apiKey").build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        accountApi.close();
+    }
+
+    @Benchmark
+    public TransactionHistorySearch buildTransactionSearch() {
+        return accountApi.transactions(AdaaStubServer.ACCOUNT_ID, "accessToken")
+                         .page(1)
+                         .size(50)
+                         .fromDate(FROM_DATE)
+                         .toDate(TO_DATE);
+    }
+}
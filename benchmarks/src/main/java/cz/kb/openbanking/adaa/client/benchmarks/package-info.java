@@ -0,0 +1,4 @@
+/**
+ * JMH benchmarks of the ADAA API client's hot paths.
+ */
+package cz.kb.openbanking.adaa.client.benchmarks;
@@ -5,19 +5,28 @@ import static cz.kb.openbanking.adaa.client.jersey.RequestConstants.AUTHORIZATIO
 import static cz.kb.openbanking.adaa.client.jersey.RequestConstants.CORRELATION_ID_HEADER_NAME;
 
 import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nullable;
+import javax.ws.rs.HttpMethod;
 import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.client.Entity;
+import javax.ws.rs.client.Invocation;
 import javax.ws.rs.client.WebTarget;
 import javax.ws.rs.core.GenericType;
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 
 import cz.kb.openbanking.adaa.client.api.exception.ItemSearchException;
 import cz.kb.openbanking.adaa.client.api.search.ItemSearch;
 import cz.kb.openbanking.adaa.client.model.generated.ErrorResponse;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
-import org.glassfish.jersey.jackson.internal.jackson.jaxrs.json.JacksonJaxbJsonProvider;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -40,6 +49,11 @@ abstract class AbstractItemSearch<RES> implements ItemSearch<RES> {
      */
     private final RequestParameters requestParameters;
 
+    /**
+     * Client-scoped infrastructure.
+     */
+    private final SearchContext searchContext;
+
     /**
      * Specific type of the response class (wrapped by Jersey's {@link GenericType}).
      */
@@ -50,44 +64,655 @@ abstract class AbstractItemSearch<RES> implements ItemSearch<RES> {
      *
      * @param webTarget         {@link WebTarget}
      * @param requestParameters {@link RequestParameters}
+     * @param searchContext     client-scoped infrastructure
      * @param responseClass     specific type of the response class (wrapped by Jersey's {@link GenericType})
      */
     protected AbstractItemSearch(WebTarget webTarget, RequestParameters requestParameters,
-                                 GenericType<RES> responseClass) {
+                                 SearchContext searchContext, GenericType<RES> responseClass) {
         if (webTarget == null) {
             throw new IllegalArgumentException("webTarget must not be null");
         }
         if (requestParameters == null) {
             throw new IllegalArgumentException("requestParameters must not be null");
         }
+        if (searchContext == null) {
+            throw new IllegalArgumentException("searchContext must not be null");
+        }
         if (responseClass == null) {
             throw new IllegalArgumentException("responseClass must not be null");
         }
 
         this.webTarget = webTarget;
         this.requestParameters = requestParameters;
+        this.searchContext = searchContext;
         this.responseClass = responseClass;
     }
 
     @Override
     public RES find() throws ItemSearchException {
+        RequestKey requestKey = getRequestKey();
+        ResponseCache.Entry cached = getCached(requestKey);
+        if (cached != null && cached.isFresh()) {
+            log.debug("Resource '{}' found in cache.", requestKey);
+            return cast(cached.getValue());
+        }
+
+        RequestCoalescer requestCoalescer = getRequestCoalescer();
+        if (requestCoalescer == null) {
+            return exchange(requestKey, cached);
+        }
+        return requestCoalescer.execute(requestKey, () -> exchange(requestKey, cached));
+    }
+
+    /**
+     * Calls the resource and returns its raw successful {@link Response}, the entity of the response is not read.
+     * The caller is responsible for closing the response.
+     *
+     * @return successful {@link Response}
+     * @throws ItemSearchException if the call fails or the response is not successful
+     */
+    protected Response findResponse() throws ItemSearchException {
+        SearchMetrics.Sample sample = getSearchContext().getSearchMetrics().start(getResource());
+        try {
+            Response result = execute(null, sample);
+            sample.stop(null);
+            return result;
+        } catch (ItemSearchException e) {
+            sample.stop(e);
+            throw e;
+        }
+    }
+
+    /**
+     * Finds a requested item asynchronously by Jersey's reactive invoker, so the calling thread is never blocked.
+     * Errors are mapped to {@link ItemSearchException} the same way as by {@link #find()}.
+     *
+     * @return stage that is completed with the requested item
+     */
+    @Override
+    public CompletionStage<RES> findAsync() {
+        if (getRequestParameters().getManagedToken() == null) {
+            return findAsync(getRequestKey());
+        }
+        // the search is chained on the managed token, so the calling thread doesn't wait for its refresh
+        return getRequestParameters().getAccessTokenAsync()
+                .thenCompose(accessToken -> findAsync(new RequestKey(getWebTarget().getUri(), accessToken)));
+    }
+
+    /**
+     * Finds a requested item of the request asynchronously, see {@link #findAsync()}.
+     *
+     * @param requestKey identity of the request
+     * @return stage that is completed with the requested item
+     */
+    private CompletionStage<RES> findAsync(RequestKey requestKey) {
+        ResponseCache.Entry cached = getCached(requestKey);
+        if (cached != null && cached.isFresh()) {
+            log.debug("Resource '{}' found in cache.", requestKey);
+            return CompletableFuture.completedFuture(cast(cached.getValue()));
+        }
+
+        RequestCoalescer requestCoalescer = getRequestCoalescer();
+        if (requestCoalescer == null) {
+            return exchangeAsync(requestKey, cached);
+        }
+        return requestCoalescer.executeAsync(requestKey, () -> exchangeAsync(requestKey, cached));
+    }
+
+    /**
+     * Gets the ADAA API resource searched by this search.
+     *
+     * @return {@link AdaaResource}
+     */
+    abstract AdaaResource getResource();
+
+    /**
+     * Gets HTTP method of the call, {@code GET} by default.
+     *
+     * @return name of the HTTP method
+     */
+    String getMethod() {
+        return HttpMethod.GET;
+    }
+
+    /**
+     * Checks if the call can be repeated without side effects, i.e. retried after a failed attempt.
+     * All HTTP methods but {@code POST} are idempotent by default.
+     *
+     * @return {@code true} if the call is idempotent
+     */
+    boolean isIdempotent() {
+        return !HttpMethod.POST.equals(getMethod());
+    }
+
+    /**
+     * Gets entity of the request, none by default.
+     *
+     * @return entity of the request, {@code null} if the request has no entity
+     */
+    @Nullable
+    Entity<?> getEntity() {
+        return null;
+    }
+
+    /**
+     * Calls the resource synchronously and reads the requested item.
+     *
+     * @param requestKey identity of the request
+     * @param cached     expired cached response to revalidate, if any
+     * @return requested item
+     * @throws ItemSearchException if the call fails or the response is not successful
+     */
+    private RES exchange(RequestKey requestKey, @Nullable ResponseCache.Entry cached) throws ItemSearchException {
+        SearchMetrics.Sample sample = getSearchContext().getSearchMetrics().start(getResource());
+        try {
+            RES result = toResult(execute(cached, sample), requestKey, cached);
+            sample.stop(null);
+            return result;
+        } catch (ItemSearchException e) {
+            sample.stop(e);
+            throw e;
+        }
+    }
+
+    /**
+     * Calls the resource asynchronously and reads the requested item.
+     *
+     * @param requestKey identity of the request
+     * @param cached     expired cached response to revalidate, if any
+     * @return stage that is completed with the requested item
+     */
+    private CompletionStage<RES> exchangeAsync(RequestKey requestKey, @Nullable ResponseCache.Entry cached) {
+        WebTarget webTarget = getWebTarget();
+
+        String correlationId = UUID.randomUUID().toString();
+        log.info("Call resource '{}' asynchronously with correlation id '{}'.", webTarget.getUri(), correlationId);
+
+        SearchMetrics.Sample sample = getSearchContext().getSearchMetrics().start(getResource());
+        CompletableFuture<Response> response = new CompletableFuture<>();
+        executeAsync(webTarget, correlationId, cached, sample, 1, false, response);
+
+        CompletableFuture<RES> result = new CompletableFuture<>();
+        response.whenComplete((successfulResponse, throwable) -> {
+            try {
+                if (throwable != null) {
+                    throw throwable;
+                }
+                RES value = toResult(successfulResponse, requestKey, cached);
+                sample.stop(null);
+                result.complete(value);
+            } catch (Throwable e) {
+                Throwable cause = unwrap(e);
+                log.error("Calling of resource ends with error. Error: " + cause.getMessage(), cause);
+                ItemSearchException error = cause instanceof ItemSearchException
+                        ? (ItemSearchException) cause : parseException(cause);
+                sample.stop(error);
+                result.completeExceptionally(error);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Calls the resource asynchronously, failed attempts are retried according to the {@link RetryPolicy}.
+     * Each attempt is permitted by the {@link CircuitBreaker} and throttled by the {@link Throttle},
+     * a rejected or throttled attempt fails without retry.
+     *
+     * @param webTarget     target of the request
+     * @param correlationId correlation id of the request
+     * @param cached        expired cached response to revalidate, if any
+     * @param sample        measurement of the call
+     * @param attempt       number of the attempt, starting with {@code 1}
+     * @param replayed      whether the request was already replayed with a refreshed access token
+     * @param result        future to complete with successful or {@code 304 Not Modified} response
+     */
+    private void executeAsync(WebTarget webTarget, String correlationId, @Nullable ResponseCache.Entry cached,
+                              SearchMetrics.Sample sample, int attempt, boolean replayed,
+                              CompletableFuture<Response> result) {
+        // a given access token is completed already, only a refresh of the managed one defers the attempt
+        getRequestParameters().getAuthorizationHeaderValueAsync().whenComplete((authorization, throwable) -> {
+            if (throwable != null) {
+                result.completeExceptionally(unwrap(throwable));
+                return;
+            }
+            executeAsync(webTarget, correlationId, authorization, cached, sample, attempt, replayed, result);
+        });
+    }
+
+    /**
+     * Continues the asynchronous call with the access token of the attempt.
+     *
+     * @param webTarget     target of the request
+     * @param correlationId correlation id of the request
+     * @param authorization value of the authorization header
+     * @param cached        expired cached response to revalidate, if any
+     * @param sample        measurement of the call
+     * @param attempt       number of the attempt, starting with {@code 1}
+     * @param replayed      whether the request was already replayed with a refreshed access token
+     * @param result        future to complete with successful or {@code 304 Not Modified} response
+     */
+    private void executeAsync(WebTarget webTarget, String correlationId, String authorization,
+                              @Nullable ResponseCache.Entry cached, SearchMetrics.Sample sample, int attempt,
+                              boolean replayed, CompletableFuture<Response> result) {
+        CircuitBreaker circuitBreaker = getSearchContext().getCircuitBreaker();
+        if (circuitBreaker != null) {
+            try {
+                circuitBreaker.acquirePermission();
+            } catch (ItemSearchException e) {
+                result.completeExceptionally(e);
+                return;
+            }
+        }
+
+        Throttle throttle = getSearchContext().getThrottle();
+        if (throttle == null) {
+            sendAsync(webTarget, correlationId, authorization, cached, sample, attempt, replayed, result);
+            return;
+        }
+
+        throttle.acquire().whenComplete((waitNanos, throwable) -> {
+            if (throwable != null) {
+                result.completeExceptionally(unwrap(throwable));
+                return;
+            }
+            sample.queued(waitNanos);
+            sendAsync(webTarget, correlationId, authorization, cached, sample, attempt, replayed, result);
+        });
+    }
+
+    /**
+     * Sends one attempt of the asynchronous call, the attempt is already permitted by the {@link CircuitBreaker}
+     * and the {@link Throttle}.
+     *
+     * @param webTarget     target of the request
+     * @param correlationId correlation id of the request
+     * @param authorization value of the authorization header
+     * @param cached        expired cached response to revalidate, if any
+     * @param sample        measurement of the call
+     * @param attempt       number of the attempt, starting with {@code 1}
+     * @param replayed      whether the request was already replayed with a refreshed access token
+     * @param result        future to complete with successful or {@code 304 Not Modified} response
+     */
+    private void sendAsync(WebTarget webTarget, String correlationId, String authorization,
+                           @Nullable ResponseCache.Entry cached, SearchMetrics.Sample sample, int attempt,
+                           boolean replayed, CompletableFuture<Response> result) {
+        RetryPolicy retryPolicy = getRetryPolicy();
+        long start = System.nanoTime();
+        CompletionStage<Response> sent;
+        try {
+            Entity<?> entity = getEntity();
+            Invocation.Builder request = request(webTarget, correlationId, authorization, cached, sample);
+            sent = entity == null ? request.rx().method(getMethod()) : request.rx().method(getMethod(), entity);
+        } catch (RuntimeException e) {
+            // e.g. the async executor rejects the call or the client is closed, the slot of the attempt is released
+            afterAttempt(start, null);
+            result.completeExceptionally(parseException(e));
+            return;
+        }
+        sent.whenComplete((response, throwable) -> {
+            afterAttempt(start, throwable == null ? response : null);
+            try {
+                long delay;
+                Throwable error;
+                if (throwable != null) {
+                    error = unwrap(throwable);
+                    delay = retryPolicy == null
+                            ? RetryPolicy.NO_RETRY : retryPolicy.getDelayMillis(attempt, null, Collections.emptyList());
+                } else {
+                    sample.received(response);
+                    if (isSuccessful(response, cached)) {
+                        if (retryPolicy != null) {
+                            retryPolicy.onSuccess();
+                        }
+                        result.complete(response);
+                        return;
+                    }
+                    CompletionStage<AccessToken> refreshed = replayed
+                            ? null : refreshRejectedTokenAsync(response, authorization);
+                    if (refreshed != null) {
+                        refreshed.whenComplete((token, refreshError) -> {
+                            if (refreshError != null) {
+                                result.completeExceptionally(unwrap(refreshError));
+                                return;
+                            }
+                            logReplay(webTarget, correlationId);
+                            executeAsync(webTarget, correlationId, cached, sample, attempt, true, result);
+                        });
+                        return;
+                    }
+                    ItemSearchException searchException = parseException(new WebApplicationException(response));
+                    error = searchException;
+                    delay = retryPolicy == null ? RetryPolicy.NO_RETRY
+                            : retryPolicy.getDelayMillis(attempt, response, searchException.getErrors());
+                }
+
+                if (delay == RetryPolicy.NO_RETRY) {
+                    result.completeExceptionally(error);
+                    return;
+                }
+                logRetry(webTarget, correlationId, attempt, delay, error);
+                sample.retried();
+                getSearchContext().getScheduler().schedule(
+                        () -> executeAsync(webTarget, correlationId, cached, sample, attempt + 1, replayed, result),
+                        delay, TimeUnit.MILLISECONDS, result);
+            } catch (Throwable e) {
+                result.completeExceptionally(e);
+            }
+        });
+    }
+
+    /**
+     * Calls the resource synchronously, failed attempts are retried according to the {@link RetryPolicy}.
+     * Each attempt is permitted by the {@link CircuitBreaker} and throttled by the {@link Throttle},
+     * a rejected or throttled attempt fails without retry.
+     *
+     * @param cached expired cached response to revalidate, if any
+     * @param sample measurement of the call
+     * @return successful or {@code 304 Not Modified} response
+     * @throws ItemSearchException if the call fails or the response is not successful
+     */
+    private Response execute(@Nullable ResponseCache.Entry cached, SearchMetrics.Sample sample)
+            throws ItemSearchException {
         WebTarget webTarget = getWebTarget();
-        webTarget.register(getJacksonJsonProvider());
+        RetryPolicy retryPolicy = getRetryPolicy();
+        CircuitBreaker circuitBreaker = getSearchContext().getCircuitBreaker();
+        Throttle throttle = getSearchContext().getThrottle();
 
         String correlationId = UUID.randomUUID().toString();
         log.info("Call resource '{}' with correlation id '{}'.", webTarget.getUri(), correlationId);
 
+        boolean replayed = false;
+        for (int attempt = 1; ; attempt++) {
+            String authorization = getRequestParameters().getAuthorizationHeaderValue();
+            if (circuitBreaker != null) {
+                circuitBreaker.acquirePermission();
+            }
+            if (throttle != null) {
+                sample.queued(await(throttle.acquire()));
+            }
+
+            long delay;
+            ItemSearchException error;
+            try {
+                Response response = null;
+                long start = System.nanoTime();
+                try {
+                    Entity<?> entity = getEntity();
+                    Invocation.Builder request = request(webTarget, correlationId, authorization, cached, sample);
+                    response = entity == null
+                            ? request.method(getMethod()) : request.method(getMethod(), entity);
+                } finally {
+                    afterAttempt(start, response);
+                }
+                sample.received(response);
+                if (isSuccessful(response, cached)) {
+                    if (retryPolicy != null) {
+                        retryPolicy.onSuccess();
+                    }
+                    return response;
+                }
+                if (!replayed && refreshRejectedToken(response, authorization)) {
+                    logReplay(webTarget, correlationId);
+                    replayed = true;
+                    // the replay is not a retry, it keeps the number of the attempt
+                    attempt--;
+                    continue;
+                }
+                error = parseException(new WebApplicationException(response));
+                delay = retryPolicy == null
+                        ? RetryPolicy.NO_RETRY : retryPolicy.getDelayMillis(attempt, response, error.getErrors());
+            } catch (ItemSearchException e) {
+                // the rejected access token can't be refreshed
+                throw e;
+            } catch (Exception e) {
+                error = parseException(e);
+                delay = retryPolicy == null
+                        ? RetryPolicy.NO_RETRY : retryPolicy.getDelayMillis(attempt, null, Collections.emptyList());
+            }
+
+            if (delay == RetryPolicy.NO_RETRY) {
+                log.error("Calling of resource ends with error. Error: " + error.getMessage(), error);
+                throw error;
+            }
+            logRetry(webTarget, correlationId, attempt, delay, error);
+            sample.retried();
+            try {
+                Thread.sleep(delay);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ItemSearchException("Calling of API was interrupted.");
+            }
+        }
+    }
+
+    /**
+     * Releases the permission of the {@link Throttle} and records outcome of the attempt to the {@link CircuitBreaker}.
+     *
+     * @param startNanos start of the attempt
+     * @param response   received response, {@code null} if the attempt failed on the transport level
+     */
+    private void afterAttempt(long startNanos, @Nullable Response response) {
+        Throttle throttle = getSearchContext().getThrottle();
+        if (throttle != null) {
+            throttle.release();
+        }
+        CircuitBreaker circuitBreaker = getSearchContext().getCircuitBreaker();
+        if (circuitBreaker != null) {
+            circuitBreaker.onResult(System.nanoTime() - startNanos,
+                    response == null || response.getStatusInfo().getFamily() == Response.Status.Family.SERVER_ERROR);
+        }
+    }
+
+    /**
+     * Refreshes the managed access token rejected by the response, so the request can be replayed once.
+     * The response is closed in such case.
+     *
+     * @param response      unsuccessful response
+     * @param authorization value of the authorization header of the request
+     * @return {@code true} if the token was refreshed and the request can be replayed
+     * @throws ItemSearchException if the token can't be refreshed
+     */
+    private boolean refreshRejectedToken(Response response, String authorization) throws ItemSearchException {
+        ManagedToken managedToken = getRequestParameters().getManagedToken();
+        if (managedToken == null || response.getStatus() != Response.Status.UNAUTHORIZED.getStatusCode()) {
+            return false;
+        }
+
+        response.close();
+        managedToken.refresh(authorization);
+        return true;
+    }
+
+    /**
+     * Refreshes asynchronously the managed access token rejected by the response, so the request can be replayed
+     * once. The response is closed in such case.
+     *
+     * @param response      unsuccessful response
+     * @param authorization value of the authorization header of the request
+     * @return stage that is completed with the refreshed token, {@code null} if the response didn't reject the token
+     */
+    @Nullable
+    private CompletionStage<AccessToken> refreshRejectedTokenAsync(Response response, String authorization) {
+        ManagedToken managedToken = getRequestParameters().getManagedToken();
+        if (managedToken == null || response.getStatus() != Response.Status.UNAUTHORIZED.getStatusCode()) {
+            return null;
+        }
+
+        response.close();
+        return managedToken.refreshAsync(authorization);
+    }
+
+    private void logReplay(WebTarget webTarget, String correlationId) {
+        log.info("Access token was rejected by resource '{}' with correlation id '{}', replaying with refreshed token.",
+                webTarget.getUri(), correlationId);
+    }
+
+    private void logRetry(WebTarget webTarget, String correlationId, int attempt, long delay, Throwable error) {
+        log.warn("Attempt {} to call resource '{}' with correlation id '{}' failed, retrying in {} ms. Error: {}",
+                attempt, webTarget.getUri(), correlationId, delay, error.getMessage());
+    }
+
+    /**
+     * Checks that the response is successful or confirms the revalidated cached response.
+     *
+     * @param response received response
+     * @param cached   expired cached response to revalidate, if any
+     * @return {@code true} if the response can be read
+     */
+    private static boolean isSuccessful(Response response, @Nullable ResponseCache.Entry cached) {
+        return response.getStatusInfo().getFamily() == Response.Status.Family.SUCCESSFUL
+                || (cached != null && response.getStatus() == Response.Status.NOT_MODIFIED.getStatusCode());
+    }
+
+    /**
+     * Reads the requested item from a successful response and caches it if the resource is cached.
+     *
+     * @param response   successful or {@code 304 Not Modified} response
+     * @param requestKey identity of the request
+     * @param cached     expired cached response to revalidate, if any
+     * @return requested item
+     * @throws ItemSearchException if the entity can't be read
+     */
+    private RES toResult(Response response, RequestKey requestKey,
+                         @Nullable ResponseCache.Entry cached) throws ItemSearchException {
+        ResponseCache responseCache = getSearchContext().getResponseCache();
+        if (cached != null && response.getStatus() == Response.Status.NOT_MODIFIED.getStatusCode()) {
+            response.close();
+            log.debug("Cached resource '{}' is not modified.", requestKey);
+            responseCache.revalidated(requestKey, cached);
+            return cast(cached.getValue());
+        }
+
+        RES result;
         try {
-            return webTarget.request()
-                            .accept(MediaType.WILDCARD_TYPE)
-                            .header(CORRELATION_ID_HEADER_NAME, correlationId)
-                            .header(API_KEY_HEADER_NAME, "Bearer " + getRequestParameters().getApiKey())
-                            .header(AUTHORIZATION_HEADER_NAME, "Bearer " + getRequestParameters().getAccessToken())
-                            .get(getResponseClass());
+            result = response.readEntity(getResponseClass());
         } catch (Exception e) {
-            log.error("Calling of resource ends with error. Error: " + e.getMessage(), e);
+            response.close();
+            log.error("Reading of response ends with error. Error: " + e.getMessage(), e);
             throw parseException(e);
         }
+
+        boolean cacheable = responseCache != null && responseCache.isCached(getResource());
+        if (cacheable || getRequestCoalescer() != null) {
+            // cached and coalesced lists are shared by several callers, thus they must not be modified
+            if (result instanceof List) {
+                result = cast(Collections.unmodifiableList((List<?>) result));
+            }
+        }
+        if (cacheable) {
+            responseCache.put(requestKey, getResource(), result, response.getEntityTag());
+        }
+        return result;
+    }
+
+    /**
+     * Gets {@link RequestCoalescer} of this search. Only reads ({@code GET}) are coalesced.
+     *
+     * @return {@link RequestCoalescer} or {@code null} if the requests are not coalesced
+     */
+    @Nullable
+    private RequestCoalescer getRequestCoalescer() {
+        return HttpMethod.GET.equals(getMethod()) ? getSearchContext().getRequestCoalescer() : null;
+    }
+
+    /**
+     * Gets {@link RetryPolicy} of this search. Calls that are not idempotent are never retried.
+     *
+     * @return {@link RetryPolicy} or {@code null} if failed attempts are not retried
+     */
+    @Nullable
+    private RetryPolicy getRetryPolicy() {
+        return isIdempotent() ? getSearchContext().getRetryPolicy() : null;
+    }
+
+    /**
+     * Gets identity of the request of this search.
+     *
+     * @return {@link RequestKey}
+     */
+    private RequestKey getRequestKey() {
+        return new RequestKey(getWebTarget().getUri(), getRequestParameters().getAccessToken());
+    }
+
+    /**
+     * Gets the cached response of this search.
+     *
+     * @param requestKey identity of the request
+     * @return cached response or {@code null} if there is none or the resource is not cached
+     */
+    @Nullable
+    private ResponseCache.Entry getCached(RequestKey requestKey) {
+        ResponseCache responseCache = getSearchContext().getResponseCache();
+        if (responseCache == null || !responseCache.isCached(getResource())) {
+            return null;
+        }
+        return responseCache.get(requestKey);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T cast(Object value) {
+        return (T) value;
+    }
+
+    /**
+     * Prepares a request to the given target with all necessary headers.
+     *
+     * @param webTarget     target of the request
+     * @param correlationId correlation id of the request
+     * @param authorization value of the authorization header
+     * @param cached        expired cached response to revalidate, if any
+     * @param sample        measurement of the call, gets size of the read entity
+     * @return {@link Invocation.Builder}
+     */
+    private Invocation.Builder request(WebTarget webTarget, String correlationId, String authorization,
+                                       @Nullable ResponseCache.Entry cached, SearchMetrics.Sample sample) {
+        Invocation.Builder result = webTarget.request()
+                .accept(MediaType.WILDCARD_TYPE)
+                .header(CORRELATION_ID_HEADER_NAME, correlationId)
+                .header(API_KEY_HEADER_NAME, getRequestParameters().getApiKeyHeaderValue())
+                .header(AUTHORIZATION_HEADER_NAME, authorization);
+        if (cached != null && cached.getEntityTag() != null) {
+            result.header(HttpHeaders.IF_NONE_MATCH, cached.getEntityTag());
+        }
+        if (sample != SearchMetrics.Sample.NOOP) {
+            result.property(ResponseBodyCounter.SAMPLE_PROPERTY, sample);
+        }
+        return result;
+    }
+
+    /**
+     * Waits for the result of an asynchronous search.
+     *
+     * @param result result of an asynchronous search, e.g. {@link #findAsync()}
+     * @param <T>    type of the result
+     * @return found item
+     * @throws ItemSearchException if the search failed
+     */
+    static <T> T await(CompletionStage<T> result) {
+        try {
+            return result.toCompletableFuture().join();
+        } catch (CompletionException e) {
+            Throwable cause = unwrap(e);
+            if (cause instanceof ItemSearchException) {
+                throw (ItemSearchException) cause;
+            }
+            throw new ItemSearchException("Error occurred during calling API. Error: " + cause.getMessage());
+        }
+    }
+
+    /**
+     * Unwraps the cause of an exception thrown by {@link CompletionStage}.
+     *
+     * @param throwable exception thrown by {@link CompletionStage}
+     * @return the original exception
+     */
+    static Throwable unwrap(Throwable throwable) {
+        Throwable result = throwable;
+        while ((result instanceof CompletionException || result instanceof ExecutionException)
+                && result.getCause() != null) {
+            result = result.getCause();
+        }
+        return result;
     }
 
     /**
@@ -96,7 +721,7 @@ abstract class AbstractItemSearch<RES> implements ItemSearch<RES> {
      * @param exception any exception
      * @return {@link ItemSearchException}
      */
-    private ItemSearchException parseException(Exception exception) {
+    private ItemSearchException parseException(Throwable exception) {
         if (exception == null) {
             throw new IllegalArgumentException("exception must not be null");
         }
@@ -108,7 +733,7 @@ abstract class AbstractItemSearch<RES> implements ItemSearch<RES> {
             Response response = ((WebApplicationException) exception).getResponse();
             String errorBody = response.readEntity(String.class);
             try {
-                ErrorResponse errorResponse = new ObjectMapper().readValue(errorBody, ErrorResponse.class);
+                ErrorResponse errorResponse = getSearchContext().getJsonSupport().readErrorResponse(errorBody);
                 if (errorResponse.getErrors().size() == 0) {
                     errorMessage += response.getStatusInfo().getReasonPhrase();
                 } else if (errorResponse.getErrors().size() == 1) {
@@ -129,18 +754,6 @@ abstract class AbstractItemSearch<RES> implements ItemSearch<RES> {
         return result;
     }
 
-    /**
-     * Gets {@link JacksonJaxbJsonProvider} with set {@link JavaTimeModule}.
-     *
-     * @return {@link JacksonJaxbJsonProvider} with set {@link JavaTimeModule}
-     */
-    private JacksonJaxbJsonProvider getJacksonJsonProvider() {
-        JacksonJaxbJsonProvider jacksonJaxbJsonProvider = new JacksonJaxbJsonProvider();
-        jacksonJaxbJsonProvider.setMapper(new ObjectMapper().registerModule(new JavaTimeModule()));
-
-        return jacksonJaxbJsonProvider;
-    }
-
     /**
      * Gets {@link WebTarget}.
      *
@@ -159,6 +772,15 @@ abstract class AbstractItemSearch<RES> implements ItemSearch<RES> {
         return requestParameters;
     }
 
+    /**
+     * Gets client-scoped infrastructure.
+     *
+     * @return {@link SearchContext}
+     */
+    protected SearchContext getSearchContext() {
+        return searchContext;
+    }
+
     /**
      * Gets response's class wrapped by the Jersey's {@link GenericType}.
      *
@@ -0,0 +1,123 @@
+package cz.kb.openbanking.adaa.client.jersey;
+
+import java.time.Duration;
+import java.time.Instant;
+import javax.annotation.Nullable;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+/**
+ * OAuth2 access token provided by a {@link TokenProvider}.
+ *
+ * @since 1.3
+ */
+public final class AccessToken {
+
+    private final String value;
+
+    /**
+     * Expiration of the token, {@code null} if not known.
+     */
+    @Nullable
+    private final Instant expiresAt;
+
+    /**
+     * Value of the authorization header, computed once for all requests with the token.
+     */
+    private final String authorizationHeaderValue;
+
+    /**
+     * New instance.
+     *
+     * @param value     the access token
+     * @param expiresAt expiration of the token, {@code null} if not known; such a token is refreshed
+     *                  only when it's rejected by the API
+     */
+    public AccessToken(String value, @Nullable Instant expiresAt) {
+        if (StringUtils.isBlank(value)) {
+            throw new IllegalArgumentException("value must not be blank");
+        }
+
+        this.value = value;
+        this.expiresAt = expiresAt;
+        this.authorizationHeaderValue = "Bearer " + value;
+    }
+
+    /**
+     * Creates a token expiring after the given time from now, e.g. by {@code expires_in} of the OAuth2
+     * token response.
+     *
+     * @param value     the access token
+     * @param expiresIn lifetime of the token
+     * @return {@link AccessToken}
+     */
+    public static AccessToken expiringIn(String value, Duration expiresIn) {
+        if (expiresIn == null) {
+            throw new IllegalArgumentException("expiresIn must not be null");
+        }
+
+        return new AccessToken(value, Instant.now().plus(expiresIn));
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    @Nullable
+    public Instant getExpiresAt() {
+        return expiresAt;
+    }
+
+    String getAuthorizationHeaderValue() {
+        return authorizationHeaderValue;
+    }
+
+    /**
+     * Checks if the token is expired at the given time.
+     *
+     * @param now current time
+     * @return {@code true} if the token is expired, never for a token without known expiration
+     */
+    boolean isExpired(Instant now) {
+        return expiresAt != null && !now.isBefore(expiresAt);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+
+        if (!(o instanceof AccessToken)) {
+            return false;
+        }
+
+        AccessToken that = (AccessToken) o;
+
+        return new EqualsBuilder()
+                .append(getValue(), that.getValue())
+                .append(getExpiresAt(), that.getExpiresAt())
+                .isEquals();
+    }
+
+    @Override
+    public int hashCode() {
+        return new HashCodeBuilder(17, 37)
+                .append(getValue())
+                .append(getExpiresAt())
+                .toHashCode();
+    }
+
+    /**
+     * The token itself is not part of the string representation.
+     */
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .append("expiresAt", expiresAt)
+                .toString();
+    }
+}
@@ -1,27 +1,58 @@
 package cz.kb.openbanking.adaa.client.jersey;
 
 import static cz.kb.openbanking.adaa.client.jersey.RequestConstants.ACCOUNT_ID_PATH_VAR_NAME;
+import static cz.kb.openbanking.adaa.client.jersey.RequestConstants.API_KEY_HEADER_NAME;
+import static cz.kb.openbanking.adaa.client.jersey.RequestConstants.CORRELATION_ID_HEADER_NAME;
 import static cz.kb.openbanking.adaa.client.jersey.RequestConstants.STATEMENTS_DATE_FROM_PARAM_NAME;
 import static cz.kb.openbanking.adaa.client.jersey.RequestConstants.STATEMENT_ID_PATH_VAR_NAME;
+import static cz.kb.openbanking.adaa.client.jersey.RequestConstants.SUBSCRIPTION_ID_PATH_VAR_NAME;
 
+import java.io.Closeable;
+import java.time.Duration;
 import java.time.OffsetDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.ws.rs.HttpMethod;
 import javax.ws.rs.client.Client;
-import javax.ws.rs.client.ClientBuilder;
+import javax.ws.rs.client.Entity;
 import javax.ws.rs.client.WebTarget;
 import javax.ws.rs.core.GenericType;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
 
 import cz.kb.openbanking.adaa.client.api.AccountApi;
+import cz.kb.openbanking.adaa.client.api.AccountSession;
+import cz.kb.openbanking.adaa.client.api.exception.ItemSearchException;
 import cz.kb.openbanking.adaa.client.api.model.PageSlice;
 import cz.kb.openbanking.adaa.client.api.search.AccountBalancesSearch;
 import cz.kb.openbanking.adaa.client.api.search.AccountSearch;
 import cz.kb.openbanking.adaa.client.api.search.AccountStatementsSearch;
+import cz.kb.openbanking.adaa.client.api.search.ItemSearch;
 import cz.kb.openbanking.adaa.client.api.search.PdfStatementSearch;
 import cz.kb.openbanking.adaa.client.api.search.TransactionHistorySearch;
+import cz.kb.openbanking.adaa.client.model.generated.Account;
 import cz.kb.openbanking.adaa.client.model.generated.AccountBalance;
 import cz.kb.openbanking.adaa.client.model.generated.AccountTransaction;
+import cz.kb.openbanking.adaa.client.model.generated.IsAliveResponse;
+import cz.kb.openbanking.adaa.client.model.generated.PostAccountIdsRequest;
+import cz.kb.openbanking.adaa.client.model.generated.PostAccountIdsResponse;
 import cz.kb.openbanking.adaa.client.model.generated.Statement;
+import cz.kb.openbanking.adaa.client.model.generated.SubscriptionInfo;
+import cz.kb.openbanking.adaa.client.model.generated.SubscriptionRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * Jersey implementation of the {@link AccountApi}.
@@ -30,7 +61,24 @@ import org.apache.commons.lang3.StringUtils;
  * @see AccountApi
  * @since 1.0
  */
-public class AccountApiJerseyImpl implements AccountApi {
+public class AccountApiJerseyImpl implements AccountApi, Closeable {
+
+    private static final Logger log = LoggerFactory.getLogger(AccountApiJerseyImpl.class);
+
+    /**
+     * Default number of connections opened by {@link #warmUp()}.
+     *
+     * @since 1.3
+     */
+    public static final int DEFAULT_WARM_UP_CONNECTIONS = 4;
+
+    /**
+     * Default time before expiration of an access token when the token is refreshed,
+     * see {@link #session(TokenProvider)}.
+     *
+     * @since 1.3
+     */
+    public static final Duration DEFAULT_TOKEN_REFRESH_AHEAD = Duration.ofSeconds(30);
 
     /**
      * ADAA API endpoint's path for the accounts resource.
@@ -58,6 +106,46 @@ public class AccountApiJerseyImpl implements AccountApi {
      */
     private static final String TH_RESOURCE_PATH = ACCOUNTS_RESOURCE_PATH + "/{" + ACCOUNT_ID_PATH_VAR_NAME + "}/transactions";
 
+    /**
+     * ADAA API endpoint's path for the account ids resource.
+     */
+    private static final String ACCOUNT_IDS_RESOURCE_PATH = ACCOUNTS_RESOURCE_PATH + "/account-ids";
+
+    /**
+     * ADAA API endpoint's path for the event subscriptions resource.
+     */
+    private static final String SUBSCRIPTIONS_RESOURCE_PATH = TH_RESOURCE_PATH + "/event-subscriptions";
+
+    /**
+     * ADAA API endpoint's path for the event subscription resource.
+     */
+    private static final String SUBSCRIPTION_RESOURCE_PATH =
+        SUBSCRIPTIONS_RESOURCE_PATH + "/{" + SUBSCRIPTION_ID_PATH_VAR_NAME + "}";
+
+    /**
+     * ADAA API endpoint's path for the health check resource.
+     */
+    private static final String IS_ALIVE_RESOURCE_PATH = "is-alive";
+
+    /**
+     * Response types, shared by all searches.
+     */
+    static final GenericType<List<Account>> ACCOUNTS_TYPE = new GenericType<List<Account>>() {
+    };
+
+    static final GenericType<PageSlice<AccountTransaction>> TRANSACTIONS_TYPE =
+            new GenericType<PageSlice<AccountTransaction>>() {
+            };
+
+    static final GenericType<List<AccountBalance>> BALANCES_TYPE = new GenericType<List<AccountBalance>>() {
+    };
+
+    static final GenericType<List<Statement>> STATEMENTS_TYPE = new GenericType<List<Statement>>() {
+    };
+
+    static final GenericType<byte[]> PDF_STATEMENT_TYPE = new GenericType<byte[]>() {
+    };
+
     /**
      * Jersey {@link Client} for calling the ADAA API.
      */
@@ -74,13 +162,52 @@ public class AccountApiJerseyImpl implements AccountApi {
     private final String apiKey;
 
     /**
-     * New instance.
+     * Client-scoped infrastructure shared by all searches.
+     */
+    private final SearchContext searchContext;
+
+    /**
+     * Executor calling the {@link TokenProvider}s of the sessions, so a slow provider never blocks the scheduler
+     * or an asynchronous search. Each session fetches at most one token at a time.
+     */
+    private final ExecutorService tokenRefreshExecutor;
+
+    /**
+     * Cache of account ids resolved by IBAN and currency, separate for each access token.
+     */
+    private final AccountIdCache accountIdCache;
+
+    /**
+     * Target of the ADAA API's base URL with registered JSON provider, all resource targets are derived from it.
+     */
+    private final WebTarget baseTarget;
+
+    /**
+     * Targets of the resources, the templates of their paths are resolved by each search.
+     */
+    private final WebTarget accountsTarget;
+
+    private final WebTarget transactionsTarget;
+
+    private final WebTarget balancesTarget;
+
+    private final WebTarget statementsTarget;
+
+    private final WebTarget pdfStatementTarget;
+
+    /**
+     * Whether the {@link #client} was created by this instance and thus should be closed by it.
+     */
+    private final boolean clientOwner;
+
+    /**
+     * New instance with pooled HTTP transport with default {@link TransportSettings}.
      *
      * @param baseUrl ADAA API's base URL
      * @param apiKey  API key to use to authorize a request against KB API store
      */
     public AccountApiJerseyImpl(String baseUrl, String apiKey) {
-        this(baseUrl, apiKey, ClientBuilder.newClient());
+        this(builder(baseUrl, apiKey));
     }
 
     /**
@@ -91,19 +218,76 @@ public class AccountApiJerseyImpl implements AccountApi {
      * @param client  Jersey {@link Client} for calling the ADAA API
      */
     public AccountApiJerseyImpl(String baseUrl, String apiKey, Client client) {
-        if (StringUtils.isBlank(baseUrl)) {
-            throw new IllegalArgumentException("baseUrl must not be blank");
-        }
-        if (StringUtils.isBlank(apiKey)) {
-            throw new IllegalArgumentException("apiKey must not be blank");
-        }
-        if (client == null) {
-            throw new IllegalArgumentException("client must not be null");
-        }
+        this(builder(baseUrl, apiKey).client(client));
+    }
+
+    /**
+     * New instance.
+     *
+     * @param baseUrl      ADAA API's base URL
+     * @param apiKey       API key to use to authorize a request against KB API store
+     * @param client       Jersey {@link Client} for calling the ADAA API
+     * @param objectMapper Jackson's mapper to use for all (de)serialization of the client,
+     *                     must be able to handle {@code java.time} types
+     */
+    public AccountApiJerseyImpl(String baseUrl, String apiKey, Client client, ObjectMapper objectMapper) {
+        this(builder(baseUrl, apiKey).client(client).objectMapper(objectMapper));
+    }
 
-        this.baseUrl = baseUrl;
-        this.apiKey = apiKey;
-        this.client = client;
+    /**
+     * New instance.
+     *
+     * @param builder {@link Builder} with the configuration
+     */
+    private AccountApiJerseyImpl(Builder builder) {
+        this.baseUrl = builder.baseUrl;
+        this.apiKey = builder.apiKey;
+        this.clientOwner = builder.client == null;
+        this.client = clientOwner ? builder.transportSettings.createClient() : builder.client;
+
+        JsonSupport jsonSupport = new JsonSupport(builder.objectMapper);
+        ResponseCache responseCache = builder.responseCacheSettings == null
+                ? null : new ResponseCache(builder.responseCacheSettings);
+        RequestCoalescer requestCoalescer = builder.coalesceRequests ? new RequestCoalescer() : null;
+        SearchMetrics searchMetrics = builder.meterRegistry == null
+                ? SearchMetrics.NOOP : new MicrometerSearchMetrics(builder.meterRegistry);
+        RetryPolicy retryPolicy = builder.retrySettings == null ? null : new RetryPolicy(builder.retrySettings);
+        ClientScheduler scheduler = new ClientScheduler();
+        CircuitBreaker circuitBreaker = builder.circuitBreakerSettings == null ? null
+                : new CircuitBreaker(builder.circuitBreakerSettings, scheduler,
+                        () -> isAliveAsync().thenApply(response -> true));
+        Throttle throttle = builder.throttlingSettings == null
+                ? null : new Throttle(builder.throttlingSettings, scheduler);
+        this.searchContext = new SearchContext(jsonSupport, responseCache, requestCoalescer, searchMetrics,
+                retryPolicy, circuitBreaker, throttle, scheduler);
+        // no thread is started unless a session with a token provider is used
+        AtomicInteger tokenRefreshThreads = new AtomicInteger();
+        this.tokenRefreshExecutor = new ThreadPoolExecutor(0, Integer.MAX_VALUE, 1, TimeUnit.MINUTES,
+                new SynchronousQueue<>(), runnable -> {
+                    Thread thread = new Thread(runnable, "adaa-token-refresh-" + tokenRefreshThreads.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.accountIdCache = new AccountIdCache(builder.accountIdCacheSettings);
+        this.baseTarget = ResponseBodyCounter.register(
+                client.target(baseUrl).register(jsonSupport.getJsonProvider()));
+        this.accountsTarget = baseTarget.path(ACCOUNTS_RESOURCE_PATH);
+        this.transactionsTarget = baseTarget.path(TH_RESOURCE_PATH);
+        this.balancesTarget = baseTarget.path(ACC_BALANCES_RESOURCE_PATH);
+        this.statementsTarget = baseTarget.path(ACC_STATEMENTS_RESOURCE_PATH);
+        this.pdfStatementTarget = baseTarget.path(PDF_STATEMENT_RESOURCE_PATH);
+    }
+
+    /**
+     * Creates a new {@link Builder}.
+     *
+     * @param baseUrl ADAA API's base URL
+     * @param apiKey  API key to use to authorize a request against KB API store
+     * @return {@link Builder}
+     * @since 1.3
+     */
+    public static Builder builder(String baseUrl, String apiKey) {
+        return new Builder(baseUrl, apiKey);
     }
 
     @Override
@@ -112,12 +296,56 @@ public class AccountApiJerseyImpl implements AccountApi {
             throw new IllegalArgumentException("accessToken must not be blank");
         }
 
-        WebTarget webTarget = getClient().target(getBaseUrl())
-                                         .path(ACCOUNTS_RESOURCE_PATH);
+        return new AccountSearchImpl(accountsTarget, new RequestParameters(getApiKey(), accessToken),
+            getSearchContext(), ACCOUNTS_TYPE);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The session resolves targets of each account once and sends the same header values with all requests,
+     * the searches of the account's transactions and balances are reused.
+     */
+    @Override
+    public AccountSession session(String accessToken) {
+        if (StringUtils.isBlank(accessToken)) {
+            throw new IllegalArgumentException("accessToken must not be blank");
+        }
+
+        return new AccountSessionJerseyImpl(this, new RequestParameters(getApiKey(), accessToken));
+    }
 
-        return new AccountSearchImpl(webTarget, new RequestParameters(getApiKey(), accessToken),
-            new GenericType<List<cz.kb.openbanking.adaa.client.model.generated.Account>>() {
-            });
+    /**
+     * Creates a session with access tokens obtained from the provider, refreshed
+     * {@link #DEFAULT_TOKEN_REFRESH_AHEAD} before their expiration.
+     *
+     * @param tokenProvider provider of the access tokens
+     * @return {@link AccountSession}
+     * @see #session(TokenProvider, Duration)
+     * @since 1.3
+     */
+    public AccountSession session(TokenProvider tokenProvider) {
+        return session(tokenProvider, DEFAULT_TOKEN_REFRESH_AHEAD);
+    }
+
+    /**
+     * Creates a session with access tokens obtained from the provider instead of a fixed access token,
+     * so long-running jobs are not interrupted by expiration of the token.
+     * <p>
+     * The token is fetched by the first search and refreshed ahead of its expiration while the session is used.
+     * The provider is called on a dedicated thread of the client, asynchronous searches are chained on the token
+     * instead of waiting for it. Searches waiting for a token share one call of the provider. A request rejected
+     * with {@code 401 Unauthorized} is replayed once with a refreshed token, even if it's not idempotent.
+     *
+     * @param tokenProvider provider of the access tokens
+     * @param refreshAhead  how long before expiration of a token it's refreshed
+     * @return {@link AccountSession}
+     * @since 1.3
+     */
+    public AccountSession session(TokenProvider tokenProvider, Duration refreshAhead) {
+        ManagedToken managedToken = new ManagedToken(tokenProvider, refreshAhead, getSearchContext().getScheduler(),
+                tokenRefreshExecutor);
+        return new AccountSessionJerseyImpl(this, new RequestParameters(getApiKey(), managedToken));
     }
 
     @Override
@@ -129,13 +357,8 @@ public class AccountApiJerseyImpl implements AccountApi {
             throw new IllegalArgumentException("accessToken must not be blank");
         }
 
-        WebTarget webTarget = getClient().target(getBaseUrl())
-                                         .path(TH_RESOURCE_PATH)
-                                         .resolveTemplate(ACCOUNT_ID_PATH_VAR_NAME, accountId);
-
-        return new TransactionHistorySearchImpl(webTarget, new RequestParameters(getApiKey(), accessToken),
-            new GenericType<PageSlice<AccountTransaction>>() {
-            });
+        return new TransactionHistorySearchImpl(transactionsTarget(accountId),
+            new RequestParameters(getApiKey(), accessToken), getSearchContext(), TRANSACTIONS_TYPE);
     }
 
     @Override
@@ -147,13 +370,8 @@ public class AccountApiJerseyImpl implements AccountApi {
             throw new IllegalArgumentException("accessToken must not be blank");
         }
 
-        WebTarget webTarget = getClient().target(getBaseUrl())
-                                         .path(ACC_BALANCES_RESOURCE_PATH)
-                                         .resolveTemplate(ACCOUNT_ID_PATH_VAR_NAME, accountId);
-
-        return new AccountBalancesSearchImpl(webTarget, new RequestParameters(getApiKey(), accessToken),
-            new GenericType<List<AccountBalance>>() {
-            });
+        return new AccountBalancesSearchImpl(balancesTarget(accountId),
+            new RequestParameters(getApiKey(), accessToken), getSearchContext(), BALANCES_TYPE);
     }
 
     @Override
@@ -168,14 +386,8 @@ public class AccountApiJerseyImpl implements AccountApi {
             throw new IllegalArgumentException("dateFrom must not be null");
         }
 
-        WebTarget webTarget = getClient().target(getBaseUrl())
-                                         .path(ACC_STATEMENTS_RESOURCE_PATH)
-                                         .queryParam(STATEMENTS_DATE_FROM_PARAM_NAME, dateFrom)
-                                         .resolveTemplate(ACCOUNT_ID_PATH_VAR_NAME, accountId);
-
-        return new AccountStatementsSearchImpl(webTarget, new RequestParameters(getApiKey(), accessToken),
-            new GenericType<List<Statement>>() {
-            });
+        return new AccountStatementsSearchImpl(statementsTarget(accountId, dateFrom),
+            new RequestParameters(getApiKey(), accessToken), getSearchContext(), STATEMENTS_TYPE);
     }
 
     @Override
@@ -187,14 +399,212 @@ public class AccountApiJerseyImpl implements AccountApi {
             throw new IllegalArgumentException("accessToken must not be blank");
         }
 
-        WebTarget webTarget = getClient().target(getBaseUrl())
-                                         .path(PDF_STATEMENT_RESOURCE_PATH)
-                                         .resolveTemplate(ACCOUNT_ID_PATH_VAR_NAME, accountId)
-                                         .resolveTemplate(STATEMENT_ID_PATH_VAR_NAME, statementId);
+        return new PdfStatementSearchImpl(pdfStatementTarget(accountId).resolveTemplate(STATEMENT_ID_PATH_VAR_NAME,
+            statementId), new RequestParameters(getApiKey(), accessToken), getSearchContext(), PDF_STATEMENT_TYPE);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Resolved ids are cached according to {@link AccountIdCacheSettings}, concurrent resolutions
+     * of the same IBAN and currency share one call of the API.
+     */
+    @Override
+    public ItemSearch<String> accountId(String iban, String currency, String accessToken) {
+        if (StringUtils.isBlank(iban)) {
+            throw new IllegalArgumentException("iban must not be blank");
+        }
+        if (StringUtils.isBlank(currency)) {
+            throw new IllegalArgumentException("currency must not be blank");
+        }
+        if (StringUtils.isBlank(accessToken)) {
+            throw new IllegalArgumentException("accessToken must not be blank");
+        }
+
+        String normalizedIban = StringUtils.deleteWhitespace(iban).toUpperCase(Locale.ROOT);
+        String normalizedCurrency = currency.trim().toUpperCase(Locale.ROOT);
+        WebTarget webTarget = getBaseTarget().path(ACCOUNT_IDS_RESOURCE_PATH);
+        PostAccountIdsRequest request = new PostAccountIdsRequest()
+                .iban(normalizedIban)
+                .currency(normalizedCurrency);
+
+        // a lookup without side effects, thus it can be retried
+        ResourceCallImpl<PostAccountIdsResponse> call = new ResourceCallImpl<>(webTarget,
+            new RequestParameters(getApiKey(), accessToken), getSearchContext(),
+            new GenericType<PostAccountIdsResponse>() {
+            }, AdaaResource.ACCOUNT_IDS, HttpMethod.POST, Entity.json(request), true);
+        return new AccountIdSearchImpl(call, accountIdCache, normalizedIban, normalizedCurrency, accessToken);
+    }
+
+    @Override
+    public SubscriptionInfo createSubscription(String accountId, String accessToken,
+                                               SubscriptionRequest subscriptionRequest) {
+        if (StringUtils.isBlank(accountId)) {
+            throw new IllegalArgumentException("accountId must not be blank");
+        }
+        if (StringUtils.isBlank(accessToken)) {
+            throw new IllegalArgumentException("accessToken must not be blank");
+        }
+        if (subscriptionRequest == null) {
+            throw new IllegalArgumentException("subscriptionRequest must not be null");
+        }
+
+        WebTarget webTarget = getBaseTarget()
+                .path(SUBSCRIPTIONS_RESOURCE_PATH)
+                .resolveTemplate(ACCOUNT_ID_PATH_VAR_NAME, accountId);
+
+        return new ResourceCallImpl<>(webTarget, new RequestParameters(getApiKey(), accessToken),
+            getSearchContext(), new GenericType<SubscriptionInfo>() {
+            }, AdaaResource.SUBSCRIPTIONS, HttpMethod.POST, Entity.json(subscriptionRequest),
+            false).find();
+    }
+
+    @Override
+    public ItemSearch<SubscriptionInfo> subscription(String accountId, String accessToken, String subscriptionId) {
+        return new ResourceCallImpl<>(subscriptionTarget(accountId, accessToken, subscriptionId),
+            new RequestParameters(getApiKey(), accessToken), getSearchContext(), new GenericType<SubscriptionInfo>() {
+            }, AdaaResource.SUBSCRIPTIONS, HttpMethod.GET, null, true);
+    }
+
+    @Override
+    public void deleteSubscription(String accountId, String accessToken, String subscriptionId) {
+        new ResourceCallImpl<>(subscriptionTarget(accountId, accessToken, subscriptionId),
+            new RequestParameters(getApiKey(), accessToken), getSearchContext(), new GenericType<Void>() {
+            }, AdaaResource.SUBSCRIPTIONS, HttpMethod.DELETE, null, true).find();
+    }
+
+    private WebTarget subscriptionTarget(String accountId, String accessToken, String subscriptionId) {
+        if (StringUtils.isBlank(accountId)) {
+            throw new IllegalArgumentException("accountId must not be blank");
+        }
+        if (StringUtils.isBlank(accessToken)) {
+            throw new IllegalArgumentException("accessToken must not be blank");
+        }
+        if (StringUtils.isBlank(subscriptionId)) {
+            throw new IllegalArgumentException("subscriptionId must not be blank");
+        }
+
+        return getBaseTarget()
+                .path(SUBSCRIPTION_RESOURCE_PATH)
+                .resolveTemplate(ACCOUNT_ID_PATH_VAR_NAME, accountId)
+                .resolveTemplate(SUBSCRIPTION_ID_PATH_VAR_NAME, subscriptionId);
+    }
 
-        return new PdfStatementSearchImpl(webTarget, new RequestParameters(getApiKey(), accessToken),
-            new GenericType<byte[]>() {
-            });
+    /**
+     * Checks availability of the ADAA API by its {@code /is-alive} resource.
+     * The check bypasses the circuit breaker and the throttling of the client.
+     *
+     * @return {@link IsAliveResponse} with the API's name and version
+     * @throws ItemSearchException if the API is not available
+     * @since 1.3
+     */
+    public IsAliveResponse isAlive() throws ItemSearchException {
+        return AbstractItemSearch.await(isAliveAsync());
+    }
+
+    /**
+     * Warms up the client by {@link #DEFAULT_WARM_UP_CONNECTIONS} connections.
+     *
+     * @return {@link IsAliveResponse} with the API's name and version
+     * @throws ItemSearchException if the API is not available
+     * @see #warmUp(int)
+     * @since 1.3
+     */
+    public IsAliveResponse warmUp() throws ItemSearchException {
+        return warmUp(DEFAULT_WARM_UP_CONNECTIONS);
+    }
+
+    /**
+     * Warms up the client, e.g. on start of the application, so the first calls of the ADAA API don't pay
+     * for bootstrap of the Jersey runtime, class loading, DNS lookup and TLS handshakes.
+     * Calls the {@code /is-alive} resource by the given number of concurrent requests, each of them opens
+     * a connection that stays in the pool (up to its limit per route). Deserializers of all response types
+     * are built already by creating of the client.
+     *
+     * @param connections number of connections to open
+     * @return {@link IsAliveResponse} with the API's name and version
+     * @throws ItemSearchException if the API is not available
+     * @since 1.3
+     */
+    public IsAliveResponse warmUp(int connections) throws ItemSearchException {
+        if (connections <= 0) {
+            throw new IllegalArgumentException("connections must be greater than zero");
+        }
+
+        long start = System.nanoTime();
+        List<CompletableFuture<IsAliveResponse>> calls = new ArrayList<>(connections);
+        for (int i = 0; i < connections; i++) {
+            calls.add(isAliveAsync().toCompletableFuture());
+        }
+        IsAliveResponse result = AbstractItemSearch.await(
+                CompletableFuture.allOf(calls.toArray(new CompletableFuture<?>[0]))
+                        .thenApply(ignored -> calls.get(0).join()));
+        log.info("ADAA client warmed up by {} connections in {} ms.", connections,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        return result;
+    }
+
+    /**
+     * Calls the {@code /is-alive} resource asynchronously.
+     *
+     * @return stage that is completed with {@link IsAliveResponse} or with {@link ItemSearchException}
+     * if the API is not available
+     */
+    private CompletionStage<IsAliveResponse> isAliveAsync() {
+        return getBaseTarget()
+                .path(IS_ALIVE_RESOURCE_PATH)
+                .request(MediaType.APPLICATION_JSON_TYPE)
+                .header(CORRELATION_ID_HEADER_NAME, UUID.randomUUID().toString())
+                .header(API_KEY_HEADER_NAME, "Bearer " + getApiKey())
+                .rx()
+                .get()
+                .thenApply(response -> {
+                    try {
+                        if (response.getStatus() != Response.Status.OK.getStatusCode()) {
+                            throw new ItemSearchException("ADAA API is not alive, status: "
+                                    + response.getStatus() + ".");
+                        }
+                        return response.readEntity(IsAliveResponse.class);
+                    } finally {
+                        response.close();
+                    }
+                });
+    }
+
+    /**
+     * Closes the Jersey {@link Client} together with its connection pool if the client was created by this instance.
+     * A client provided from outside is left open. Pending asynchronous retries and circuit breaker probes
+     * are cancelled, the searches waiting for them fail with {@link ItemSearchException}.
+     */
+    @Override
+    public void close() {
+        searchContext.getScheduler().close();
+        tokenRefreshExecutor.shutdown();
+        if (clientOwner) {
+            client.close();
+        }
+    }
+
+    /**
+     * Gets statistics of the response cache.
+     *
+     * @return {@link ResponseCacheStatistics}, {@link ResponseCacheStatistics#EMPTY} if caching is disabled
+     * @since 1.3
+     */
+    public ResponseCacheStatistics getResponseCacheStatistics() {
+        ResponseCache responseCache = searchContext.getResponseCache();
+        return responseCache == null ? ResponseCacheStatistics.EMPTY : responseCache.getStatistics();
+    }
+
+    /**
+     * Gets number of requests that were served by an identical concurrent request instead of calling the API.
+     *
+     * @return number of coalesced requests, {@code 0} if coalescing is disabled
+     * @since 1.3
+     */
+    public long getCoalescedRequestCount() {
+        RequestCoalescer requestCoalescer = searchContext.getRequestCoalescer();
+        return requestCoalescer == null ? 0 : requestCoalescer.getCoalescedCount();
     }
 
     protected Client getClient() {
@@ -208,4 +618,258 @@ public class AccountApiJerseyImpl implements AccountApi {
     protected String getApiKey() {
         return apiKey;
     }
+
+    SearchContext getSearchContext() {
+        return searchContext;
+    }
+
+    WebTarget getBaseTarget() {
+        return baseTarget;
+    }
+
+    WebTarget getAccountsTarget() {
+        return accountsTarget;
+    }
+
+    WebTarget transactionsTarget(String accountId) {
+        return transactionsTarget.resolveTemplate(ACCOUNT_ID_PATH_VAR_NAME, accountId);
+    }
+
+    WebTarget balancesTarget(String accountId) {
+        return balancesTarget.resolveTemplate(ACCOUNT_ID_PATH_VAR_NAME, accountId);
+    }
+
+    /**
+     * Gets target of the account's statements, without the date parameter.
+     *
+     * @param accountId id of account
+     * @return {@link WebTarget}
+     */
+    WebTarget statementsTarget(String accountId) {
+        return statementsTarget.resolveTemplate(ACCOUNT_ID_PATH_VAR_NAME, accountId);
+    }
+
+    WebTarget statementsTarget(String accountId, OffsetDateTime dateFrom) {
+        return statementsTarget.queryParam(STATEMENTS_DATE_FROM_PARAM_NAME, dateFrom)
+                .resolveTemplate(ACCOUNT_ID_PATH_VAR_NAME, accountId);
+    }
+
+    /**
+     * Gets target of the account's PDF statements, the statement id is not resolved.
+     *
+     * @param accountId id of account
+     * @return {@link WebTarget}
+     */
+    WebTarget pdfStatementTarget(String accountId) {
+        return pdfStatementTarget.resolveTemplate(ACCOUNT_ID_PATH_VAR_NAME, accountId);
+    }
+
+    /**
+     * Builder of the {@link AccountApiJerseyImpl}.
+     *
+     * @since 1.3
+     */
+    public static final class Builder {
+
+        private final String baseUrl;
+
+        private final String apiKey;
+
+        private Client client;
+
+        private TransportSettings transportSettings = TransportSettings.defaults();
+
+        private ObjectMapper objectMapper = JsonSupport.createObjectMapper();
+
+        private ResponseCacheSettings responseCacheSettings;
+
+        private AccountIdCacheSettings accountIdCacheSettings = AccountIdCacheSettings.defaults();
+
+        private boolean coalesceRequests;
+
+        private MeterRegistry meterRegistry;
+
+        private RetrySettings retrySettings;
+
+        private CircuitBreakerSettings circuitBreakerSettings;
+
+        private ThrottlingSettings throttlingSettings;
+
+        /**
+         * New instance.
+         *
+         * @param baseUrl ADAA API's base URL
+         * @param apiKey  API key to use to authorize a request against KB API store
+         */
+        private Builder(String baseUrl, String apiKey) {
+            if (StringUtils.isBlank(baseUrl)) {
+                throw new IllegalArgumentException("baseUrl must not be blank");
+            }
+            if (StringUtils.isBlank(apiKey)) {
+                throw new IllegalArgumentException("apiKey must not be blank");
+            }
+
+            this.baseUrl = baseUrl;
+            this.apiKey = apiKey;
+        }
+
+        /**
+         * Sets Jersey {@link Client} to use instead of the one created according to {@link TransportSettings}.
+         * Such client is not closed by {@link AccountApiJerseyImpl#close()}.
+         *
+         * @param client Jersey {@link Client} for calling the ADAA API
+         * @return this builder
+         */
+        public Builder client(Client client) {
+            if (client == null) {
+                throw new IllegalArgumentException("client must not be null");
+            }
+            this.client = client;
+            return this;
+        }
+
+        /**
+         * Sets settings of the pooled HTTP transport. Not used if {@link #client(Client)} is set.
+         *
+         * @param transportSettings {@link TransportSettings}
+         * @return this builder
+         */
+        public Builder transport(TransportSettings transportSettings) {
+            if (transportSettings == null) {
+                throw new IllegalArgumentException("transportSettings must not be null");
+            }
+            this.transportSettings = transportSettings;
+            return this;
+        }
+
+        /**
+         * Sets Jackson's mapper to use for all (de)serialization of the client.
+         *
+         * @param objectMapper Jackson's mapper, must be able to handle {@code java.time} types
+         * @return this builder
+         */
+        public Builder objectMapper(ObjectMapper objectMapper) {
+            if (objectMapper == null) {
+                throw new IllegalArgumentException("objectMapper must not be null");
+            }
+            this.objectMapper = objectMapper;
+            return this;
+        }
+
+        /**
+         * Enables caching of responses of the accounts and balances resources. Responses are cached
+         * per access token and request URI, expired responses with {@code ETag} are revalidated
+         * by conditional requests. Caching is disabled by default.
+         *
+         * @param responseCacheSettings {@link ResponseCacheSettings}
+         * @return this builder
+         */
+        public Builder responseCache(ResponseCacheSettings responseCacheSettings) {
+            if (responseCacheSettings == null) {
+                throw new IllegalArgumentException("responseCacheSettings must not be null");
+            }
+            this.responseCacheSettings = responseCacheSettings;
+            return this;
+        }
+
+        /**
+         * Sets cache of account ids resolved by {@link AccountApiJerseyImpl#accountId(String, String, String)},
+         * {@link AccountIdCacheSettings#defaults()} by default.
+         *
+         * @param accountIdCacheSettings {@link AccountIdCacheSettings}
+         * @return this builder
+         */
+        public Builder accountIdCache(AccountIdCacheSettings accountIdCacheSettings) {
+            if (accountIdCacheSettings == null) {
+                throw new IllegalArgumentException("accountIdCacheSettings must not be null");
+            }
+            this.accountIdCacheSettings = accountIdCacheSettings;
+            return this;
+        }
+
+        /**
+         * Enables or disables coalescing of identical concurrent requests (the same URI and access token).
+         * Callers of a request that is already in progress share its result instead of calling the API again,
+         * thus returned lists are unmodifiable. Coalescing is disabled by default.
+         *
+         * @param coalesceRequests {@code true} to coalesce identical concurrent requests
+         * @return this builder
+         */
+        public Builder coalesceRequests(boolean coalesceRequests) {
+            this.coalesceRequests = coalesceRequests;
+            return this;
+        }
+
+        /**
+         * Sets Micrometer's registry to record metrics of all ADAA API calls to. Requires {@code micrometer-core}
+         * on the classpath. Metrics are not recorded by default.
+         *
+         * @param meterRegistry {@link MeterRegistry}
+         * @return this builder
+         */
+        public Builder meterRegistry(MeterRegistry meterRegistry) {
+            if (meterRegistry == null) {
+                throw new IllegalArgumentException("meterRegistry must not be null");
+            }
+            this.meterRegistry = meterRegistry;
+            return this;
+        }
+
+        /**
+         * Enables retrying of calls failed due to transient errors, see {@link RetrySettings}.
+         * Retrying is disabled by default.
+         *
+         * @param retrySettings {@link RetrySettings}
+         * @return this builder
+         */
+        public Builder retry(RetrySettings retrySettings) {
+            if (retrySettings == null) {
+                throw new IllegalArgumentException("retrySettings must not be null");
+            }
+            this.retrySettings = retrySettings;
+            return this;
+        }
+
+        /**
+         * Enables the circuit breaker around the ADAA API, calls fail fast by
+         * {@link cz.kb.openbanking.adaa.client.api.exception.CircuitBreakerOpenException} while the API is failing
+         * and until its {@code /is-alive} resource responds, see {@link CircuitBreakerSettings}.
+         * The circuit breaker is disabled by default.
+         *
+         * @param circuitBreakerSettings {@link CircuitBreakerSettings}
+         * @return this builder
+         */
+        public Builder circuitBreaker(CircuitBreakerSettings circuitBreakerSettings) {
+            if (circuitBreakerSettings == null) {
+                throw new IllegalArgumentException("circuitBreakerSettings must not be null");
+            }
+            this.circuitBreakerSettings = circuitBreakerSettings;
+            return this;
+        }
+
+        /**
+         * Enables client-side throttling of the requests by a rate limiter and a concurrency bulkhead,
+         * see {@link ThrottlingSettings}. The limits are shared by all calls of the client, i.e. of one API key.
+         * Throttling is disabled by default.
+         *
+         * @param throttlingSettings {@link ThrottlingSettings}
+         * @return this builder
+         */
+        public Builder throttling(ThrottlingSettings throttlingSettings) {
+            if (throttlingSettings == null) {
+                throw new IllegalArgumentException("throttlingSettings must not be null");
+            }
+            this.throttlingSettings = throttlingSettings;
+            return this;
+        }
+
+        /**
+         * Builds {@link AccountApiJerseyImpl}.
+         *
+         * @return {@link AccountApiJerseyImpl}
+         */
+        public AccountApiJerseyImpl build() {
+            return new AccountApiJerseyImpl(this);
+        }
+    }
 }
@@ -22,10 +22,16 @@ final class AccountBalancesSearchImpl extends AbstractItemSearch<List<AccountBal
      *
      * @param webTarget         {@link WebTarget}
      * @param requestParameters {@link RequestParameters}
+     * @param searchContext     client-scoped infrastructure
      * @param responseClass     specific type of the response class
      */
     public AccountBalancesSearchImpl(WebTarget webTarget, RequestParameters requestParameters,
-                                     GenericType<List<AccountBalance>> responseClass) {
-        super(webTarget, requestParameters, responseClass);
+                                     SearchContext searchContext, GenericType<List<AccountBalance>> responseClass) {
+        super(webTarget, requestParameters, searchContext, responseClass);
+    }
+
+    @Override
+    AdaaResource getResource() {
+        return AdaaResource.BALANCES;
     }
 }
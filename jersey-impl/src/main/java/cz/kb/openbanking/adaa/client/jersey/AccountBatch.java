@@ -0,0 +1,356 @@
+package cz.kb.openbanking.adaa.client.jersey;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import cz.kb.openbanking.adaa.client.api.AccountApi;
+import cz.kb.openbanking.adaa.client.api.exception.ItemSearchException;
+import cz.kb.openbanking.adaa.client.api.search.ItemSearch;
+import cz.kb.openbanking.adaa.client.model.generated.AccountBalance;
+import cz.kb.openbanking.adaa.client.model.generated.Statement;
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * Batch facade of {@link AccountApi} searching several accounts concurrently, e.g. to build overview of all accounts
+ * returned by {@link AccountApi#accounts(String)}. At most {@link Builder#parallelism(int) parallelism} searches
+ * run at once by {@link ItemSearch#findAsync()}. A failed or timed out search of one account doesn't fail
+ * the whole batch, its {@link ItemSearchException} is returned in the {@link AccountBatchResult} instead.
+ * <p>
+ * Thread-safe.
+ *
+ * @since 1.3
+ */
+public final class AccountBatch {
+
+    /**
+     * Default maximal number of concurrent searches.
+     */
+    public static final int DEFAULT_PARALLELISM = 4;
+
+    /**
+     * Scheduler of the deadlines of the searches shared by all batches, its thread only completes the timed out ones.
+     */
+    private static final ScheduledThreadPoolExecutor DEADLINE_SCHEDULER = createDeadlineScheduler();
+
+    private final AccountApi accountApi;
+
+    private final int parallelism;
+
+    private final Duration callTimeout;
+
+    /**
+     * New instance.
+     *
+     * @param builder builder with the settings
+     */
+    private AccountBatch(Builder builder) {
+        this.accountApi = builder.accountApi;
+        this.parallelism = builder.parallelism;
+        this.callTimeout = builder.callTimeout;
+    }
+
+    /**
+     * Creates a new {@link Builder}.
+     *
+     * @param accountApi {@link AccountApi} to search the accounts by
+     * @return {@link Builder}
+     */
+    public static Builder builder(AccountApi accountApi) {
+        return new Builder(accountApi);
+    }
+
+    /**
+     * Searches for balances of all the accounts.
+     *
+     * @param accountIds  ids of the accounts
+     * @param accessToken OAuth2 access token, used to requests' authorization
+     * @return balances and errors by account ids
+     */
+    public AccountBatchResult<List<AccountBalance>> balances(Collection<String> accountIds, String accessToken) {
+        checkAccessToken(accessToken);
+        return search(accountIds, accountId -> accountApi.balances(accountId, accessToken));
+    }
+
+    /**
+     * Searches for statements of all the accounts.
+     *
+     * @param accountIds  ids of the accounts
+     * @param accessToken OAuth2 access token, used to requests' authorization
+     * @param dateFrom    date of returned statements
+     * @return statements and errors by account ids
+     */
+    public AccountBatchResult<List<Statement>> statements(Collection<String> accountIds, String accessToken,
+                                                          OffsetDateTime dateFrom) {
+        checkAccessToken(accessToken);
+        if (dateFrom == null) {
+            throw new IllegalArgumentException("dateFrom must not be null");
+        }
+        return search(accountIds, accountId -> accountApi.statements(accountId, accessToken, dateFrom));
+    }
+
+    /**
+     * Resolves ids of the accounts with the IBANs and currency by {@link AccountApi#accountId(String, String, String)},
+     * e.g. to translate IBANs of an upstream system before searching their accounts.
+     *
+     * @param ibans       IBANs of the accounts, duplicates are resolved once
+     * @param currency    ISO 4217 code of the accounts' currency
+     * @param accessToken OAuth2 access token, used to requests' authorization
+     * @return account ids and errors by IBANs
+     */
+    public AccountBatchResult<String> accountIds(Collection<String> ibans, String currency, String accessToken) {
+        checkAccessToken(accessToken);
+        if (StringUtils.isBlank(currency)) {
+            throw new IllegalArgumentException("currency must not be blank");
+        }
+        return search(ibans, iban -> accountApi.accountId(iban, currency, accessToken));
+    }
+
+    /**
+     * Runs the search of all the accounts and waits for all results,
+     * e.g. {@code batch.search(accountIds, id -> accountApi.transactions(id, accessToken).fromDate(fromDate))}.
+     *
+     * @param accountIds ids of the accounts, duplicates are searched once
+     * @param search     search of one account by its id
+     * @param <T>        type of the found item
+     * @return found items and errors by account ids
+     */
+    public <T> AccountBatchResult<T> search(Collection<String> accountIds,
+                                            Function<String, ? extends ItemSearch<T>> search) {
+        return searchAsync(accountIds, search).toCompletableFuture().join();
+    }
+
+    /**
+     * Runs the search of all the accounts asynchronously, the calling thread is not blocked.
+     *
+     * @param accountIds ids of the accounts, duplicates are searched once
+     * @param search     search of one account by its id
+     * @param <T>        type of the found item
+     * @return stage completed with found items and errors by account ids when searches of all accounts complete,
+     * it's never completed exceptionally
+     */
+    public <T> CompletionStage<AccountBatchResult<T>> searchAsync(Collection<String> accountIds,
+                                                                  Function<String, ? extends ItemSearch<T>> search) {
+        if (accountIds == null) {
+            throw new IllegalArgumentException("accountIds must not be null");
+        }
+        if (search == null) {
+            throw new IllegalArgumentException("search must not be null");
+        }
+        for (String accountId : accountIds) {
+            if (StringUtils.isBlank(accountId)) {
+                throw new IllegalArgumentException("accountIds must not contain blank id");
+            }
+        }
+
+        List<String> ids = new ArrayList<>(new LinkedHashSet<>(accountIds));
+        Map<String, CompletableFuture<T>> results = new LinkedHashMap<>();
+        for (String accountId : ids) {
+            results.put(accountId, new CompletableFuture<>());
+        }
+
+        BatchRun<T> run = new BatchRun<>(ids, results, search);
+        for (int i = 0; i < Math.min(parallelism, ids.size()); i++) {
+            run.startNext();
+        }
+
+        return CompletableFuture.allOf(results.values().toArray(new CompletableFuture<?>[0]))
+                .handle((ignored, throwable) -> toResult(results));
+    }
+
+    /**
+     * One run of a batch search. The search of the next account is started when the search of a previous one
+     * completes. Searches may complete synchronously (e.g. cached account ids), so the starts are drained
+     * by a loop of the thread that requested the first of them rather than started recursively
+     * from the completion of the previous search.
+     *
+     * @param <T> type of the found item
+     */
+    private final class BatchRun<T> {
+
+        private final List<String> ids;
+
+        private final Map<String, CompletableFuture<T>> results;
+
+        private final Function<String, ? extends ItemSearch<T>> search;
+
+        /**
+         * Index of the next account.
+         */
+        private final AtomicInteger next = new AtomicInteger();
+
+        /**
+         * Number of requested starts that are not done yet, the thread that raises it from zero drains them.
+         */
+        private final AtomicInteger pendingStarts = new AtomicInteger();
+
+        private BatchRun(List<String> ids, Map<String, CompletableFuture<T>> results,
+                         Function<String, ? extends ItemSearch<T>> search) {
+            this.ids = ids;
+            this.results = results;
+            this.search = search;
+        }
+
+        /**
+         * Requests start of the search of the next account.
+         */
+        private void startNext() {
+            if (pendingStarts.getAndIncrement() != 0) {
+                // the draining thread starts it
+                return;
+            }
+            do {
+                start();
+            } while (pendingStarts.decrementAndGet() != 0);
+        }
+
+        /**
+         * Starts the search of the next account, if any.
+         */
+        private void start() {
+            int index = next.getAndIncrement();
+            if (index >= ids.size()) {
+                return;
+            }
+
+            String accountId = ids.get(index);
+            CompletableFuture<T> result = results.get(accountId);
+            ScheduledFuture<?> deadline = callTimeout == null ? null : DEADLINE_SCHEDULER.schedule(
+                    () -> result.completeExceptionally(new ItemSearchException("Search of account '" + accountId
+                            + "' timed out after " + callTimeout.toMillis() + " ms.")),
+                    callTimeout.toMillis(), TimeUnit.MILLISECONDS);
+
+            try {
+                search.apply(accountId).findAsync().whenComplete((value, throwable) -> {
+                    if (deadline != null) {
+                        deadline.cancel(false);
+                    }
+                    if (throwable == null) {
+                        result.complete(value);
+                    } else {
+                        result.completeExceptionally(throwable);
+                    }
+                    // a timed out search holds its slot until it really ends, so at most parallelism calls run
+                    startNext();
+                });
+            } catch (RuntimeException e) {
+                if (deadline != null) {
+                    deadline.cancel(false);
+                }
+                result.completeExceptionally(e);
+                startNext();
+            }
+        }
+    }
+
+    private static <T> AccountBatchResult<T> toResult(Map<String, CompletableFuture<T>> results) {
+        Map<String, T> found = new LinkedHashMap<>();
+        Map<String, ItemSearchException> errors = new LinkedHashMap<>();
+        results.forEach((accountId, result) -> {
+            try {
+                found.put(accountId, result.join());
+            } catch (CompletionException e) {
+                Throwable cause = e.getCause() == null ? e : e.getCause();
+                errors.put(accountId, cause instanceof ItemSearchException ? (ItemSearchException) cause
+                        : new ItemSearchException("Error occurred during calling API. Error: " + cause.getMessage()));
+            }
+        });
+        return new AccountBatchResult<>(found, errors);
+    }
+
+    private static void checkAccessToken(String accessToken) {
+        if (StringUtils.isBlank(accessToken)) {
+            throw new IllegalArgumentException("accessToken must not be blank");
+        }
+    }
+
+    private static ScheduledThreadPoolExecutor createDeadlineScheduler() {
+        ScheduledThreadPoolExecutor result = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "adaa-client-batch-deadline");
+            thread.setDaemon(true);
+            return thread;
+        });
+        result.setRemoveOnCancelPolicy(true);
+        return result;
+    }
+
+    /**
+     * Builder of the {@link AccountBatch}.
+     */
+    public static final class Builder {
+
+        private final AccountApi accountApi;
+
+        private int parallelism = DEFAULT_PARALLELISM;
+
+        private Duration callTimeout;
+
+        /**
+         * New instance.
+         *
+         * @param accountApi {@link AccountApi} to search the accounts by
+         */
+        private Builder(AccountApi accountApi) {
+            if (accountApi == null) {
+                throw new IllegalArgumentException("accountApi must not be null");
+            }
+
+            this.accountApi = accountApi;
+        }
+
+        /**
+         * Sets maximal number of concurrent searches.
+         *
+         * @param parallelism maximal number of concurrent searches, must be greater than zero
+         * @return this builder
+         */
+        public Builder parallelism(int parallelism) {
+            if (parallelism <= 0) {
+                throw new IllegalArgumentException("parallelism must be greater than zero");
+            }
+            this.parallelism = parallelism;
+            return this;
+        }
+
+        /**
+         * Sets deadline of the search of one account (including retries), a timed out search fails
+         * by {@link ItemSearchException}. The underlying call is not cancelled, it keeps its slot of the parallelism
+         * until it ends (e.g. by the transport's read timeout). Searches have no deadline by default.
+         *
+         * @param callTimeout deadline of the search of one account
+         * @return this builder
+         */
+        public Builder callTimeout(Duration callTimeout) {
+            if (callTimeout == null) {
+                throw new IllegalArgumentException("callTimeout must not be null");
+            }
+            if (callTimeout.isNegative() || callTimeout.isZero()) {
+                throw new IllegalArgumentException("callTimeout must be greater than zero");
+            }
+            this.callTimeout = callTimeout;
+            return this;
+        }
+
+        /**
+         * Builds {@link AccountBatch}.
+         *
+         * @return {@link AccountBatch}
+         */
+        public AccountBatch build() {
+            return new AccountBatch(this);
+        }
+    }
+}
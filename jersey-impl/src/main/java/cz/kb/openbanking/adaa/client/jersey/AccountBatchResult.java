@@ -0,0 +1,79 @@
+package cz.kb.openbanking.adaa.client.jersey;
+
+import java.util.Collections;
+import java.util.Map;
+import javax.annotation.Nullable;
+
+import cz.kb.openbanking.adaa.client.api.exception.ItemSearchException;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+/**
+ * Partial result of a search of several accounts by {@link AccountBatch}: found items and errors by account ids.
+ * Each account has either a found item or an error.
+ *
+ * @param <T> type of the found item
+ * @since 1.3
+ */
+public final class AccountBatchResult<T> {
+
+    private final Map<String, T> results;
+
+    private final Map<String, ItemSearchException> errors;
+
+    /**
+     * New instance.
+     *
+     * @param results found items by account ids, in the order of the requested accounts
+     * @param errors  errors by account ids, in the order of the requested accounts
+     */
+    AccountBatchResult(Map<String, T> results, Map<String, ItemSearchException> errors) {
+        this.results = Collections.unmodifiableMap(results);
+        this.errors = Collections.unmodifiableMap(errors);
+    }
+
+    /**
+     * Gets found items of the successfully searched accounts.
+     *
+     * @return unmodifiable map of found items by account ids, in the order of the requested accounts
+     */
+    public Map<String, T> getResults() {
+        return results;
+    }
+
+    /**
+     * Gets errors of the accounts whose search failed or timed out.
+     *
+     * @return unmodifiable map of errors by account ids, in the order of the requested accounts
+     */
+    public Map<String, ItemSearchException> getErrors() {
+        return errors;
+    }
+
+    /**
+     * Gets found item of the account.
+     *
+     * @param accountId id of the account
+     * @return found item or {@code null} if the search of the account failed or the account wasn't requested
+     */
+    @Nullable
+    public T getResult(String accountId) {
+        return results.get(accountId);
+    }
+
+    /**
+     * Checks whether searches of all accounts succeeded.
+     *
+     * @return {@code true} if there is no error
+     */
+    public boolean isComplete() {
+        return errors.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .append("results", results.keySet())
+                .append("errors", errors)
+                .toString();
+    }
+}
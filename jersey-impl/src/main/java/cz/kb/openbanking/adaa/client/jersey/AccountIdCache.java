@@ -0,0 +1,159 @@
+package cz.kb.openbanking.adaa.client.jersey;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import javax.annotation.Nullable;
+
+/**
+ * Cache of account ids by IBAN, currency and access token with time to live and LRU eviction.
+ * Concurrent resolutions of the same IBAN and currency with the same access token share one call of the API.
+ * Ids are not shared by access tokens, so every user's consent to the account is checked by the API.
+ * Thread-safe.
+ *
+ * @see AccountIdCacheSettings
+ * @since 1.3
+ */
+final class AccountIdCache {
+
+    private final long ttlNanos;
+
+    /**
+     * Cached account ids in access order, guarded by {@code this}.
+     */
+    private final LinkedHashMap<String, Entry> entries;
+
+    /**
+     * Results of the resolutions in progress.
+     */
+    private final ConcurrentMap<String, CompletableFuture<String>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * New instance.
+     *
+     * @param settings settings of the cache
+     */
+    AccountIdCache(AccountIdCacheSettings settings) {
+        if (settings == null) {
+            throw new IllegalArgumentException("settings must not be null");
+        }
+
+        this.ttlNanos = settings.getTtl().toNanos();
+        int maximumSize = settings.getMaximumSize();
+        this.entries = new LinkedHashMap<String, Entry>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maximumSize;
+            }
+        };
+    }
+
+    /**
+     * Creates key of the cache. The access token is kept only as its SHA-256 digest.
+     *
+     * @param iban        normalized IBAN
+     * @param currency    normalized currency code
+     * @param accessToken access token of the resolution
+     * @return key of the account id
+     */
+    static String key(String iban, String currency, String accessToken) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            // every Java platform supports SHA-256
+            throw new IllegalStateException("SHA-256 is not supported.", e);
+        }
+        byte[] tokenDigest = digest.digest(accessToken.getBytes(StandardCharsets.UTF_8));
+        return iban + '/' + currency + '/' + Base64.getEncoder().encodeToString(tokenDigest);
+    }
+
+    /**
+     * Gets the cached account id or resolves it by the resolver, unless a resolution of the same key
+     * is already in progress.
+     *
+     * @param key      key of the account id
+     * @param resolver resolver calling the API
+     * @return stage completed with the account id
+     */
+    CompletionStage<String> resolve(String key, Supplier<? extends CompletionStage<String>> resolver) {
+        String cached = get(key);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+
+        CompletableFuture<String> resolution = new CompletableFuture<>();
+        CompletableFuture<String> existing = inFlight.putIfAbsent(key, resolution);
+        if (existing != null) {
+            return existing.thenApply(Function.identity());
+        }
+
+        try {
+            resolver.get().whenComplete((accountId, throwable) -> {
+                if (throwable == null) {
+                    put(key, accountId);
+                }
+                // released before publishing, so callers arriving later hit the cache or start a new resolution
+                inFlight.remove(key, resolution);
+                if (throwable == null) {
+                    resolution.complete(accountId);
+                } else {
+                    resolution.completeExceptionally(AbstractItemSearch.unwrap(throwable));
+                }
+            });
+        } catch (RuntimeException e) {
+            inFlight.remove(key, resolution);
+            resolution.completeExceptionally(e);
+        }
+        return resolution.thenApply(Function.identity());
+    }
+
+    /**
+     * Gets the cached account id.
+     *
+     * @param key key of the account id
+     * @return account id or {@code null} if it's not cached or expired
+     */
+    @Nullable
+    synchronized String get(String key) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (System.nanoTime() - entry.createdNanos >= ttlNanos) {
+            entries.remove(key);
+            return null;
+        }
+        return entry.accountId;
+    }
+
+    private synchronized void put(String key, String accountId) {
+        if (ttlNanos > 0) {
+            entries.put(key, new Entry(accountId, System.nanoTime()));
+        }
+    }
+
+    /**
+     * Cached account id.
+     */
+    private static final class Entry {
+
+        private final String accountId;
+
+        private final long createdNanos;
+
+        private Entry(String accountId, long createdNanos) {
+            this.accountId = accountId;
+            this.createdNanos = createdNanos;
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package cz.kb.openbanking.adaa.client.jersey;
+
+import java.time.Duration;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+/**
+ * Settings of the cache of account ids resolved by
+ * {@link AccountApiJerseyImpl#accountId(String, String, String)}.
+ * Resolved ids are cached for each access token separately, so an id is never returned to a user
+ * whose consent to the account wasn't checked by the API.
+ *
+ * @see AccountApiJerseyImpl.Builder#accountIdCache(AccountIdCacheSettings)
+ * @since 1.3
+ */
+public final class AccountIdCacheSettings {
+
+    /**
+     * Default maximal number of cached account ids.
+     */
+    public static final int DEFAULT_MAXIMUM_SIZE = 10_000;
+
+    /**
+     * Default time to live of cached account ids.
+     */
+    public static final Duration DEFAULT_TTL = Duration.ofHours(24);
+
+    private final int maximumSize;
+
+    private final Duration ttl;
+
+    /**
+     * New instance.
+     *
+     * @param builder builder with the settings
+     */
+    private AccountIdCacheSettings(Builder builder) {
+        this.maximumSize = builder.maximumSize;
+        this.ttl = builder.ttl;
+    }
+
+    /**
+     * Creates a new builder with default settings.
+     *
+     * @return {@link Builder}
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Gets default settings.
+     *
+     * @return {@link AccountIdCacheSettings} with default values
+     */
+    public static AccountIdCacheSettings defaults() {
+        return builder().build();
+    }
+
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    public Duration getTtl() {
+        return ttl;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .append("maximumSize", maximumSize)
+                .append("ttl", ttl)
+                .toString();
+    }
+
+    /**
+     * Builder of the {@link AccountIdCacheSettings}.
+     */
+    public static final class Builder {
+
+        private int maximumSize = DEFAULT_MAXIMUM_SIZE;
+
+        private Duration ttl = DEFAULT_TTL;
+
+        /**
+         * No public instance, use {@link AccountIdCacheSettings#builder()}.
+         */
+        private Builder() {
+        }
+
+        /**
+         * Sets maximal number of cached account ids, the least recently used id is evicted first.
+         *
+         * @param maximumSize maximal number of cached account ids
+         * @return this builder
+         */
+        public Builder maximumSize(int maximumSize) {
+            if (maximumSize <= 0) {
+                throw new IllegalArgumentException("maximumSize must be greater than zero");
+            }
+            this.maximumSize = maximumSize;
+            return this;
+        }
+
+        /**
+         * Sets time to live of cached account ids. Zero disables caching, concurrent resolutions
+         * of the same IBAN are still shared.
+         *
+         * @param ttl time to live of cached account ids
+         * @return this builder
+         */
+        public Builder ttl(Duration ttl) {
+            if (ttl == null || ttl.isNegative()) {
+                throw new IllegalArgumentException("ttl must not be null or negative");
+            }
+            this.ttl = ttl;
+            return this;
+        }
+
+        /**
+         * Builds {@link AccountIdCacheSettings}.
+         *
+         * @return {@link AccountIdCacheSettings}
+         */
+        public AccountIdCacheSettings build() {
+            return new AccountIdCacheSettings(this);
+        }
+    }
+}
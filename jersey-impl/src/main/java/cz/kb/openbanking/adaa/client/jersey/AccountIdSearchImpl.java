@@ -0,0 +1,72 @@
+package cz.kb.openbanking.adaa.client.jersey;
+
+import java.util.concurrent.CompletionStage;
+
+import cz.kb.openbanking.adaa.client.api.exception.ItemSearchException;
+import cz.kb.openbanking.adaa.client.api.search.ItemSearch;
+import cz.kb.openbanking.adaa.client.model.generated.PostAccountIdsResponse;
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * Jersey implementation of the resolution of an account id by IBAN and currency,
+ * resolved ids are cached by the {@link AccountIdCache}.
+ *
+ * @see cz.kb.openbanking.adaa.client.api.AccountApi#accountId(String, String, String)
+ * @since 1.3
+ */
+final class AccountIdSearchImpl implements ItemSearch<String> {
+
+    private final ItemSearch<PostAccountIdsResponse> call;
+
+    private final AccountIdCache accountIdCache;
+
+    private final String iban;
+
+    private final String currency;
+
+    private final String accessToken;
+
+    /**
+     * New instance.
+     *
+     * @param call           call of the account ids resource
+     * @param accountIdCache cache of resolved account ids
+     * @param iban           normalized IBAN
+     * @param currency       normalized currency code
+     * @param accessToken    access token of the call
+     */
+    AccountIdSearchImpl(ItemSearch<PostAccountIdsResponse> call, AccountIdCache accountIdCache,
+                        String iban, String currency, String accessToken) {
+        if (call == null) {
+            throw new IllegalArgumentException("call must not be null");
+        }
+        if (accountIdCache == null) {
+            throw new IllegalArgumentException("accountIdCache must not be null");
+        }
+
+        this.call = call;
+        this.accountIdCache = accountIdCache;
+        this.iban = iban;
+        this.currency = currency;
+        this.accessToken = accessToken;
+    }
+
+    @Override
+    public String find() throws ItemSearchException {
+        return AbstractItemSearch.await(findAsync());
+    }
+
+    @Override
+    public CompletionStage<String> findAsync() {
+        return accountIdCache.resolve(AccountIdCache.key(iban, currency, accessToken),
+                () -> call.findAsync().thenApply(this::toAccountId));
+    }
+
+    private String toAccountId(PostAccountIdsResponse response) {
+        if (response == null || StringUtils.isBlank(response.getAccountId())) {
+            throw new ItemSearchException("Account id of IBAN '" + iban + "' and currency '" + currency
+                    + "' was not returned.");
+        }
+        return response.getAccountId();
+    }
+}
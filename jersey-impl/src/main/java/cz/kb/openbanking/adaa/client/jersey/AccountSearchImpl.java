@@ -20,9 +20,16 @@ public class AccountSearchImpl extends AbstractItemSearch<List<Account>> impleme
      *
      * @param webTarget         {@link WebTarget}
      * @param requestParameters {@link RequestParameters}
+     * @param searchContext     client-scoped infrastructure
      * @param responseClass     specific type of the response class (wrapped by Jersey's {@link GenericType})
      */
-    protected AccountSearchImpl(WebTarget webTarget, RequestParameters requestParameters, GenericType<List<Account>> responseClass) {
-        super(webTarget, requestParameters, responseClass);
+    protected AccountSearchImpl(WebTarget webTarget, RequestParameters requestParameters, SearchContext searchContext,
+                                GenericType<List<Account>> responseClass) {
+        super(webTarget, requestParameters, searchContext, responseClass);
+    }
+
+    @Override
+    AdaaResource getResource() {
+        return AdaaResource.ACCOUNTS;
     }
 }
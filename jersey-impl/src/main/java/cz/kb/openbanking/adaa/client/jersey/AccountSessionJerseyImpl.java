@@ -0,0 +1,147 @@
+package cz.kb.openbanking.adaa.client.jersey;
+
+import static cz.kb.openbanking.adaa.client.jersey.RequestConstants.STATEMENTS_DATE_FROM_PARAM_NAME;
+import static cz.kb.openbanking.adaa.client.jersey.RequestConstants.STATEMENT_ID_PATH_VAR_NAME;
+
+import java.time.OffsetDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import javax.ws.rs.client.WebTarget;
+
+import cz.kb.openbanking.adaa.client.api.AccountSession;
+import cz.kb.openbanking.adaa.client.api.search.AccountBalancesSearch;
+import cz.kb.openbanking.adaa.client.api.search.AccountSearch;
+import cz.kb.openbanking.adaa.client.api.search.AccountStatementsSearch;
+import cz.kb.openbanking.adaa.client.api.search.PdfStatementSearch;
+import cz.kb.openbanking.adaa.client.api.search.TransactionHistorySearch;
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * Jersey implementation of the {@link AccountSession}.
+ * <p>
+ * All searches share one {@link RequestParameters} with the precomputed header values. Targets of an account
+ * are resolved by its first search and kept by the session, the searches are immutable, so the searches
+ * of the account's transactions and balances are created only once, too. At most {@link #MAX_ACCOUNTS} accounts
+ * are kept, the least recently used one is evicted, so a long-lived session of many accounts doesn't grow forever.
+ *
+ * @see AccountApiJerseyImpl#session(String)
+ * @since 1.3
+ */
+final class AccountSessionJerseyImpl implements AccountSession {
+
+    /**
+     * Maximal number of accounts with kept searches.
+     */
+    static final int MAX_ACCOUNTS = 256;
+
+    private final AccountApiJerseyImpl accountApi;
+
+    private final RequestParameters requestParameters;
+
+    private final AccountSearch accountSearch;
+
+    /**
+     * Searches and targets of the accounts by their ids, in the access order. Guarded by this.
+     */
+    private final LinkedHashMap<String, AccountSearches> accountSearches =
+            new LinkedHashMap<String, AccountSearches>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, AccountSearches> eldest) {
+                    return size() > MAX_ACCOUNTS;
+                }
+            };
+
+    /**
+     * New instance.
+     *
+     * @param accountApi        client creating the targets
+     * @param requestParameters {@link RequestParameters} with the access token of the session
+     */
+    AccountSessionJerseyImpl(AccountApiJerseyImpl accountApi, RequestParameters requestParameters) {
+        if (accountApi == null) {
+            throw new IllegalArgumentException("accountApi must not be null");
+        }
+        if (requestParameters == null) {
+            throw new IllegalArgumentException("requestParameters must not be null");
+        }
+
+        this.accountApi = accountApi;
+        this.requestParameters = requestParameters;
+        this.accountSearch = new AccountSearchImpl(accountApi.getAccountsTarget(), requestParameters,
+                accountApi.getSearchContext(), AccountApiJerseyImpl.ACCOUNTS_TYPE);
+    }
+
+    @Override
+    public AccountSearch accounts() {
+        return accountSearch;
+    }
+
+    @Override
+    public TransactionHistorySearch transactions(String accountId) {
+        return getAccountSearches(accountId).transactions;
+    }
+
+    @Override
+    public AccountBalancesSearch balances(String accountId) {
+        return getAccountSearches(accountId).balances;
+    }
+
+    @Override
+    public AccountStatementsSearch statements(String accountId, OffsetDateTime dateFrom) {
+        if (dateFrom == null) {
+            throw new IllegalArgumentException("dateFrom must not be null");
+        }
+
+        WebTarget webTarget = getAccountSearches(accountId).statementsTarget
+                .queryParam(STATEMENTS_DATE_FROM_PARAM_NAME, dateFrom);
+        return new AccountStatementsSearchImpl(webTarget, requestParameters, accountApi.getSearchContext(),
+                AccountApiJerseyImpl.STATEMENTS_TYPE);
+    }
+
+    @Override
+    public PdfStatementSearch statementPdf(String accountId, long statementId) {
+        WebTarget webTarget = getAccountSearches(accountId).pdfStatementTarget
+                .resolveTemplate(STATEMENT_ID_PATH_VAR_NAME, statementId);
+        return new PdfStatementSearchImpl(webTarget, requestParameters, accountApi.getSearchContext(),
+                AccountApiJerseyImpl.PDF_STATEMENT_TYPE);
+    }
+
+    private AccountSearches getAccountSearches(String accountId) {
+        if (StringUtils.isBlank(accountId)) {
+            throw new IllegalArgumentException("accountId must not be blank");
+        }
+
+        synchronized (this) {
+            AccountSearches result = accountSearches.get(accountId);
+            if (result == null) {
+                result = new AccountSearches(accountId);
+                accountSearches.put(accountId, result);
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Searches and targets of one account.
+     */
+    private final class AccountSearches {
+
+        private final TransactionHistorySearch transactions;
+
+        private final AccountBalancesSearch balances;
+
+        private final WebTarget statementsTarget;
+
+        private final WebTarget pdfStatementTarget;
+
+        private AccountSearches(String accountId) {
+            SearchContext searchContext = accountApi.getSearchContext();
+            this.transactions = new TransactionHistorySearchImpl(accountApi.transactionsTarget(accountId),
+                    requestParameters, searchContext, AccountApiJerseyImpl.TRANSACTIONS_TYPE);
+            this.balances = new AccountBalancesSearchImpl(accountApi.balancesTarget(accountId), requestParameters,
+                    searchContext, AccountApiJerseyImpl.BALANCES_TYPE);
+            this.statementsTarget = accountApi.statementsTarget(accountId);
+            this.pdfStatementTarget = accountApi.pdfStatementTarget(accountId);
+        }
+    }
+}
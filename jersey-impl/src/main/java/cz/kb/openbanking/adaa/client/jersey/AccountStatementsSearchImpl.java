@@ -22,10 +22,16 @@ final class AccountStatementsSearchImpl extends AbstractItemSearch<List<Statemen
      *
      * @param webTarget         {@link WebTarget}
      * @param requestParameters {@link RequestParameters}
+     * @param searchContext     client-scoped infrastructure
      * @param responseClass     specific type of the response class
      */
     public AccountStatementsSearchImpl(WebTarget webTarget, RequestParameters requestParameters,
-                                       GenericType<List<Statement>> responseClass) {
-        super(webTarget, requestParameters, responseClass);
+                                       SearchContext searchContext, GenericType<List<Statement>> responseClass) {
+        super(webTarget, requestParameters, searchContext, responseClass);
+    }
+
+    @Override
+    AdaaResource getResource() {
+        return AdaaResource.STATEMENTS;
     }
 }
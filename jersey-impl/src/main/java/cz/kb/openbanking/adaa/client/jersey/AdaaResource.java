@@ -0,0 +1,41 @@
+package cz.kb.openbanking.adaa.client.jersey;
+
+/**
+ * Resources of the ADAA API called by the client.
+ *
+ * @since 1.3
+ */
+enum AdaaResource {
+
+    ACCOUNTS("accounts"),
+
+    BALANCES("balances"),
+
+    STATEMENTS("statements"),
+
+    STATEMENT_PDF("statement-pdf"),
+
+    TRANSACTIONS("transactions"),
+
+    SUBSCRIPTIONS("subscriptions"),
+
+    ACCOUNT_IDS("account-ids");
+
+    /**
+     * Short name of the resource, e.g. for logging.
+     */
+    private final String resourceName;
+
+    AdaaResource(String resourceName) {
+        this.resourceName = resourceName;
+    }
+
+    /**
+     * Gets short name of the resource.
+     *
+     * @return short name of the resource
+     */
+    String getResourceName() {
+        return resourceName;
+    }
+}
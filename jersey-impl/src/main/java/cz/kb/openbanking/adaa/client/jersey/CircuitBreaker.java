@@ -0,0 +1,195 @@
+package cz.kb.openbanking.adaa.client.jersey;
+
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import cz.kb.openbanking.adaa.client.api.exception.CircuitBreakerOpenException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Circuit breaker around the ADAA API of one client configured by {@link CircuitBreakerSettings}.
+ * Open and half-open breaker rejects all requests, the only request in the half-open state is the probe
+ * of the {@code /is-alive} resource started by the scheduler.
+ * Thread-safe.
+ *
+ * @since 1.3
+ */
+final class CircuitBreaker {
+
+    private static final Logger log = LoggerFactory.getLogger(CircuitBreaker.class);
+
+    /**
+     * State of the circuit breaker.
+     */
+    enum State {
+        /**
+         * Requests are permitted and their outcomes are recorded.
+         */
+        CLOSED,
+        /**
+         * Requests are rejected until the next probe.
+         */
+        OPEN,
+        /**
+         * Requests are rejected while the API is being probed.
+         */
+        HALF_OPEN
+    }
+
+    private static final byte FAILED = 1;
+
+    private static final byte SLOW = 2;
+
+    private final CircuitBreakerSettings settings;
+
+    private final ScheduledExecutorService scheduler;
+
+    /**
+     * Probe of the API, completed with {@code true} if the API is alive.
+     */
+    private final Supplier<? extends CompletionStage<Boolean>> probe;
+
+    private final long slowCallNanos;
+
+    /**
+     * Ring buffer of outcomes of the last requests, combination of {@link #FAILED} and {@link #SLOW} flags.
+     */
+    private final byte[] outcomes;
+
+    private int nextIndex;
+
+    private int recordedCalls;
+
+    private int failedCalls;
+
+    private int slowCalls;
+
+    private volatile State state = State.CLOSED;
+
+    /**
+     * New instance.
+     *
+     * @param settings  settings of the circuit breaker
+     * @param scheduler scheduler of the probes
+     * @param probe     probe of the API, completed with {@code true} if the API is alive
+     */
+    CircuitBreaker(CircuitBreakerSettings settings, ScheduledExecutorService scheduler,
+                   Supplier<? extends CompletionStage<Boolean>> probe) {
+        if (settings == null) {
+            throw new IllegalArgumentException("settings must not be null");
+        }
+        if (scheduler == null) {
+            throw new IllegalArgumentException("scheduler must not be null");
+        }
+        if (probe == null) {
+            throw new IllegalArgumentException("probe must not be null");
+        }
+
+        this.settings = settings;
+        this.scheduler = scheduler;
+        this.probe = probe;
+        this.slowCallNanos = settings.getSlowCallDuration().toNanos();
+        this.outcomes = new byte[settings.getSlidingWindowSize()];
+    }
+
+    /**
+     * Checks that a request is permitted.
+     *
+     * @throws CircuitBreakerOpenException if the circuit breaker is not closed
+     */
+    void acquirePermission() throws CircuitBreakerOpenException {
+        State current = state;
+        if (current != State.CLOSED) {
+            throw new CircuitBreakerOpenException("Calling of API was rejected, circuit breaker is "
+                    + current + " because the API is failing or responding slowly.");
+        }
+    }
+
+    /**
+     * Records outcome of a permitted request, the circuit breaker opens if a threshold is reached.
+     *
+     * @param durationNanos duration of the request in nanoseconds
+     * @param failed        whether the request failed
+     */
+    void onResult(long durationNanos, boolean failed) {
+        synchronized (this) {
+            if (state != State.CLOSED) {
+                return;
+            }
+
+            byte outcome = (byte) ((failed ? FAILED : 0) | (durationNanos >= slowCallNanos ? SLOW : 0));
+            if (recordedCalls == outcomes.length) {
+                failedCalls -= outcomes[nextIndex] & FAILED;
+                slowCalls -= (outcomes[nextIndex] & SLOW) >> 1;
+            } else {
+                recordedCalls++;
+            }
+            outcomes[nextIndex] = outcome;
+            nextIndex = (nextIndex + 1) % outcomes.length;
+            failedCalls += outcome & FAILED;
+            slowCalls += (outcome & SLOW) >> 1;
+
+            if (recordedCalls < settings.getMinimumCalls()
+                    || (failedCalls < settings.getFailureRateThreshold() * recordedCalls
+                    && slowCalls < settings.getSlowCallRateThreshold() * recordedCalls)) {
+                return;
+            }
+            log.warn("Circuit breaker opened, {} failed and {} slow of {} requests.",
+                    failedCalls, slowCalls, recordedCalls);
+            state = State.OPEN;
+            reset();
+        }
+        scheduleProbe();
+    }
+
+    /**
+     * Gets current state of the circuit breaker.
+     *
+     * @return {@link State}
+     */
+    State getState() {
+        return state;
+    }
+
+    private void reset() {
+        nextIndex = 0;
+        recordedCalls = 0;
+        failedCalls = 0;
+        slowCalls = 0;
+    }
+
+    private void scheduleProbe() {
+        try {
+            scheduler.schedule(this::probe, settings.getOpenDuration().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            log.debug("Circuit breaker probe not scheduled, the client is closed.");
+        }
+    }
+
+    private void probe() {
+        state = State.HALF_OPEN;
+        CompletionStage<Boolean> alive;
+        try {
+            alive = probe.get();
+        } catch (RuntimeException e) {
+            onProbed(false);
+            return;
+        }
+        alive.whenComplete((result, throwable) -> onProbed(throwable == null && Boolean.TRUE.equals(result)));
+    }
+
+    private void onProbed(boolean alive) {
+        if (alive) {
+            log.info("Circuit breaker closed, the API is alive.");
+            state = State.CLOSED;
+        } else {
+            log.warn("Circuit breaker stays open, the API is not alive.");
+            state = State.OPEN;
+            scheduleProbe();
+        }
+    }
+}
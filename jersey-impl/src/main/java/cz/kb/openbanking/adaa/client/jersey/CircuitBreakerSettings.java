@@ -0,0 +1,257 @@
+package cz.kb.openbanking.adaa.client.jersey;
+
+import java.time.Duration;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+/**
+ * Settings of the circuit breaker around the ADAA API of one client (i.e. one base URL).
+ * <p>
+ * Outcomes of the last {@link #getSlidingWindowSize()} HTTP requests are recorded. A request failed if it failed
+ * on the transport level (e.g. connection reset or timeout) or the response has a {@code 5xx} status,
+ * a request is slow if it took at least {@link #getSlowCallDuration()}. When at least {@link #getMinimumCalls()}
+ * requests are recorded and the rate of failed or slow requests reaches its threshold, the circuit breaker opens
+ * and all calls fail fast by {@link cz.kb.openbanking.adaa.client.api.exception.CircuitBreakerOpenException}.
+ * After {@link #getOpenDuration()} the breaker is half-open and probes the {@code /is-alive} resource of the API,
+ * it closes if the API is alive and stays open for another {@link #getOpenDuration()} otherwise.
+ *
+ * @see AccountApiJerseyImpl.Builder#circuitBreaker(CircuitBreakerSettings)
+ * @since 1.3
+ */
+public final class CircuitBreakerSettings {
+
+    /**
+     * Default rate of failed requests that opens the circuit breaker.
+     */
+    public static final double DEFAULT_FAILURE_RATE_THRESHOLD = 0.5;
+
+    /**
+     * Default rate of slow requests that opens the circuit breaker.
+     */
+    public static final double DEFAULT_SLOW_CALL_RATE_THRESHOLD = 1.0;
+
+    /**
+     * Default duration of a request considered slow.
+     */
+    public static final Duration DEFAULT_SLOW_CALL_DURATION = Duration.ofSeconds(10);
+
+    /**
+     * Default number of the last requests that are evaluated.
+     */
+    public static final int DEFAULT_SLIDING_WINDOW_SIZE = 20;
+
+    /**
+     * Default minimal number of recorded requests before the rates are evaluated.
+     */
+    public static final int DEFAULT_MINIMUM_CALLS = 10;
+
+    /**
+     * Default time between opening of the circuit breaker (or a failed probe) and the next probe.
+     */
+    public static final Duration DEFAULT_OPEN_DURATION = Duration.ofSeconds(30);
+
+    private final double failureRateThreshold;
+
+    private final double slowCallRateThreshold;
+
+    private final Duration slowCallDuration;
+
+    private final int slidingWindowSize;
+
+    private final int minimumCalls;
+
+    private final Duration openDuration;
+
+    /**
+     * New instance.
+     *
+     * @param builder builder with the settings
+     */
+    private CircuitBreakerSettings(Builder builder) {
+        this.failureRateThreshold = builder.failureRateThreshold;
+        this.slowCallRateThreshold = builder.slowCallRateThreshold;
+        this.slowCallDuration = builder.slowCallDuration;
+        this.slidingWindowSize = builder.slidingWindowSize;
+        this.minimumCalls = builder.minimumCalls;
+        this.openDuration = builder.openDuration;
+    }
+
+    /**
+     * Creates a new builder with default settings.
+     *
+     * @return {@link Builder}
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Gets default settings.
+     *
+     * @return {@link CircuitBreakerSettings} with default values
+     */
+    public static CircuitBreakerSettings defaults() {
+        return builder().build();
+    }
+
+    public double getFailureRateThreshold() {
+        return failureRateThreshold;
+    }
+
+    public double getSlowCallRateThreshold() {
+        return slowCallRateThreshold;
+    }
+
+    public Duration getSlowCallDuration() {
+        return slowCallDuration;
+    }
+
+    public int getSlidingWindowSize() {
+        return slidingWindowSize;
+    }
+
+    public int getMinimumCalls() {
+        return minimumCalls;
+    }
+
+    public Duration getOpenDuration() {
+        return openDuration;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .append("failureRateThreshold", failureRateThreshold)
+                .append("slowCallRateThreshold", slowCallRateThreshold)
+                .append("slowCallDuration", slowCallDuration)
+                .append("slidingWindowSize", slidingWindowSize)
+                .append("minimumCalls", minimumCalls)
+                .append("openDuration", openDuration)
+                .toString();
+    }
+
+    /**
+     * Builder of the {@link CircuitBreakerSettings}.
+     */
+    public static final class Builder {
+
+        private double failureRateThreshold = DEFAULT_FAILURE_RATE_THRESHOLD;
+
+        private double slowCallRateThreshold = DEFAULT_SLOW_CALL_RATE_THRESHOLD;
+
+        private Duration slowCallDuration = DEFAULT_SLOW_CALL_DURATION;
+
+        private int slidingWindowSize = DEFAULT_SLIDING_WINDOW_SIZE;
+
+        private int minimumCalls = DEFAULT_MINIMUM_CALLS;
+
+        private Duration openDuration = DEFAULT_OPEN_DURATION;
+
+        /**
+         * No public instance, use {@link CircuitBreakerSettings#builder()}.
+         */
+        private Builder() {
+        }
+
+        /**
+         * Sets rate of failed requests that opens the circuit breaker.
+         *
+         * @param failureRateThreshold rate of failed requests, greater than {@code 0} and at most {@code 1}
+         * @return this builder
+         */
+        public Builder failureRateThreshold(double failureRateThreshold) {
+            this.failureRateThreshold = checkRate(failureRateThreshold, "failureRateThreshold");
+            return this;
+        }
+
+        /**
+         * Sets rate of slow requests that opens the circuit breaker.
+         *
+         * @param slowCallRateThreshold rate of slow requests, greater than {@code 0} and at most {@code 1}
+         * @return this builder
+         */
+        public Builder slowCallRateThreshold(double slowCallRateThreshold) {
+            this.slowCallRateThreshold = checkRate(slowCallRateThreshold, "slowCallRateThreshold");
+            return this;
+        }
+
+        /**
+         * Sets duration of a request considered slow.
+         *
+         * @param slowCallDuration duration of a slow request
+         * @return this builder
+         */
+        public Builder slowCallDuration(Duration slowCallDuration) {
+            this.slowCallDuration = checkDuration(slowCallDuration, "slowCallDuration");
+            return this;
+        }
+
+        /**
+         * Sets number of the last requests that are evaluated.
+         *
+         * @param slidingWindowSize number of the evaluated requests
+         * @return this builder
+         */
+        public Builder slidingWindowSize(int slidingWindowSize) {
+            if (slidingWindowSize <= 0) {
+                throw new IllegalArgumentException("slidingWindowSize must be greater than zero");
+            }
+            this.slidingWindowSize = slidingWindowSize;
+            return this;
+        }
+
+        /**
+         * Sets minimal number of recorded requests before the rates are evaluated.
+         *
+         * @param minimumCalls minimal number of recorded requests
+         * @return this builder
+         */
+        public Builder minimumCalls(int minimumCalls) {
+            if (minimumCalls <= 0) {
+                throw new IllegalArgumentException("minimumCalls must be greater than zero");
+            }
+            this.minimumCalls = minimumCalls;
+            return this;
+        }
+
+        /**
+         * Sets time between opening of the circuit breaker (or a failed probe) and the next probe.
+         *
+         * @param openDuration time before the next probe
+         * @return this builder
+         */
+        public Builder openDuration(Duration openDuration) {
+            this.openDuration = checkDuration(openDuration, "openDuration");
+            return this;
+        }
+
+        /**
+         * Builds {@link CircuitBreakerSettings}.
+         *
+         * @return {@link CircuitBreakerSettings}
+         */
+        public CircuitBreakerSettings build() {
+            if (minimumCalls > slidingWindowSize) {
+                throw new IllegalArgumentException("minimumCalls must not be greater than slidingWindowSize");
+            }
+            return new CircuitBreakerSettings(this);
+        }
+
+        private static double checkRate(double rate, String name) {
+            if (rate <= 0 || rate > 1) {
+                throw new IllegalArgumentException(name + " must be greater than zero and at most one");
+            }
+            return rate;
+        }
+
+        private static Duration checkDuration(Duration duration, String name) {
+            if (duration == null) {
+                throw new IllegalArgumentException(name + " must not be null");
+            }
+            if (duration.isNegative() || duration.isZero()) {
+                throw new IllegalArgumentException(name + " must be greater than zero");
+            }
+            return duration;
+        }
+    }
+}
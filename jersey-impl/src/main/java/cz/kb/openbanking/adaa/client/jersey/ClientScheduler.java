@@ -0,0 +1,81 @@
+package cz.kb.openbanking.adaa.client.jersey;
+
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nullable;
+
+import cz.kb.openbanking.adaa.client.api.exception.ItemSearchException;
+
+/**
+ * Scheduler of delayed asynchronous actions of one client (e.g. retries and throttled requests) on a single daemon
+ * thread, the thread must not execute any blocking action. The thread is started lazily by the first scheduled action.
+ * <p>
+ * An action can be scheduled for a future that waits for it. Such future is completed by
+ * {@link ItemSearchException} if the action can't be scheduled or if the scheduler is {@link #close() closed}
+ * before the action runs, so no caller waits forever for a closed client.
+ * Thread-safe.
+ *
+ * @since 1.3
+ */
+final class ClientScheduler extends ScheduledThreadPoolExecutor {
+
+    /**
+     * Futures waiting for a scheduled action.
+     */
+    private final Set<CompletableFuture<?>> waiters = ConcurrentHashMap.newKeySet();
+
+    /**
+     * New instance.
+     */
+    ClientScheduler() {
+        super(1, runnable -> {
+            Thread thread = new Thread(runnable, "adaa-client-scheduler");
+            thread.setDaemon(true);
+            return thread;
+        });
+        setRemoveOnCancelPolicy(true);
+    }
+
+    /**
+     * Schedules the action the future waits for.
+     *
+     * @param action action completing the future
+     * @param delay  delay of the action
+     * @param unit   unit of the delay
+     * @param waiter future waiting for the action
+     * @return scheduled action or {@code null} if the scheduler is closed, the waiter is completed exceptionally
+     *         in such case
+     */
+    @Nullable
+    ScheduledFuture<?> schedule(Runnable action, long delay, TimeUnit unit, CompletableFuture<?> waiter) {
+        // registered before scheduling, so close() either sees the waiter or the scheduling is rejected
+        waiters.add(waiter);
+        waiter.whenComplete((result, throwable) -> waiters.remove(waiter));
+        try {
+            return schedule(action, delay, unit);
+        } catch (RejectedExecutionException e) {
+            waiter.completeExceptionally(closed());
+            return null;
+        }
+    }
+
+    /**
+     * Cancels all scheduled actions and completes their waiting futures by {@link ItemSearchException}.
+     */
+    void close() {
+        shutdownNow();
+        ItemSearchException closed = closed();
+        for (CompletableFuture<?> waiter : waiters) {
+            waiter.completeExceptionally(closed);
+        }
+    }
+
+    private static ItemSearchException closed() {
+        return new ItemSearchException("Calling of API was cancelled, the client is closed.");
+    }
+}
@@ -0,0 +1,119 @@
+package cz.kb.openbanking.adaa.client.jersey;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import javax.annotation.Nullable;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+/**
+ * {@link WatermarkStore} persisting the watermarks of all accounts in one JSON file.
+ * The file is read once and rewritten atomically by each {@link #save(String, SyncWatermark)},
+ * so a crash never leaves it half-written. The file must not be shared by several stores.
+ *
+ * @since 1.3
+ */
+public class FileWatermarkStore implements WatermarkStore {
+
+    private static final TypeReference<Map<String, SyncWatermark>> WATERMARKS_TYPE =
+            new TypeReference<Map<String, SyncWatermark>>() {
+            };
+
+    private final Path file;
+
+    private final ObjectMapper objectMapper = JsonSupport.createObjectMapper()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    /**
+     * Watermarks of all accounts, {@code null} until the file is read.
+     */
+    private Map<String, SyncWatermark> watermarks;
+
+    /**
+     * New instance.
+     *
+     * @param file JSON file with the watermarks, it's created by the first save if it doesn't exist
+     */
+    public FileWatermarkStore(Path file) {
+        if (file == null) {
+            throw new IllegalArgumentException("file must not be null");
+        }
+
+        this.file = file.toAbsolutePath();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws UncheckedIOException if the file can't be read
+     */
+    @Nullable
+    @Override
+    public SyncWatermark load(String accountId) {
+        if (accountId == null) {
+            throw new IllegalArgumentException("accountId must not be null");
+        }
+
+        synchronized (this) {
+            return getWatermarks().get(accountId);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws UncheckedIOException if the file can't be written
+     */
+    @Override
+    public void save(String accountId, SyncWatermark watermark) {
+        if (accountId == null) {
+            throw new IllegalArgumentException("accountId must not be null");
+        }
+        if (watermark == null) {
+            throw new IllegalArgumentException("watermark must not be null");
+        }
+
+        synchronized (this) {
+            Map<String, SyncWatermark> updated = new LinkedHashMap<>(getWatermarks());
+            updated.put(accountId, watermark);
+            write(updated);
+            watermarks = updated;
+        }
+    }
+
+    private void write(Map<String, SyncWatermark> updated) {
+        try {
+            Path tempFile = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+            try {
+                objectMapper.writeValue(tempFile.toFile(), updated);
+                Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(tempFile);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Watermarks can't be written to file '" + file + "'.", e);
+        }
+    }
+
+    private Map<String, SyncWatermark> getWatermarks() {
+        if (watermarks == null) {
+            if (Files.exists(file)) {
+                try {
+                    watermarks = objectMapper.readValue(file.toFile(), WATERMARKS_TYPE);
+                } catch (IOException e) {
+                    throw new UncheckedIOException("Watermarks can't be read from file '" + file + "'.", e);
+                }
+            } else {
+                watermarks = new LinkedHashMap<>();
+            }
+        }
+        return watermarks;
+    }
+}
@@ -0,0 +1,35 @@
+package cz.kb.openbanking.adaa.client.jersey;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import javax.annotation.Nullable;
+
+/**
+ * {@link WatermarkStore} holding the watermarks in memory, they are lost when the application stops.
+ *
+ * @since 1.3
+ */
+public class InMemoryWatermarkStore implements WatermarkStore {
+
+    private final ConcurrentMap<String, SyncWatermark> watermarks = new ConcurrentHashMap<>();
+
+    @Nullable
+    @Override
+    public SyncWatermark load(String accountId) {
+        if (accountId == null) {
+            throw new IllegalArgumentException("accountId must not be null");
+        }
+        return watermarks.get(accountId);
+    }
+
+    @Override
+    public void save(String accountId, SyncWatermark watermark) {
+        if (accountId == null) {
+            throw new IllegalArgumentException("accountId must not be null");
+        }
+        if (watermark == null) {
+            throw new IllegalArgumentException("watermark must not be null");
+        }
+        watermarks.put(accountId, watermark);
+    }
+}
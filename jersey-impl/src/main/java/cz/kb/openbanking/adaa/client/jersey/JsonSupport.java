@@ -0,0 +1,199 @@
+package cz.kb.openbanking.adaa.client.jersey;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+
+import cz.kb.openbanking.adaa.client.api.model.PageSlice;
+import cz.kb.openbanking.adaa.client.model.generated.Account;
+import cz.kb.openbanking.adaa.client.model.generated.AccountBalance;
+import cz.kb.openbanking.adaa.client.model.generated.AccountTransaction;
+import cz.kb.openbanking.adaa.client.model.generated.ErrorResponse;
+import cz.kb.openbanking.adaa.client.model.generated.IsAliveResponse;
+import cz.kb.openbanking.adaa.client.model.generated.PostAccountIdsRequest;
+import cz.kb.openbanking.adaa.client.model.generated.PostAccountIdsResponse;
+import cz.kb.openbanking.adaa.client.model.generated.Statement;
+import cz.kb.openbanking.adaa.client.model.generated.SubscriptionInfo;
+import cz.kb.openbanking.adaa.client.model.generated.SubscriptionRequest;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.glassfish.jersey.jackson.internal.jackson.jaxrs.json.JacksonJaxbJsonProvider;
+
+/**
+ * Client-scoped JSON support of the ADAA client.
+ * Holds one {@link ObjectMapper} together with the JAX-RS provider that uses it and readers
+ * of all ADAA response types. The readers are created eagerly, so the (de)serializers
+ * are resolved once per client and not during the first request.
+ *
+ * @since 1.3
+ */
+final class JsonSupport {
+
+    /**
+     * Jackson's mapper shared by all requests of one client.
+     */
+    private final ObjectMapper objectMapper;
+
+    /**
+     * JAX-RS JSON provider backed by {@link #objectMapper}.
+     */
+    private final JacksonJaxbJsonProvider jsonProvider;
+
+    /**
+     * Reader of the {@link ErrorResponse}.
+     */
+    private final ObjectReader errorResponseReader;
+
+    /**
+     * Reader of one {@link AccountTransaction}, used by streaming reading of transaction pages.
+     */
+    private final ObjectReader transactionReader;
+
+    /**
+     * New instance.
+     *
+     * @param objectMapper Jackson's mapper, must be able to (de)serialize {@code java.time} types
+     */
+    JsonSupport(ObjectMapper objectMapper) {
+        if (objectMapper == null) {
+            throw new IllegalArgumentException("objectMapper must not be null");
+        }
+
+        this.objectMapper = objectMapper;
+        this.jsonProvider = new JacksonJaxbJsonProvider();
+        this.jsonProvider.setMapper(objectMapper);
+        this.errorResponseReader = objectMapper.readerFor(ErrorResponse.class);
+        this.transactionReader = objectMapper.readerFor(AccountTransaction.class);
+
+        // the readers are not used directly, creating them resolves and caches root deserializers in the mapper
+        objectMapper.readerFor(new TypeReference<PageSlice<AccountTransaction>>() {
+        });
+        objectMapper.readerFor(new TypeReference<List<Account>>() {
+        });
+        objectMapper.readerFor(new TypeReference<List<AccountBalance>>() {
+        });
+        objectMapper.readerFor(new TypeReference<List<Statement>>() {
+        });
+        objectMapper.readerFor(IsAliveResponse.class);
+        objectMapper.readerFor(PostAccountIdsResponse.class);
+        objectMapper.readerFor(SubscriptionInfo.class);
+        // the same for serializers of the request entities
+        objectMapper.writerFor(PostAccountIdsRequest.class);
+        objectMapper.writerFor(SubscriptionRequest.class);
+    }
+
+    /**
+     * Creates default {@link ObjectMapper} of the ADAA client with registered {@link JavaTimeModule}.
+     *
+     * @return new {@link ObjectMapper}
+     */
+    static ObjectMapper createObjectMapper() {
+        return new ObjectMapper().registerModule(new JavaTimeModule());
+    }
+
+    /**
+     * Parses the {@link ErrorResponse} from the response's body.
+     *
+     * @param errorBody response's body
+     * @return {@link ErrorResponse}
+     * @throws IOException if the body is not valid {@link ErrorResponse}
+     */
+    ErrorResponse readErrorResponse(String errorBody) throws IOException {
+        return errorResponseReader.readValue(errorBody);
+    }
+
+    /**
+     * Reads a page of transactions token by token and hands each transaction to the consumer as soon as it's parsed,
+     * so the transactions of the page are never held in memory together.
+     *
+     * @param body     body of the response with the page, it's not closed
+     * @param consumer consumer of the transactions
+     * @return metadata of the page with empty content
+     * @throws IOException if the body is not a valid page of transactions
+     */
+    PageSlice<AccountTransaction> readTransactionPage(InputStream body, Consumer<? super AccountTransaction> consumer)
+            throws IOException {
+        int totalPages = 0;
+        int pageNumber = 0;
+        int pageSize = 0;
+        int numberOfElements = 0;
+        boolean first = false;
+        boolean last = false;
+        boolean empty = false;
+
+        try (JsonParser parser = objectMapper.getFactory().createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Page of transactions must be a JSON object.");
+            }
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                switch (field) {
+                    case "content":
+                        if (value == JsonToken.START_ARRAY) {
+                            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                                consumer.accept(transactionReader.readValue(parser));
+                            }
+                        }
+                        break;
+                    case "totalPages":
+                        totalPages = parser.getValueAsInt();
+                        break;
+                    case "pageNumber":
+                        pageNumber = parser.getValueAsInt();
+                        break;
+                    case "pageSize":
+                        pageSize = parser.getValueAsInt();
+                        break;
+                    case "numberOfElements":
+                        numberOfElements = parser.getValueAsInt();
+                        break;
+                    case "first":
+                        first = parser.getValueAsBoolean();
+                        break;
+                    case "last":
+                        last = parser.getValueAsBoolean();
+                        break;
+                    case "empty":
+                        empty = parser.getValueAsBoolean();
+                        break;
+                    default:
+                        parser.skipChildren();
+                }
+            }
+        }
+
+        try {
+            return new PageSlice<>(Collections.emptyList(), totalPages, pageNumber, pageSize, numberOfElements, first,
+                    last, empty);
+        } catch (IllegalArgumentException e) {
+            throw new IOException("Page of transactions has invalid metadata. Error: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Gets {@link ObjectMapper}.
+     *
+     * @return {@link ObjectMapper}
+     */
+    ObjectMapper getObjectMapper() {
+        return objectMapper;
+    }
+
+    /**
+     * Gets JAX-RS JSON provider backed by the client's {@link ObjectMapper}.
+     *
+     * @return {@link JacksonJaxbJsonProvider}
+     */
+    JacksonJaxbJsonProvider getJsonProvider() {
+        return jsonProvider;
+    }
+}
@@ -0,0 +1,254 @@
+package cz.kb.openbanking.adaa.client.jersey;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nullable;
+
+import cz.kb.openbanking.adaa.client.api.exception.ItemSearchException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Access token of a session obtained from a {@link TokenProvider}.
+ * <p>
+ * The token is fetched by its first use and refreshed ahead of its expiration, but only if it was used since
+ * the last refresh, so a session that is no longer used stops refreshing. An expired or rejected token is refreshed
+ * on demand, concurrent callers share the same refresh. The provider is always called on the refresh executor,
+ * the scheduler only triggers the proactive refresh and asynchronous callers chain on the refreshed token,
+ * so neither of them is blocked by the provider.
+ *
+ * @since 1.3
+ */
+final class ManagedToken {
+
+    private static final Logger log = LoggerFactory.getLogger(ManagedToken.class);
+
+    private final TokenProvider tokenProvider;
+
+    /**
+     * How long before the expiration the token is refreshed.
+     */
+    private final Duration refreshAhead;
+
+    private final ScheduledExecutorService scheduler;
+
+    private final Executor refreshExecutor;
+
+    /**
+     * Current token, {@code null} until the first use.
+     */
+    @Nullable
+    private volatile AccessToken current;
+
+    /**
+     * Refresh in progress, {@code null} if there is none. Guarded by this.
+     */
+    @Nullable
+    private CompletableFuture<AccessToken> pendingRefresh;
+
+    /**
+     * Whether the current token was used since it was fetched.
+     */
+    private volatile boolean used;
+
+    /**
+     * New instance.
+     *
+     * @param tokenProvider   provider of the tokens
+     * @param refreshAhead    how long before the expiration the token is refreshed
+     * @param scheduler       scheduler of the proactive refresh
+     * @param refreshExecutor executor calling the provider
+     */
+    ManagedToken(TokenProvider tokenProvider, Duration refreshAhead, ScheduledExecutorService scheduler,
+                 Executor refreshExecutor) {
+        if (tokenProvider == null) {
+            throw new IllegalArgumentException("tokenProvider must not be null");
+        }
+        if (refreshAhead == null || refreshAhead.isNegative()) {
+            throw new IllegalArgumentException("refreshAhead must not be null or negative");
+        }
+        if (scheduler == null) {
+            throw new IllegalArgumentException("scheduler must not be null");
+        }
+        if (refreshExecutor == null) {
+            throw new IllegalArgumentException("refreshExecutor must not be null");
+        }
+
+        this.tokenProvider = tokenProvider;
+        this.refreshAhead = refreshAhead;
+        this.scheduler = scheduler;
+        this.refreshExecutor = refreshExecutor;
+    }
+
+    /**
+     * Gets a valid token, waits for the refresh of an expired token.
+     *
+     * @return {@link AccessToken}
+     * @throws ItemSearchException if the token can't be obtained
+     */
+    AccessToken get() throws ItemSearchException {
+        return AbstractItemSearch.await(getAsync());
+    }
+
+    /**
+     * Gets a valid token asynchronously, an expired token is refreshed first.
+     *
+     * @return stage that is completed with the {@link AccessToken}, or with {@link ItemSearchException}
+     *         if the token can't be obtained
+     */
+    CompletionStage<AccessToken> getAsync() {
+        AccessToken token = current;
+        if (token != null && !token.isExpired(Instant.now())) {
+            used = true;
+            return CompletableFuture.completedFuture(token);
+        }
+        return refreshAsync(token == null ? null : token.getAuthorizationHeaderValue()).thenApply(fresh -> {
+            used = true;
+            return fresh;
+        });
+    }
+
+    /**
+     * Refreshes the token unless it was already refreshed by another caller, waits for the refresh.
+     *
+     * @param staleAuthorization authorization header value of the stale token, e.g. rejected by the API
+     * @return fresh {@link AccessToken}
+     * @throws ItemSearchException if the token can't be obtained
+     */
+    AccessToken refresh(@Nullable String staleAuthorization) throws ItemSearchException {
+        return AbstractItemSearch.await(refreshAsync(staleAuthorization));
+    }
+
+    /**
+     * Refreshes the token asynchronously unless it was already refreshed by another caller.
+     * A refresh already in progress is shared.
+     *
+     * @param staleAuthorization authorization header value of the stale token, e.g. rejected by the API
+     * @return stage that is completed with fresh {@link AccessToken}, or with {@link ItemSearchException}
+     *         if the token can't be obtained
+     */
+    CompletionStage<AccessToken> refreshAsync(@Nullable String staleAuthorization) {
+        CompletableFuture<AccessToken> result;
+        synchronized (this) {
+            AccessToken token = current;
+            if (token != null && !token.isExpired(Instant.now())
+                    && !token.getAuthorizationHeaderValue().equals(staleAuthorization)) {
+                return CompletableFuture.completedFuture(token);
+            }
+            if (pendingRefresh != null) {
+                return pendingRefresh;
+            }
+            result = new CompletableFuture<>();
+            pendingRefresh = result;
+        }
+
+        try {
+            refreshExecutor.execute(() -> runRefresh(result));
+        } catch (RejectedExecutionException e) {
+            complete(result, null, new ItemSearchException("Access token couldn't be obtained, the client is closed."));
+        }
+        return result;
+    }
+
+    /**
+     * Fetches the token from the provider and completes the pending refresh.
+     *
+     * @param result pending refresh
+     */
+    private void runRefresh(CompletableFuture<AccessToken> result) {
+        try {
+            complete(result, fetch(), null);
+        } catch (ItemSearchException e) {
+            complete(result, null, e);
+        }
+    }
+
+    private AccessToken fetch() throws ItemSearchException {
+        AccessToken token;
+        try {
+            token = tokenProvider.fetchToken();
+        } catch (ItemSearchException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            log.error("Fetching of access token ends with error. Error: " + e.getMessage(), e);
+            throw new ItemSearchException("Access token couldn't be obtained. Error: " + e.getMessage());
+        }
+        if (token == null) {
+            throw new ItemSearchException("Token provider returned no access token.");
+        }
+
+        log.debug("Access token fetched, it expires at {}.", token.getExpiresAt());
+        return token;
+    }
+
+    /**
+     * Ends the pending refresh, the fetched token replaces the current one.
+     *
+     * @param result pending refresh
+     * @param token  fetched token, {@code null} if the refresh failed
+     * @param error  error of the refresh, {@code null} if the token was fetched
+     */
+    private void complete(CompletableFuture<AccessToken> result, @Nullable AccessToken token,
+                          @Nullable ItemSearchException error) {
+        synchronized (this) {
+            pendingRefresh = null;
+            if (token != null) {
+                current = token;
+                scheduleRefresh(token);
+            }
+        }
+
+        // the callers waiting for the refresh continue outside the monitor
+        if (token != null) {
+            result.complete(token);
+        } else {
+            result.completeExceptionally(error);
+        }
+    }
+
+    /**
+     * Schedules the refresh of the token ahead of its expiration, at the half of its lifetime at the latest.
+     *
+     * @param token fetched token
+     */
+    private void scheduleRefresh(AccessToken token) {
+        used = false;
+        if (token.getExpiresAt() == null) {
+            return;
+        }
+
+        long lifetime = Duration.between(Instant.now(), token.getExpiresAt()).toMillis();
+        long delay = Math.max(lifetime - refreshAhead.toMillis(), lifetime / 2);
+        if (delay <= 0) {
+            return;
+        }
+        try {
+            scheduler.schedule(() -> refreshAhead(token), delay, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            log.debug("Refresh of access token is not scheduled, the client is closed.");
+        }
+    }
+
+    private void refreshAhead(AccessToken token) {
+        if (current != token) {
+            return;
+        }
+        if (!used) {
+            log.debug("Access token was not used since the last refresh, it will be refreshed on demand.");
+            return;
+        }
+
+        refreshAsync(token.getAuthorizationHeaderValue()).whenComplete((fresh, throwable) -> {
+            if (throwable != null) {
+                log.warn("Refresh of access token ahead of its expiration failed, it will be refreshed on demand. "
+                        + "Error: {}", AbstractItemSearch.unwrap(throwable).getMessage());
+            }
+        });
+    }
+}
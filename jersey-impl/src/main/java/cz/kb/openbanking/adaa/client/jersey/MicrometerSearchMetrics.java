@@ -0,0 +1,240 @@
+package cz.kb.openbanking.adaa.client.jersey;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.annotation.Nullable;
+import javax.ws.rs.core.Response;
+
+import cz.kb.openbanking.adaa.client.api.exception.ItemSearchException;
+import cz.kb.openbanking.adaa.client.model.generated.Error;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * {@link SearchMetrics} recorded to a Micrometer {@link MeterRegistry}.
+ * All meters are tagged by the {@code resource}:
+ * <ul>
+ *     <li>{@code adaa.client.requests} - timer of the calls with percentile histogram,
+ *     tagged also by the HTTP {@code status} ({@code NONE} if no response was received)
+ *     and the {@code outcome} ({@code SUCCESS} or {@code ERROR})</li>
+ *     <li>{@code adaa.client.errors} - counter of the error codes of failed calls,
+ *     tagged also by the {@code status} and the error {@code code} ({@code NONE} if the API returned no error)</li>
+ *     <li>{@code adaa.client.retries} - counter of retried attempts, tagged also by the {@code status}
+ *     of the failed attempt</li>
+ *     <li>{@code adaa.client.response.size} - summary of received bytes according to {@code Content-Length}</li>
+ *     <li>{@code adaa.client.response.body.received} - summary of bytes of the read entities as received,
+ *     tagged also by the {@code encoding} ({@code identity} if not compressed)</li>
+ *     <li>{@code adaa.client.response.body.decoded} - summary of bytes of the read entities after decompression,
+ *     tagged also by the {@code encoding}</li>
+ *     <li>{@code adaa.client.requests.active} - gauge of the calls in progress</li>
+ *     <li>{@code adaa.client.queue.wait} - timer of the waits of the requests for the client-side throttling</li>
+ * </ul>
+ *
+ * @since 1.3
+ */
+final class MicrometerSearchMetrics implements SearchMetrics {
+
+    static final String REQUESTS_METER_NAME = "adaa.client.requests";
+
+    static final String ERRORS_METER_NAME = "adaa.client.errors";
+
+    static final String RETRIES_METER_NAME = "adaa.client.retries";
+
+    static final String RESPONSE_SIZE_METER_NAME = "adaa.client.response.size";
+
+    static final String RECEIVED_BODY_SIZE_METER_NAME = "adaa.client.response.body.received";
+
+    static final String DECODED_BODY_SIZE_METER_NAME = "adaa.client.response.body.decoded";
+
+    static final String ACTIVE_REQUESTS_METER_NAME = "adaa.client.requests.active";
+
+    static final String QUEUE_WAIT_METER_NAME = "adaa.client.queue.wait";
+
+    private static final String RESOURCE_TAG = "resource";
+
+    private static final String STATUS_TAG = "status";
+
+    private static final String OUTCOME_TAG = "outcome";
+
+    private static final String CODE_TAG = "code";
+
+    private static final String ENCODING_TAG = "encoding";
+
+    private static final String IDENTITY_ENCODING = "identity";
+
+    private static final String NONE = "NONE";
+
+    /**
+     * Counters of the calls in progress by registry. A gauge is registered only once per registry and tags,
+     * so all clients recording to the same registry must share its counters.
+     */
+    private static final Map<MeterRegistry, Map<AdaaResource, AtomicInteger>> ACTIVE_REQUESTS =
+            new WeakHashMap<>();
+
+    private final MeterRegistry meterRegistry;
+
+    private final Map<AdaaResource, AtomicInteger> activeRequests;
+
+    private final Map<AdaaResource, DistributionSummary> responseSizes = new EnumMap<>(AdaaResource.class);
+
+    private final Map<AdaaResource, Timer> queueWaits = new EnumMap<>(AdaaResource.class);
+
+    /**
+     * New instance.
+     *
+     * @param meterRegistry registry to record the metrics to
+     */
+    MicrometerSearchMetrics(MeterRegistry meterRegistry) {
+        if (meterRegistry == null) {
+            throw new IllegalArgumentException("meterRegistry must not be null");
+        }
+
+        this.meterRegistry = meterRegistry;
+        this.activeRequests = getActiveRequests(meterRegistry);
+        for (AdaaResource resource : AdaaResource.values()) {
+            responseSizes.put(resource, DistributionSummary.builder(RESPONSE_SIZE_METER_NAME)
+                    .description("Size of ADAA API responses")
+                    .baseUnit("bytes")
+                    .tag(RESOURCE_TAG, resource.getResourceName())
+                    .register(meterRegistry));
+            queueWaits.put(resource, Timer.builder(QUEUE_WAIT_METER_NAME)
+                    .description("Time ADAA API requests waited for the client-side throttling")
+                    .tag(RESOURCE_TAG, resource.getResourceName())
+                    .register(meterRegistry));
+        }
+    }
+
+    /**
+     * Gets counters of the calls in progress shared by all clients recording to the registry,
+     * their gauges are registered by the first client.
+     *
+     * @param meterRegistry registry to record the metrics to
+     * @return counters by resource
+     */
+    private static Map<AdaaResource, AtomicInteger> getActiveRequests(MeterRegistry meterRegistry) {
+        synchronized (ACTIVE_REQUESTS) {
+            Map<AdaaResource, AtomicInteger> result = ACTIVE_REQUESTS.get(meterRegistry);
+            if (result == null) {
+                result = new EnumMap<>(AdaaResource.class);
+                for (AdaaResource resource : AdaaResource.values()) {
+                    AtomicInteger counter = new AtomicInteger();
+                    // the registry holds the counter, the map of registries holds it weakly only
+                    Gauge.builder(ACTIVE_REQUESTS_METER_NAME, counter, AtomicInteger::get)
+                            .description("ADAA API calls in progress")
+                            .tag(RESOURCE_TAG, resource.getResourceName())
+                            .strongReference(true)
+                            .register(meterRegistry);
+                    result.put(resource, counter);
+                }
+                ACTIVE_REQUESTS.put(meterRegistry, result);
+            }
+            return result;
+        }
+    }
+
+    @Override
+    public Sample start(AdaaResource resource) {
+        return new MicrometerSample(resource);
+    }
+
+    /**
+     * {@link Sample} measured by Micrometer's {@link Timer.Sample}.
+     */
+    private final class MicrometerSample implements Sample {
+
+        private final AdaaResource resource;
+
+        private final Timer.Sample timerSample;
+
+        /**
+         * Status of the last received response, the attempts may be received by different threads.
+         */
+        private volatile String status = NONE;
+
+        private MicrometerSample(AdaaResource resource) {
+            this.resource = resource;
+            this.timerSample = Timer.start(meterRegistry);
+            activeRequests.get(resource).incrementAndGet();
+        }
+
+        @Override
+        public void received(Response response) {
+            status = String.valueOf(response.getStatus());
+            if (response.getLength() >= 0) {
+                responseSizes.get(resource).record(response.getLength());
+            }
+        }
+
+        @Override
+        public void bodyRead(@Nullable String contentEncoding, long receivedBytes, long decodedBytes) {
+            String encoding = contentEncoding == null ? IDENTITY_ENCODING : contentEncoding;
+            DistributionSummary.builder(RECEIVED_BODY_SIZE_METER_NAME)
+                    .description("Size of read ADAA API response entities as received")
+                    .baseUnit("bytes")
+                    .tag(RESOURCE_TAG, resource.getResourceName())
+                    .tag(ENCODING_TAG, encoding)
+                    .register(meterRegistry)
+                    .record(receivedBytes);
+            DistributionSummary.builder(DECODED_BODY_SIZE_METER_NAME)
+                    .description("Size of read ADAA API response entities after decompression")
+                    .baseUnit("bytes")
+                    .tag(RESOURCE_TAG, resource.getResourceName())
+                    .tag(ENCODING_TAG, encoding)
+                    .register(meterRegistry)
+                    .record(decodedBytes);
+        }
+
+        @Override
+        public void retried() {
+            Counter.builder(RETRIES_METER_NAME)
+                    .description("Retried attempts of ADAA API calls")
+                    .tag(RESOURCE_TAG, resource.getResourceName())
+                    .tag(STATUS_TAG, status)
+                    .register(meterRegistry)
+                    .increment();
+            status = NONE;
+        }
+
+        @Override
+        public void queued(long waitNanos) {
+            queueWaits.get(resource).record(waitNanos, TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public void stop(@Nullable ItemSearchException error) {
+            activeRequests.get(resource).decrementAndGet();
+            timerSample.stop(Timer.builder(REQUESTS_METER_NAME)
+                    .description("Calls of ADAA API")
+                    .tag(RESOURCE_TAG, resource.getResourceName())
+                    .tag(STATUS_TAG, status)
+                    .tag(OUTCOME_TAG, error == null ? "SUCCESS" : "ERROR")
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+
+            if (error != null) {
+                if (error.getErrors().isEmpty()) {
+                    countError(NONE);
+                }
+                for (Error apiError : error.getErrors()) {
+                    countError(apiError.getCode() == null ? NONE : apiError.getCode());
+                }
+            }
+        }
+
+        private void countError(String code) {
+            Counter.builder(ERRORS_METER_NAME)
+                    .description("Errors of ADAA API calls")
+                    .tag(RESOURCE_TAG, resource.getResourceName())
+                    .tag(STATUS_TAG, status)
+                    .tag(CODE_TAG, code)
+                    .register(meterRegistry)
+                    .increment();
+        }
+    }
+}
@@ -1,9 +1,21 @@
 package cz.kb.openbanking.adaa.client.jersey;
 
+import cz.kb.openbanking.adaa.client.api.exception.ItemSearchException;
 import cz.kb.openbanking.adaa.client.api.search.PdfStatementSearch;
 
 import javax.ws.rs.client.WebTarget;
 import javax.ws.rs.core.GenericType;
+import javax.ws.rs.core.Response;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 
 /**
  * Jersey implementation of the {@link PdfStatementSearch}.
@@ -14,15 +26,105 @@ import javax.ws.rs.core.GenericType;
  */
 final class PdfStatementSearchImpl extends AbstractItemSearch<byte[]> implements PdfStatementSearch {
 
+    /**
+     * Size of the buffer used to copy the document.
+     */
+    private static final int BUFFER_SIZE = 16 * 1024;
+
     /**
      * New instance.
      *
      * @param webTarget         {@link WebTarget}
      * @param requestParameters {@link RequestParameters}
+     * @param searchContext     client-scoped infrastructure
      * @param responseClass     specific type of the response class
      */
     public PdfStatementSearchImpl(WebTarget webTarget, RequestParameters requestParameters,
-                                  GenericType<byte[]> responseClass) {
-        super(webTarget, requestParameters, responseClass);
+                                  SearchContext searchContext, GenericType<byte[]> responseClass) {
+        super(webTarget, requestParameters, searchContext, responseClass);
+    }
+
+    @Override
+    AdaaResource getResource() {
+        return AdaaResource.STATEMENT_PDF;
+    }
+
+    @Override
+    public InputStream findAsStream() throws ItemSearchException {
+        Response response = findResponse();
+        try {
+            return response.readEntity(InputStream.class);
+        } catch (RuntimeException e) {
+            // the stream is not handed over, thus the pooled connection must be released here
+            response.close();
+            log.error("Reading of statement ends with error. Error: " + e.getMessage(), e);
+            throw new ItemSearchException("Error occurred during reading statement. Error: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public long downloadTo(Path target) throws ItemSearchException {
+        if (target == null) {
+            throw new IllegalArgumentException("target must not be null");
+        }
+
+        try (InputStream document = findAsStream();
+             FileChannel file = FileChannel.open(target, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                     StandardOpenOption.TRUNCATE_EXISTING)) {
+            return copy(document, file);
+        } catch (IOException e) {
+            log.error("Downloading of statement to file '{}' ends with error. Error: {}", target, e.getMessage(), e);
+            deletePartialFile(target);
+            throw new ItemSearchException("Error occurred during downloading statement. Error: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public long transferTo(WritableByteChannel target) throws ItemSearchException {
+        if (target == null) {
+            throw new IllegalArgumentException("target must not be null");
+        }
+
+        try (InputStream document = findAsStream()) {
+            return copy(document, target);
+        } catch (IOException e) {
+            log.error("Transferring of statement ends with error. Error: " + e.getMessage(), e);
+            throw new ItemSearchException("Error occurred during downloading statement. Error: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Copies the document to the channel through one reused buffer.
+     *
+     * @param document stream of the document
+     * @param target   channel to write the document to
+     * @return number of copied bytes
+     * @throws IOException if an I/O error occurs
+     */
+    private static long copy(InputStream document, WritableByteChannel target) throws IOException {
+        ReadableByteChannel source = Channels.newChannel(document);
+        ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        long result = 0;
+        while (source.read(buffer) != -1) {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                result += target.write(buffer);
+            }
+            buffer.clear();
+        }
+        return result;
+    }
+
+    /**
+     * Deletes partially written file after an error.
+     *
+     * @param target partially written file
+     */
+    private void deletePartialFile(Path target) {
+        try {
+            Files.deleteIfExists(target);
+        } catch (IOException e) {
+            log.warn("Partially written file '{}' can't be deleted. Error: {}", target, e.getMessage());
+        }
     }
 }
@@ -0,0 +1,128 @@
+package cz.kb.openbanking.adaa.client.jersey;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces identical concurrent ADAA API requests (single-flight).
+ * The first caller of a {@link RequestKey} executes the exchange, callers with the same key arriving
+ * before the exchange completes share its result or error instead of calling the API again.
+ * The key is released just before the result is published, so later callers start a new exchange.
+ * Thread-safe.
+ *
+ * @since 1.3
+ */
+final class RequestCoalescer {
+
+    /**
+     * Results of the exchanges in progress.
+     */
+    private final ConcurrentMap<RequestKey, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * Number of callers served by an exchange of another caller.
+     */
+    private final LongAdder coalescedCount = new LongAdder();
+
+    /**
+     * Executes a synchronous exchange or waits for the result of the same exchange in progress.
+     * The exchange is executed in the calling thread.
+     *
+     * @param key      identity of the request
+     * @param exchange exchange to execute
+     * @param <T>      type of the result
+     * @return result of the exchange
+     */
+    <T> T execute(RequestKey key, Supplier<T> exchange) {
+        CompletableFuture<Object> result = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, result);
+        if (existing != null) {
+            coalescedCount.increment();
+            return cast(AbstractItemSearch.await(existing));
+        }
+
+        try {
+            T value = exchange.get();
+            inFlight.remove(key, result);
+            result.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            inFlight.remove(key, result);
+            result.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * Executes an asynchronous exchange or joins the same exchange in progress.
+     *
+     * @param key      identity of the request
+     * @param exchange exchange to execute
+     * @param <T>      type of the result
+     * @return stage completed with the result of the exchange, own for each caller
+     */
+    <T> CompletionStage<T> executeAsync(RequestKey key, Supplier<? extends CompletionStage<T>> exchange) {
+        CompletableFuture<Object> result = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, result);
+        if (existing != null) {
+            coalescedCount.increment();
+            return forward(existing);
+        }
+
+        CompletionStage<T> stage;
+        try {
+            stage = exchange.get();
+        } catch (RuntimeException | Error e) {
+            inFlight.remove(key, result);
+            result.completeExceptionally(e);
+            throw e;
+        }
+
+        stage.whenComplete((value, throwable) -> {
+            inFlight.remove(key, result);
+            if (throwable == null) {
+                result.complete(value);
+            } else {
+                result.completeExceptionally(throwable);
+            }
+        });
+        return forward(result);
+    }
+
+    /**
+     * Gets number of callers served by an exchange of another caller.
+     *
+     * @return number of coalesced requests
+     */
+    long getCoalescedCount() {
+        return coalescedCount.sum();
+    }
+
+    /**
+     * Creates a stage completed the same way as the shared result, so no caller can complete the shared one.
+     *
+     * @param shared shared result of an exchange
+     * @param <T>    type of the result
+     * @return new stage
+     */
+    private static <T> CompletionStage<T> forward(CompletableFuture<Object> shared) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        shared.whenComplete((value, throwable) -> {
+            if (throwable == null) {
+                result.complete(cast(value));
+            } else {
+                result.completeExceptionally(throwable);
+            }
+        });
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T cast(Object value) {
+        return (T) value;
+    }
+}
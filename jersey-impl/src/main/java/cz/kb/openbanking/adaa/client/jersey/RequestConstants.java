@@ -20,6 +20,8 @@ final class RequestConstants {
 
     public static final String STATEMENT_ID_PATH_VAR_NAME = "statementId";
 
+    public static final String SUBSCRIPTION_ID_PATH_VAR_NAME = "subscriptionId";
+
     public static final String STATEMENTS_DATE_FROM_PARAM_NAME = "dateFrom";
 
     public static final String CORRELATION_ID_HEADER_NAME = "x-correlation-id";
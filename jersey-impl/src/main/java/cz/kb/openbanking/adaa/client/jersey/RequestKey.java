@@ -0,0 +1,61 @@
+package cz.kb.openbanking.adaa.client.jersey;
+
+import java.net.URI;
+import java.util.Objects;
+
+/**
+ * Identity of an ADAA API request: access token and full URI of the request (resource with all parameters).
+ * Requests with the same key return the same data.
+ *
+ * @since 1.3
+ */
+final class RequestKey {
+
+    private final URI uri;
+
+    private final String accessToken;
+
+    /**
+     * New instance.
+     *
+     * @param uri         full URI of the request
+     * @param accessToken access token of the request
+     */
+    RequestKey(URI uri, String accessToken) {
+        if (uri == null) {
+            throw new IllegalArgumentException("uri must not be null");
+        }
+        if (accessToken == null) {
+            throw new IllegalArgumentException("accessToken must not be null");
+        }
+
+        this.uri = uri;
+        this.accessToken = accessToken;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof RequestKey)) {
+            return false;
+        }
+
+        RequestKey that = (RequestKey) o;
+        return uri.equals(that.uri) && accessToken.equals(that.accessToken);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(uri, accessToken);
+    }
+
+    /**
+     * Access token is not part of the string representation.
+     */
+    @Override
+    public String toString() {
+        return uri.toString();
+    }
+}
@@ -1,5 +1,9 @@
 package cz.kb.openbanking.adaa.client.jersey;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import javax.annotation.Nullable;
+
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.builder.EqualsBuilder;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
@@ -19,10 +23,38 @@ public class RequestParameters {
     private final String apiKey;
 
     /**
-     * Authorization token to use during calling the ADAA API.
+     * Authorization token to use during calling the ADAA API, {@code null} if the token is managed.
      */
+    @Nullable
     private final String accessToken;
 
+    /**
+     * Token obtained from a {@link TokenProvider}, {@code null} if the access token is given.
+     */
+    @Nullable
+    private final ManagedToken managedToken;
+
+    /**
+     * Value of the API key header, computed once for all requests with these parameters.
+     */
+    private final String apiKeyHeaderValue;
+
+    /**
+     * Value of the authorization header, computed once for all requests with these parameters,
+     * {@code null} if the token is managed.
+     */
+    @Nullable
+    private final String authorizationHeaderValue;
+
+    /**
+     * Completed stages of the given access token and its authorization header, {@code null} if the token is managed.
+     */
+    @Nullable
+    private final CompletionStage<String> accessTokenStage;
+
+    @Nullable
+    private final CompletionStage<String> authorizationHeaderStage;
+
     /**
      * New instance.
      *
@@ -39,6 +71,35 @@ public class RequestParameters {
 
         this.apiKey = apiKey;
         this.accessToken = accessToken;
+        this.managedToken = null;
+        this.apiKeyHeaderValue = "Bearer " + apiKey;
+        this.authorizationHeaderValue = "Bearer " + accessToken;
+        this.accessTokenStage = CompletableFuture.completedFuture(accessToken);
+        this.authorizationHeaderStage = CompletableFuture.completedFuture(authorizationHeaderValue);
+    }
+
+    /**
+     * New instance with the access token obtained from a {@link TokenProvider}.
+     *
+     * @param apiKey       API key to use to authorize a request against KB API store
+     * @param managedToken token obtained from a {@link TokenProvider}
+     * @since 1.3
+     */
+    RequestParameters(String apiKey, ManagedToken managedToken) {
+        if (StringUtils.isBlank(apiKey)) {
+            throw new IllegalArgumentException("apiKey must not be empty");
+        }
+        if (managedToken == null) {
+            throw new IllegalArgumentException("managedToken must not be null");
+        }
+
+        this.apiKey = apiKey;
+        this.accessToken = null;
+        this.managedToken = managedToken;
+        this.apiKeyHeaderValue = "Bearer " + apiKey;
+        this.authorizationHeaderValue = null;
+        this.accessTokenStage = null;
+        this.authorizationHeaderStage = null;
     }
 
     /**
@@ -51,12 +112,75 @@ public class RequestParameters {
     }
 
     /**
-     * Returns access token.
+     * Returns access token. The managed token is fetched if it's not valid.
      *
      * @return access token
+     * @throws cz.kb.openbanking.adaa.client.api.exception.ItemSearchException if the managed token
+     *                                                                        can't be obtained
      */
     public String getAccessToken() {
-        return accessToken;
+        return managedToken == null ? accessToken : managedToken.get().getValue();
+    }
+
+    /**
+     * Returns value of the API key header.
+     *
+     * @return {@code Bearer} API key
+     * @since 1.3
+     */
+    String getApiKeyHeaderValue() {
+        return apiKeyHeaderValue;
+    }
+
+    /**
+     * Returns value of the authorization header. The managed token is fetched if it's not valid.
+     *
+     * @return {@code Bearer} access token
+     * @throws cz.kb.openbanking.adaa.client.api.exception.ItemSearchException if the managed token
+     *                                                                        can't be obtained
+     * @since 1.3
+     */
+    String getAuthorizationHeaderValue() {
+        return managedToken == null ? authorizationHeaderValue : managedToken.get().getAuthorizationHeaderValue();
+    }
+
+    /**
+     * Returns access token asynchronously, so the caller isn't blocked by a refresh of the managed token.
+     *
+     * @return stage that is completed with the access token, or with
+     *         {@link cz.kb.openbanking.adaa.client.api.exception.ItemSearchException} if the managed token
+     *         can't be obtained
+     * @since 1.3
+     */
+    CompletionStage<String> getAccessTokenAsync() {
+        return managedToken == null ? accessTokenStage : managedToken.getAsync().thenApply(AccessToken::getValue);
+    }
+
+    /**
+     * Returns value of the authorization header asynchronously, so the caller isn't blocked by a refresh
+     * of the managed token.
+     *
+     * @return stage that is completed with {@code Bearer} access token, or with
+     *         {@link cz.kb.openbanking.adaa.client.api.exception.ItemSearchException} if the managed token
+     *         can't be obtained
+     * @since 1.3
+     */
+    CompletionStage<String> getAuthorizationHeaderValueAsync() {
+        if (managedToken == null) {
+            return authorizationHeaderStage;
+        }
+        return managedToken.getAsync().thenApply(AccessToken::getAuthorizationHeaderValue);
+    }
+
+    /**
+     * Returns the token obtained from a {@link TokenProvider}.
+     *
+     * @return managed token, {@code null} if the access token is given
+     * @since 1.3
+     */
+    @Nullable
+    ManagedToken getManagedToken() {
+        return managedToken;
     }
 
     @Override
@@ -69,7 +193,8 @@ public class RequestParameters {
 
         return new EqualsBuilder()
                 .append(getApiKey(), that.getApiKey())
-                .append(getAccessToken(), that.getAccessToken())
+                .append(accessToken, that.accessToken)
+                .append(managedToken, that.managedToken)
                 .isEquals();
     }
 
@@ -77,7 +202,8 @@ public class RequestParameters {
     public int hashCode() {
         return new HashCodeBuilder(17, 37)
                 .append(getApiKey())
-                .append(getAccessToken())
+                .append(accessToken)
+                .append(managedToken)
                 .toHashCode();
     }
 
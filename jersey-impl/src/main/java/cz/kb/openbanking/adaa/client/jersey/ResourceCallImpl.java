@@ -0,0 +1,78 @@
+package cz.kb.openbanking.adaa.client.jersey;
+
+import javax.annotation.Nullable;
+import javax.ws.rs.client.Entity;
+import javax.ws.rs.client.WebTarget;
+import javax.ws.rs.core.GenericType;
+
+import cz.kb.openbanking.adaa.client.api.search.ItemSearch;
+
+/**
+ * Jersey implementation of a call of an ADAA API resource with any HTTP method and request entity,
+ * e.g. creating of an event subscription.
+ *
+ * @param <RES> type of the response's class
+ * @see cz.kb.openbanking.adaa.client.api.AccountApi#createSubscription
+ * @since 1.3
+ */
+final class ResourceCallImpl<RES> extends AbstractItemSearch<RES> implements ItemSearch<RES> {
+
+    private final AdaaResource resource;
+
+    private final String method;
+
+    private final Entity<?> entity;
+
+    private final boolean idempotent;
+
+    /**
+     * New instance.
+     *
+     * @param webTarget         {@link WebTarget}
+     * @param requestParameters {@link RequestParameters}
+     * @param searchContext     client-scoped infrastructure
+     * @param responseClass     specific type of the response class
+     * @param resource          called ADAA API resource
+     * @param method            HTTP method of the call
+     * @param entity            entity of the request, {@code null} if the request has no entity
+     * @param idempotent        whether the call can be repeated without side effects, i.e. retried
+     */
+    ResourceCallImpl(WebTarget webTarget, RequestParameters requestParameters, SearchContext searchContext,
+                     GenericType<RES> responseClass, AdaaResource resource, String method,
+                     @Nullable Entity<?> entity, boolean idempotent) {
+        super(webTarget, requestParameters, searchContext, responseClass);
+
+        if (resource == null) {
+            throw new IllegalArgumentException("resource must not be null");
+        }
+        if (method == null) {
+            throw new IllegalArgumentException("method must not be null");
+        }
+
+        this.resource = resource;
+        this.method = method;
+        this.entity = entity;
+        this.idempotent = idempotent;
+    }
+
+    @Override
+    AdaaResource getResource() {
+        return resource;
+    }
+
+    @Override
+    String getMethod() {
+        return method;
+    }
+
+    @Override
+    boolean isIdempotent() {
+        return idempotent;
+    }
+
+    @Nullable
+    @Override
+    Entity<?> getEntity() {
+        return entity;
+    }
+}
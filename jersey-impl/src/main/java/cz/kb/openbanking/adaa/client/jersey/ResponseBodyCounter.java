@@ -0,0 +1,177 @@
+package cz.kb.openbanking.adaa.client.jersey;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import javax.annotation.Nullable;
+import javax.annotation.Priority;
+import javax.ws.rs.Priorities;
+import javax.ws.rs.core.Configurable;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.ext.ReaderInterceptor;
+import javax.ws.rs.ext.ReaderInterceptorContext;
+
+/**
+ * Counts bytes of read response entities as received from the connection and after decompression
+ * by Jersey's content encoders, and records them to the {@link SearchMetrics.Sample} of the call
+ * once the entity is read to its end or closed.
+ * The sample is passed to the interceptors by the request property {@link #SAMPLE_PROPERTY},
+ * entities of requests without the property are not counted.
+ *
+ * @since 1.3
+ */
+final class ResponseBodyCounter {
+
+    /**
+     * Name of the request property with the {@link SearchMetrics.Sample} of the call.
+     */
+    static final String SAMPLE_PROPERTY = ResponseBodyCounter.class.getName() + ".sample";
+
+    /**
+     * Name of the request property with the stream counting received bytes, passed between the interceptors.
+     */
+    private static final String RECEIVED_PROPERTY = ResponseBodyCounter.class.getName() + ".received";
+
+    private ResponseBodyCounter() {
+    }
+
+    /**
+     * Registers the counting interceptors around the decoding interceptors.
+     *
+     * @param configurable configurable to register the interceptors to, e.g. {@link javax.ws.rs.client.WebTarget}
+     * @param <C>          type of the configurable
+     * @return the configurable
+     */
+    static <C extends Configurable<C>> C register(C configurable) {
+        return configurable.register(ReceivedBytesInterceptor.class)
+                .register(DecodedBytesInterceptor.class);
+    }
+
+    /**
+     * Counts the bytes before decompression.
+     */
+    @Priority(Priorities.ENTITY_CODER - 1)
+    static final class ReceivedBytesInterceptor implements ReaderInterceptor {
+
+        @Override
+        public Object aroundReadFrom(ReaderInterceptorContext context) throws IOException {
+            if (context.getProperty(SAMPLE_PROPERTY) != null) {
+                CountingInputStream received = new CountingInputStream(context.getInputStream(),
+                        context.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING), null);
+                context.setInputStream(received);
+                context.setProperty(RECEIVED_PROPERTY, received);
+            }
+            return context.proceed();
+        }
+    }
+
+    /**
+     * Counts the bytes after decompression and records both counts when the entity is read.
+     */
+    @Priority(Priorities.ENTITY_CODER + 1)
+    static final class DecodedBytesInterceptor implements ReaderInterceptor {
+
+        @Override
+        public Object aroundReadFrom(ReaderInterceptorContext context) throws IOException {
+            Object sample = context.getProperty(SAMPLE_PROPERTY);
+            Object received = context.getProperty(RECEIVED_PROPERTY);
+            if (sample instanceof SearchMetrics.Sample && received instanceof CountingInputStream) {
+                context.removeProperty(RECEIVED_PROPERTY);
+                context.setInputStream(new CountingInputStream(context.getInputStream(),
+                        ((CountingInputStream) received).encoding,
+                        decoded -> ((SearchMetrics.Sample) sample).bodyRead(
+                                ((CountingInputStream) received).encoding,
+                                ((CountingInputStream) received).count,
+                                decoded.count)));
+            }
+            return context.proceed();
+        }
+    }
+
+    /**
+     * Stream counting read bytes, notifies its listener once on the end of the stream or on close.
+     * Not thread-safe, same as reading of an entity.
+     */
+    private static final class CountingInputStream extends FilterInputStream {
+
+        @Nullable
+        private final String encoding;
+
+        @Nullable
+        private Listener listener;
+
+        private long count;
+
+        private CountingInputStream(InputStream in, @Nullable String encoding, @Nullable Listener listener) {
+            super(in);
+            this.encoding = encoding;
+            this.listener = listener;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int result = super.read();
+            if (result < 0) {
+                finished();
+            } else {
+                count++;
+            }
+            return result;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int result = super.read(b, off, len);
+            if (result < 0) {
+                finished();
+            } else {
+                count += result;
+            }
+            return result;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long result = super.skip(n);
+            count += result;
+            return result;
+        }
+
+        @Override
+        public boolean markSupported() {
+            // reset would break the count
+            return false;
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                super.close();
+            } finally {
+                finished();
+            }
+        }
+
+        private void finished() {
+            if (listener != null) {
+                Listener finishedListener = listener;
+                listener = null;
+                finishedListener.finished(this);
+            }
+        }
+    }
+
+    /**
+     * Listener of the end of a {@link CountingInputStream}.
+     */
+    @FunctionalInterface
+    private interface Listener {
+
+        /**
+         * Called once the stream is read to its end or closed.
+         *
+         * @param stream finished stream
+         */
+        void finished(CountingInputStream stream);
+    }
+}
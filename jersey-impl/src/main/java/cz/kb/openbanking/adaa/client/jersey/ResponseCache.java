@@ -0,0 +1,181 @@
+package cz.kb.openbanking.adaa.client.jersey;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import javax.annotation.Nullable;
+import javax.ws.rs.core.EntityTag;
+
+/**
+ * Client-side cache of ADAA API responses with per-resource time to live and LRU eviction.
+ * Thread-safe.
+ *
+ * @see ResponseCacheSettings
+ * @since 1.3
+ */
+final class ResponseCache {
+
+    /**
+     * Time to live of cached responses of particular resources, a resource without time to live is not cached.
+     */
+    private final Map<AdaaResource, Duration> ttls = new EnumMap<>(AdaaResource.class);
+
+    /**
+     * Cached responses in access order, guarded by {@code this}.
+     */
+    private final LinkedHashMap<RequestKey, Entry> entries;
+
+    private final LongAdder hitCount = new LongAdder();
+
+    private final LongAdder missCount = new LongAdder();
+
+    private final LongAdder revalidationCount = new LongAdder();
+
+    private final LongAdder evictionCount = new LongAdder();
+
+    /**
+     * New instance.
+     *
+     * @param settings settings of the cache
+     */
+    ResponseCache(ResponseCacheSettings settings) {
+        if (settings == null) {
+            throw new IllegalArgumentException("settings must not be null");
+        }
+
+        if (settings.getAccountsTtl() != null) {
+            ttls.put(AdaaResource.ACCOUNTS, settings.getAccountsTtl());
+        }
+        if (settings.getBalancesTtl() != null) {
+            ttls.put(AdaaResource.BALANCES, settings.getBalancesTtl());
+        }
+
+        int maximumSize = settings.getMaximumSize();
+        this.entries = new LinkedHashMap<RequestKey, Entry>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<RequestKey, Entry> eldest) {
+                if (size() > maximumSize) {
+                    evictionCount.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Checks if responses of the resource are cached.
+     *
+     * @param resource ADAA API resource
+     * @return {@code true} if responses of the resource are cached
+     */
+    boolean isCached(AdaaResource resource) {
+        return ttls.containsKey(resource);
+    }
+
+    /**
+     * Gets a cached response. A fresh response is counted as a hit, otherwise a miss is counted.
+     * An expired response is returned only if it can be revalidated, i.e. it has an {@code ETag}.
+     *
+     * @param key key of the response
+     * @return cached response or {@code null}
+     */
+    @Nullable
+    Entry get(RequestKey key) {
+        Entry entry;
+        synchronized (this) {
+            entry = entries.get(key);
+            if (entry != null && !entry.isFresh() && entry.getEntityTag() == null) {
+                entries.remove(key);
+                entry = null;
+            }
+        }
+
+        if (entry != null && entry.isFresh()) {
+            hitCount.increment();
+        } else {
+            missCount.increment();
+        }
+        return entry;
+    }
+
+    /**
+     * Caches a downloaded response.
+     *
+     * @param key        key of the response
+     * @param resource   ADAA API resource of the response
+     * @param value      response's entity
+     * @param entityTag  {@code ETag} of the response, if any
+     */
+    void put(RequestKey key, AdaaResource resource, Object value, @Nullable EntityTag entityTag) {
+        Duration ttl = ttls.get(resource);
+        if (ttl == null) {
+            return;
+        }
+
+        Entry entry = new Entry(value, entityTag, System.nanoTime() + ttl.toNanos(), resource);
+        synchronized (this) {
+            entries.put(key, entry);
+        }
+    }
+
+    /**
+     * Prolongs a response confirmed by the server as not modified.
+     *
+     * @param key   key of the response
+     * @param entry revalidated response
+     */
+    void revalidated(RequestKey key, Entry entry) {
+        revalidationCount.increment();
+        put(key, entry.resource, entry.getValue(), entry.getEntityTag());
+    }
+
+    /**
+     * Gets snapshot of the counters.
+     *
+     * @return {@link ResponseCacheStatistics}
+     */
+    ResponseCacheStatistics getStatistics() {
+        return new ResponseCacheStatistics(hitCount.sum(), missCount.sum(), revalidationCount.sum(),
+                evictionCount.sum());
+    }
+
+    /**
+     * Cached response.
+     */
+    static final class Entry {
+
+        private final Object value;
+
+        private final EntityTag entityTag;
+
+        /**
+         * Expiration time in terms of {@link System#nanoTime()}.
+         */
+        private final long expiresAt;
+
+        private final AdaaResource resource;
+
+        private Entry(Object value, @Nullable EntityTag entityTag, long expiresAt, AdaaResource resource) {
+            this.value = value;
+            this.entityTag = entityTag;
+            this.expiresAt = expiresAt;
+            this.resource = resource;
+        }
+
+        Object getValue() {
+            return value;
+        }
+
+        @Nullable
+        EntityTag getEntityTag() {
+            return entityTag;
+        }
+
+        boolean isFresh() {
+            return System.nanoTime() - expiresAt < 0;
+        }
+    }
+}
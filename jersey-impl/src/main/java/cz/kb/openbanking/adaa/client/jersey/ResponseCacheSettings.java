@@ -0,0 +1,164 @@
+package cz.kb.openbanking.adaa.client.jersey;
+
+import java.time.Duration;
+import javax.annotation.Nullable;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+/**
+ * Settings of the client-side cache of ADAA API responses.
+ * Only the accounts and balances resources are cached. Cached responses are scoped by the access token
+ * and the full request URI. An expired response with an {@code ETag} is revalidated by a conditional request
+ * ({@code If-None-Match}) instead of being downloaded again.
+ *
+ * @see AccountApiJerseyImpl.Builder#responseCache(ResponseCacheSettings)
+ * @since 1.3
+ */
+public final class ResponseCacheSettings {
+
+    /**
+     * Default maximal number of cached responses.
+     */
+    public static final int DEFAULT_MAXIMUM_SIZE = 1000;
+
+    /**
+     * Default time to live of cached accounts.
+     */
+    public static final Duration DEFAULT_ACCOUNTS_TTL = Duration.ofMinutes(15);
+
+    /**
+     * Default time to live of cached balances.
+     */
+    public static final Duration DEFAULT_BALANCES_TTL = Duration.ofMinutes(1);
+
+    private final int maximumSize;
+
+    private final Duration accountsTtl;
+
+    private final Duration balancesTtl;
+
+    /**
+     * New instance.
+     *
+     * @param builder builder with the settings
+     */
+    private ResponseCacheSettings(Builder builder) {
+        this.maximumSize = builder.maximumSize;
+        this.accountsTtl = builder.accountsTtl;
+        this.balancesTtl = builder.balancesTtl;
+    }
+
+    /**
+     * Creates a new builder with default settings.
+     *
+     * @return {@link Builder}
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * Gets time to live of cached accounts.
+     *
+     * @return time to live of cached accounts, {@code null} if accounts are not cached
+     */
+    @Nullable
+    public Duration getAccountsTtl() {
+        return accountsTtl;
+    }
+
+    /**
+     * Gets time to live of cached balances.
+     *
+     * @return time to live of cached balances, {@code null} if balances are not cached
+     */
+    @Nullable
+    public Duration getBalancesTtl() {
+        return balancesTtl;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .append("maximumSize", maximumSize)
+                .append("accountsTtl", accountsTtl)
+                .append("balancesTtl", balancesTtl)
+                .toString();
+    }
+
+    /**
+     * Builder of the {@link ResponseCacheSettings}.
+     */
+    public static final class Builder {
+
+        private int maximumSize = DEFAULT_MAXIMUM_SIZE;
+
+        private Duration accountsTtl = DEFAULT_ACCOUNTS_TTL;
+
+        private Duration balancesTtl = DEFAULT_BALANCES_TTL;
+
+        /**
+         * No public instance, use {@link ResponseCacheSettings#builder()}.
+         */
+        private Builder() {
+        }
+
+        /**
+         * Sets maximal number of cached responses, the least recently used response is evicted first.
+         *
+         * @param maximumSize maximal number of cached responses
+         * @return this builder
+         */
+        public Builder maximumSize(int maximumSize) {
+            if (maximumSize <= 0) {
+                throw new IllegalArgumentException("maximumSize must be greater than zero");
+            }
+            this.maximumSize = maximumSize;
+            return this;
+        }
+
+        /**
+         * Sets time to live of cached accounts. Zero means that every use of a cached response is revalidated,
+         * {@code null} disables caching of accounts.
+         *
+         * @param accountsTtl time to live of cached accounts
+         * @return this builder
+         */
+        public Builder accountsTtl(@Nullable Duration accountsTtl) {
+            this.accountsTtl = checkTtl(accountsTtl, "accountsTtl");
+            return this;
+        }
+
+        /**
+         * Sets time to live of cached balances. Zero means that every use of a cached response is revalidated,
+         * {@code null} disables caching of balances.
+         *
+         * @param balancesTtl time to live of cached balances
+         * @return this builder
+         */
+        public Builder balancesTtl(@Nullable Duration balancesTtl) {
+            this.balancesTtl = checkTtl(balancesTtl, "balancesTtl");
+            return this;
+        }
+
+        /**
+         * Builds {@link ResponseCacheSettings}.
+         *
+         * @return {@link ResponseCacheSettings}
+         */
+        public ResponseCacheSettings build() {
+            return new ResponseCacheSettings(this);
+        }
+
+        private static Duration checkTtl(Duration ttl, String name) {
+            if (ttl != null && ttl.isNegative()) {
+                throw new IllegalArgumentException(name + " must not be negative");
+            }
+            return ttl;
+        }
+    }
+}
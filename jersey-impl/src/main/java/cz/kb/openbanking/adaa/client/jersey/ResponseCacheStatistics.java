@@ -0,0 +1,86 @@
+package cz.kb.openbanking.adaa.client.jersey;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+/**
+ * Snapshot of the counters of the client-side response cache.
+ *
+ * @see AccountApiJerseyImpl#getResponseCacheStatistics()
+ * @since 1.3
+ */
+public final class ResponseCacheStatistics {
+
+    /**
+     * Statistics of a disabled cache.
+     */
+    public static final ResponseCacheStatistics EMPTY = new ResponseCacheStatistics(0, 0, 0, 0);
+
+    private final long hitCount;
+
+    private final long missCount;
+
+    private final long revalidationCount;
+
+    private final long evictionCount;
+
+    /**
+     * New instance.
+     *
+     * @param hitCount          number of requests served by a fresh cached response
+     * @param missCount         number of requests that downloaded the response
+     * @param revalidationCount number of expired responses confirmed by the server as not modified
+     * @param evictionCount     number of responses evicted because of the maximal size
+     */
+    ResponseCacheStatistics(long hitCount, long missCount, long revalidationCount, long evictionCount) {
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.revalidationCount = revalidationCount;
+        this.evictionCount = evictionCount;
+    }
+
+    /**
+     * Gets number of requests served by a fresh cached response without calling the API.
+     *
+     * @return number of cache hits
+     */
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * Gets number of requests that downloaded the response.
+     *
+     * @return number of cache misses
+     */
+    public long getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * Gets number of expired responses confirmed by the server as not modified ({@code 304 Not Modified}).
+     *
+     * @return number of revalidations
+     */
+    public long getRevalidationCount() {
+        return revalidationCount;
+    }
+
+    /**
+     * Gets number of responses evicted because of the maximal size of the cache.
+     *
+     * @return number of evictions
+     */
+    public long getEvictionCount() {
+        return evictionCount;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .append("hitCount", hitCount)
+                .append("missCount", missCount)
+                .append("revalidationCount", revalidationCount)
+                .append("evictionCount", evictionCount)
+                .toString();
+    }
+}
@@ -0,0 +1,162 @@
+package cz.kb.openbanking.adaa.client.jersey;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.annotation.Nullable;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.Response;
+
+import cz.kb.openbanking.adaa.client.model.generated.Error;
+
+/**
+ * Retry policy of one client configured by {@link RetrySettings}, holds the client's retry budget.
+ * Thread-safe.
+ *
+ * @since 1.3
+ */
+final class RetryPolicy {
+
+    /**
+     * Value indicating that the call must not be retried.
+     */
+    static final long NO_RETRY = -1;
+
+    /**
+     * Tokens of the budget are counted in thousandths to handle fractional token ratio.
+     */
+    private static final int TOKEN_SCALE = 1000;
+
+    private final RetrySettings settings;
+
+    private final int maxTokens;
+
+    private final int tokenRatio;
+
+    /**
+     * Available tokens of the retry budget.
+     */
+    private final AtomicInteger tokens;
+
+    /**
+     * New instance.
+     *
+     * @param settings settings of the retries
+     */
+    RetryPolicy(RetrySettings settings) {
+        if (settings == null) {
+            throw new IllegalArgumentException("settings must not be null");
+        }
+
+        this.settings = settings;
+        this.maxTokens = settings.getBudgetMaxTokens() * TOKEN_SCALE;
+        this.tokenRatio = (int) (settings.getBudgetTokenRatio() * TOKEN_SCALE);
+        this.tokens = new AtomicInteger(maxTokens);
+    }
+
+    /**
+     * Decides whether a failed attempt is retried.
+     *
+     * @param attempt  number of the failed attempt, starting with {@code 1}
+     * @param response unsuccessful response of the attempt, {@code null} if it failed on the transport level
+     * @param errors   errors of the error response
+     * @return delay in milliseconds before the next attempt or {@link #NO_RETRY}
+     */
+    long getDelayMillis(int attempt, @Nullable Response response, List<Error> errors) {
+        if (attempt >= settings.getMaxAttempts()) {
+            return NO_RETRY;
+        }
+        if (response != null && !isRetryable(response.getStatus(), errors)) {
+            return NO_RETRY;
+        }
+
+        long retryAfter = response == null ? NO_RETRY : getRetryAfterMillis(response);
+        if (retryAfter > settings.getMaxRetryAfter().toMillis()) {
+            return NO_RETRY;
+        }
+        if (!acquireBudget()) {
+            return NO_RETRY;
+        }
+        return retryAfter >= 0 ? retryAfter : getBackoffMillis(attempt);
+    }
+
+    /**
+     * Returns a part of a token to the retry budget after a successful attempt.
+     */
+    void onSuccess() {
+        if (tokens.get() < maxTokens) {
+            tokens.accumulateAndGet(tokenRatio, (current, ratio) -> Math.min(maxTokens, current + ratio));
+        }
+    }
+
+    private boolean isRetryable(int status, List<Error> errors) {
+        if (settings.getRetryableStatuses().contains(status)) {
+            return true;
+        }
+        for (Error error : errors) {
+            if (error.getCode() != null && settings.getRetryableErrorCodes().contains(error.getCode())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Takes a token from the retry budget if the budget is more than half full.
+     *
+     * @return {@code true} if the call can be retried
+     */
+    private boolean acquireBudget() {
+        while (true) {
+            int current = tokens.get();
+            if (current <= maxTokens / 2) {
+                // a refused retry doesn't take a token
+                return false;
+            }
+            if (tokens.compareAndSet(current, Math.max(0, current - TOKEN_SCALE))) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Computes exponential delay before the next attempt randomized by jitter.
+     *
+     * @param attempt number of the failed attempt, starting with {@code 1}
+     * @return delay in milliseconds
+     */
+    private long getBackoffMillis(int attempt) {
+        double backoff = settings.getInitialBackoff().toMillis()
+                * Math.pow(settings.getBackoffMultiplier(), attempt - 1);
+        backoff = Math.min(backoff, settings.getMaxBackoff().toMillis());
+        return (long) (backoff * (1 - settings.getJitter() * ThreadLocalRandom.current().nextDouble()));
+    }
+
+    /**
+     * Parses {@code Retry-After} header in seconds or as HTTP date.
+     *
+     * @param response response with the header
+     * @return delay in milliseconds or {@link #NO_RETRY} if there is no valid header
+     */
+    private static long getRetryAfterMillis(Response response) {
+        String retryAfter = response.getHeaderString(HttpHeaders.RETRY_AFTER);
+        if (retryAfter == null || retryAfter.trim().isEmpty()) {
+            return NO_RETRY;
+        }
+
+        try {
+            return Math.max(0, Long.parseLong(retryAfter.trim()) * 1000);
+        } catch (NumberFormatException e) {
+            try {
+                ZonedDateTime date = ZonedDateTime.parse(retryAfter.trim(), DateTimeFormatter.RFC_1123_DATE_TIME);
+                return Math.max(0, Duration.between(ZonedDateTime.now(date.getZone()), date).toMillis());
+            } catch (DateTimeParseException ex) {
+                return NO_RETRY;
+            }
+        }
+    }
+}
@@ -0,0 +1,364 @@
+package cz.kb.openbanking.adaa.client.jersey;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+/**
+ * Settings of retrying of failed ADAA API calls. Only idempotent calls are retried: the {@code GET}s,
+ * deleting of event subscriptions and the lookup of account ids; creating of event subscriptions is never retried.
+ * A call is retried if it fails on the transport level (e.g. connection reset or timeout), if the response has one
+ * of {@link #getRetryableStatuses() retryable statuses} or if the error response contains an error with one
+ * of {@link #getRetryableErrorCodes() retryable codes}.
+ * <p>
+ * Delays between attempts grow exponentially and are randomized by jitter. {@code Retry-After} header of the response
+ * is honored instead, if it doesn't exceed {@link #getMaxRetryAfter()}; the call is not retried otherwise.
+ * Retries are limited by a retry budget shared by all calls of one client: every retried failure takes one token,
+ * every success returns {@link #getBudgetTokenRatio()} of a token and no call is retried while
+ * the budget is at most half full. So the client doesn't multiply the load of an overloaded API.
+ *
+ * @see AccountApiJerseyImpl.Builder#retry(RetrySettings)
+ * @since 1.3
+ */
+public final class RetrySettings {
+
+    /**
+     * Default maximal number of attempts of one call (including the first one).
+     */
+    public static final int DEFAULT_MAX_ATTEMPTS = 3;
+
+    /**
+     * Default delay before the first retry.
+     */
+    public static final Duration DEFAULT_INITIAL_BACKOFF = Duration.ofMillis(200);
+
+    /**
+     * Default maximal delay between attempts.
+     */
+    public static final Duration DEFAULT_MAX_BACKOFF = Duration.ofSeconds(5);
+
+    /**
+     * Default multiplier of the delay after each attempt.
+     */
+    public static final double DEFAULT_BACKOFF_MULTIPLIER = 2.0;
+
+    /**
+     * Default part of the delay that is randomized.
+     */
+    public static final double DEFAULT_JITTER = 0.5;
+
+    /**
+     * Default maximal honored {@code Retry-After}.
+     */
+    public static final Duration DEFAULT_MAX_RETRY_AFTER = Duration.ofSeconds(10);
+
+    /**
+     * Default HTTP statuses of retried responses: 429, 502, 503 and 504.
+     */
+    public static final Set<Integer> DEFAULT_RETRYABLE_STATUSES =
+            Collections.unmodifiableSet(new LinkedHashSet<>(Arrays.asList(429, 502, 503, 504)));
+
+    /**
+     * Default capacity of the retry budget.
+     */
+    public static final int DEFAULT_BUDGET_MAX_TOKENS = 10;
+
+    /**
+     * Default part of a token returned to the retry budget by a successful call.
+     */
+    public static final double DEFAULT_BUDGET_TOKEN_RATIO = 0.1;
+
+    private final int maxAttempts;
+
+    private final Duration initialBackoff;
+
+    private final Duration maxBackoff;
+
+    private final double backoffMultiplier;
+
+    private final double jitter;
+
+    private final Duration maxRetryAfter;
+
+    private final Set<Integer> retryableStatuses;
+
+    private final Set<String> retryableErrorCodes;
+
+    private final int budgetMaxTokens;
+
+    private final double budgetTokenRatio;
+
+    /**
+     * New instance.
+     *
+     * @param builder builder with the settings
+     */
+    private RetrySettings(Builder builder) {
+        this.maxAttempts = builder.maxAttempts;
+        this.initialBackoff = builder.initialBackoff;
+        this.maxBackoff = builder.maxBackoff;
+        this.backoffMultiplier = builder.backoffMultiplier;
+        this.jitter = builder.jitter;
+        this.maxRetryAfter = builder.maxRetryAfter;
+        this.retryableStatuses = Collections.unmodifiableSet(new LinkedHashSet<>(builder.retryableStatuses));
+        this.retryableErrorCodes = Collections.unmodifiableSet(new LinkedHashSet<>(builder.retryableErrorCodes));
+        this.budgetMaxTokens = builder.budgetMaxTokens;
+        this.budgetTokenRatio = builder.budgetTokenRatio;
+    }
+
+    /**
+     * Creates a new builder with default settings.
+     *
+     * @return {@link Builder}
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Gets default settings.
+     *
+     * @return {@link RetrySettings} with default values
+     */
+    public static RetrySettings defaults() {
+        return builder().build();
+    }
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    public Duration getInitialBackoff() {
+        return initialBackoff;
+    }
+
+    public Duration getMaxBackoff() {
+        return maxBackoff;
+    }
+
+    public double getBackoffMultiplier() {
+        return backoffMultiplier;
+    }
+
+    public double getJitter() {
+        return jitter;
+    }
+
+    public Duration getMaxRetryAfter() {
+        return maxRetryAfter;
+    }
+
+    public Set<Integer> getRetryableStatuses() {
+        return retryableStatuses;
+    }
+
+    public Set<String> getRetryableErrorCodes() {
+        return retryableErrorCodes;
+    }
+
+    public int getBudgetMaxTokens() {
+        return budgetMaxTokens;
+    }
+
+    public double getBudgetTokenRatio() {
+        return budgetTokenRatio;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .append("maxAttempts", maxAttempts)
+                .append("initialBackoff", initialBackoff)
+                .append("maxBackoff", maxBackoff)
+                .append("backoffMultiplier", backoffMultiplier)
+                .append("jitter", jitter)
+                .append("maxRetryAfter", maxRetryAfter)
+                .append("retryableStatuses", retryableStatuses)
+                .append("retryableErrorCodes", retryableErrorCodes)
+                .append("budgetMaxTokens", budgetMaxTokens)
+                .append("budgetTokenRatio", budgetTokenRatio)
+                .toString();
+    }
+
+    /**
+     * Builder of the {@link RetrySettings}.
+     */
+    public static final class Builder {
+
+        private int maxAttempts = DEFAULT_MAX_ATTEMPTS;
+
+        private Duration initialBackoff = DEFAULT_INITIAL_BACKOFF;
+
+        private Duration maxBackoff = DEFAULT_MAX_BACKOFF;
+
+        private double backoffMultiplier = DEFAULT_BACKOFF_MULTIPLIER;
+
+        private double jitter = DEFAULT_JITTER;
+
+        private Duration maxRetryAfter = DEFAULT_MAX_RETRY_AFTER;
+
+        private Set<Integer> retryableStatuses = DEFAULT_RETRYABLE_STATUSES;
+
+        private Set<String> retryableErrorCodes = Collections.emptySet();
+
+        private int budgetMaxTokens = DEFAULT_BUDGET_MAX_TOKENS;
+
+        private double budgetTokenRatio = DEFAULT_BUDGET_TOKEN_RATIO;
+
+        /**
+         * No public instance, use {@link RetrySettings#builder()}.
+         */
+        private Builder() {
+        }
+
+        /**
+         * Sets maximal number of attempts of one call, including the first one.
+         *
+         * @param maxAttempts maximal number of attempts, {@code 1} means no retry
+         * @return this builder
+         */
+        public Builder maxAttempts(int maxAttempts) {
+            if (maxAttempts <= 0) {
+                throw new IllegalArgumentException("maxAttempts must be greater than zero");
+            }
+            this.maxAttempts = maxAttempts;
+            return this;
+        }
+
+        /**
+         * Sets delay before the first retry.
+         *
+         * @param initialBackoff delay before the first retry
+         * @return this builder
+         */
+        public Builder initialBackoff(Duration initialBackoff) {
+            this.initialBackoff = checkDuration(initialBackoff, "initialBackoff");
+            return this;
+        }
+
+        /**
+         * Sets maximal delay between attempts.
+         *
+         * @param maxBackoff maximal delay between attempts
+         * @return this builder
+         */
+        public Builder maxBackoff(Duration maxBackoff) {
+            this.maxBackoff = checkDuration(maxBackoff, "maxBackoff");
+            return this;
+        }
+
+        /**
+         * Sets multiplier of the delay after each attempt.
+         *
+         * @param backoffMultiplier multiplier of the delay, at least {@code 1}
+         * @return this builder
+         */
+        public Builder backoffMultiplier(double backoffMultiplier) {
+            if (backoffMultiplier < 1) {
+                throw new IllegalArgumentException("backoffMultiplier must not be less than one");
+            }
+            this.backoffMultiplier = backoffMultiplier;
+            return this;
+        }
+
+        /**
+         * Sets part of the delay that is randomized, e.g. {@code 0.5} means that the delay is
+         * a random value between 50 % and 100 % of the exponential delay.
+         *
+         * @param jitter randomized part of the delay, from {@code 0} (no jitter) to {@code 1} (full jitter)
+         * @return this builder
+         */
+        public Builder jitter(double jitter) {
+            if (jitter < 0 || jitter > 1) {
+                throw new IllegalArgumentException("jitter must be between zero and one");
+            }
+            this.jitter = jitter;
+            return this;
+        }
+
+        /**
+         * Sets maximal honored {@code Retry-After}, a call is not retried if the API asks to wait longer.
+         *
+         * @param maxRetryAfter maximal honored {@code Retry-After}
+         * @return this builder
+         */
+        public Builder maxRetryAfter(Duration maxRetryAfter) {
+            this.maxRetryAfter = checkDuration(maxRetryAfter, "maxRetryAfter");
+            return this;
+        }
+
+        /**
+         * Sets HTTP statuses of retried responses.
+         *
+         * @param retryableStatuses HTTP statuses of retried responses
+         * @return this builder
+         */
+        public Builder retryableStatuses(Set<Integer> retryableStatuses) {
+            if (retryableStatuses == null) {
+                throw new IllegalArgumentException("retryableStatuses must not be null");
+            }
+            this.retryableStatuses = retryableStatuses;
+            return this;
+        }
+
+        /**
+         * Sets codes of errors ({@code Error.code} of the error response) of retried responses,
+         * regardless of the HTTP status.
+         *
+         * @param retryableErrorCodes codes of errors of retried responses
+         * @return this builder
+         */
+        public Builder retryableErrorCodes(Set<String> retryableErrorCodes) {
+            if (retryableErrorCodes == null) {
+                throw new IllegalArgumentException("retryableErrorCodes must not be null");
+            }
+            this.retryableErrorCodes = retryableErrorCodes;
+            return this;
+        }
+
+        /**
+         * Sets the retry budget shared by all calls of one client.
+         *
+         * @param maxTokens  capacity of the budget, each retried failure takes one token
+         * @param tokenRatio part of a token returned to the budget by a successful call
+         * @return this builder
+         */
+        public Builder budget(int maxTokens, double tokenRatio) {
+            if (maxTokens <= 0) {
+                throw new IllegalArgumentException("maxTokens must be greater than zero");
+            }
+            if (tokenRatio <= 0 || tokenRatio > 1) {
+                throw new IllegalArgumentException("tokenRatio must be greater than zero and at most one");
+            }
+            this.budgetMaxTokens = maxTokens;
+            this.budgetTokenRatio = tokenRatio;
+            return this;
+        }
+
+        /**
+         * Builds {@link RetrySettings}.
+         *
+         * @return {@link RetrySettings}
+         */
+        public RetrySettings build() {
+            if (maxBackoff.compareTo(initialBackoff) < 0) {
+                throw new IllegalArgumentException("maxBackoff must not be less than initialBackoff");
+            }
+            return new RetrySettings(this);
+        }
+
+        private static Duration checkDuration(Duration duration, String name) {
+            if (duration == null) {
+                throw new IllegalArgumentException(name + " must not be null");
+            }
+            if (duration.isNegative()) {
+                throw new IllegalArgumentException(name + " must not be negative");
+            }
+            return duration;
+        }
+    }
+}
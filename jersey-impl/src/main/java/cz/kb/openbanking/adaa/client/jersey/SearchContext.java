@@ -0,0 +1,164 @@
+package cz.kb.openbanking.adaa.client.jersey;
+
+import javax.annotation.Nullable;
+
+/**
+ * Client-scoped infrastructure shared by all {@link AbstractItemSearch}es created by one {@link AccountApiJerseyImpl}.
+ *
+ * @since 1.3
+ */
+final class SearchContext {
+
+    /**
+     * JSON support of the client.
+     */
+    private final JsonSupport jsonSupport;
+
+    /**
+     * Cache of responses, {@code null} if caching is disabled.
+     */
+    private final ResponseCache responseCache;
+
+    /**
+     * Coalescer of identical concurrent requests, {@code null} if coalescing is disabled.
+     */
+    private final RequestCoalescer requestCoalescer;
+
+    /**
+     * Recorder of metrics of the calls.
+     */
+    private final SearchMetrics searchMetrics;
+
+    /**
+     * Retry policy of failed calls, {@code null} if retrying is disabled.
+     */
+    private final RetryPolicy retryPolicy;
+
+    /**
+     * Circuit breaker around the API, {@code null} if it is disabled.
+     */
+    private final CircuitBreaker circuitBreaker;
+
+    /**
+     * Throttling of the requests, {@code null} if throttling is disabled.
+     */
+    private final Throttle throttle;
+
+    /**
+     * Scheduler of delayed asynchronous actions (e.g. retries), its thread must not execute any blocking action.
+     */
+    private final ClientScheduler scheduler;
+
+    /**
+     * New instance.
+     *
+     * @param jsonSupport      JSON support of the client
+     * @param responseCache    cache of responses, {@code null} if caching is disabled
+     * @param requestCoalescer coalescer of identical concurrent requests, {@code null} if coalescing is disabled
+     * @param searchMetrics    recorder of metrics of the calls
+     * @param retryPolicy      retry policy of failed calls, {@code null} if retrying is disabled
+     * @param circuitBreaker   circuit breaker around the API, {@code null} if it is disabled
+     * @param throttle         throttling of the requests, {@code null} if throttling is disabled
+     * @param scheduler        scheduler of delayed asynchronous actions
+     */
+    SearchContext(JsonSupport jsonSupport, @Nullable ResponseCache responseCache,
+                  @Nullable RequestCoalescer requestCoalescer, SearchMetrics searchMetrics,
+                  @Nullable RetryPolicy retryPolicy, @Nullable CircuitBreaker circuitBreaker,
+                  @Nullable Throttle throttle, ClientScheduler scheduler) {
+        if (jsonSupport == null) {
+            throw new IllegalArgumentException("jsonSupport must not be null");
+        }
+        if (searchMetrics == null) {
+            throw new IllegalArgumentException("searchMetrics must not be null");
+        }
+        if (scheduler == null) {
+            throw new IllegalArgumentException("scheduler must not be null");
+        }
+
+        this.jsonSupport = jsonSupport;
+        this.responseCache = responseCache;
+        this.requestCoalescer = requestCoalescer;
+        this.searchMetrics = searchMetrics;
+        this.retryPolicy = retryPolicy;
+        this.circuitBreaker = circuitBreaker;
+        this.throttle = throttle;
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * Gets {@link JsonSupport}.
+     *
+     * @return {@link JsonSupport}
+     */
+    JsonSupport getJsonSupport() {
+        return jsonSupport;
+    }
+
+    /**
+     * Gets cache of responses.
+     *
+     * @return {@link ResponseCache} or {@code null} if caching is disabled
+     */
+    @Nullable
+    ResponseCache getResponseCache() {
+        return responseCache;
+    }
+
+    /**
+     * Gets coalescer of identical concurrent requests.
+     *
+     * @return {@link RequestCoalescer} or {@code null} if coalescing is disabled
+     */
+    @Nullable
+    RequestCoalescer getRequestCoalescer() {
+        return requestCoalescer;
+    }
+
+    /**
+     * Gets recorder of metrics of the calls.
+     *
+     * @return {@link SearchMetrics}
+     */
+    SearchMetrics getSearchMetrics() {
+        return searchMetrics;
+    }
+
+    /**
+     * Gets retry policy of failed calls.
+     *
+     * @return {@link RetryPolicy} or {@code null} if retrying is disabled
+     */
+    @Nullable
+    RetryPolicy getRetryPolicy() {
+        return retryPolicy;
+    }
+
+    /**
+     * Gets circuit breaker around the API.
+     *
+     * @return {@link CircuitBreaker} or {@code null} if it is disabled
+     */
+    @Nullable
+    CircuitBreaker getCircuitBreaker() {
+        return circuitBreaker;
+    }
+
+    /**
+     * Gets throttling of the requests.
+     *
+     * @return {@link Throttle} or {@code null} if throttling is disabled
+     */
+    @Nullable
+    Throttle getThrottle() {
+        return throttle;
+    }
+
+    /**
+     * Gets scheduler of delayed asynchronous actions.
+     *
+     * @return {@link ClientScheduler}
+     */
+    ClientScheduler getScheduler() {
+        return scheduler;
+    }
+}
@@ -0,0 +1,95 @@
+package cz.kb.openbanking.adaa.client.jersey;
+
+import javax.annotation.Nullable;
+import javax.ws.rs.core.Response;
+
+import cz.kb.openbanking.adaa.client.api.exception.ItemSearchException;
+
+/**
+ * Recorder of metrics of ADAA API calls.
+ * The interface keeps metrics libraries optional, only its implementations depend on them.
+ *
+ * @see MicrometerSearchMetrics
+ * @since 1.3
+ */
+interface SearchMetrics {
+
+    /**
+     * Recorder that records nothing.
+     */
+    SearchMetrics NOOP = resource -> Sample.NOOP;
+
+    /**
+     * Starts measuring of a call of the resource.
+     *
+     * @param resource called ADAA API resource
+     * @return {@link Sample} of the call
+     */
+    Sample start(AdaaResource resource);
+
+    /**
+     * Measurement of one call of an ADAA API resource.
+     */
+    interface Sample {
+
+        /**
+         * Sample that records nothing.
+         */
+        Sample NOOP = new Sample() {
+            @Override
+            public void received(Response response) {
+            }
+
+            @Override
+            public void bodyRead(@Nullable String contentEncoding, long receivedBytes, long decodedBytes) {
+            }
+
+            @Override
+            public void retried() {
+            }
+
+            @Override
+            public void queued(long waitNanos) {
+            }
+
+            @Override
+            public void stop(@Nullable ItemSearchException error) {
+            }
+        };
+
+        /**
+         * Records the received response, called before its entity is read.
+         *
+         * @param response received response
+         */
+        void received(Response response);
+
+        /**
+         * Records size of the read entity of the response, as received and after decompression.
+         *
+         * @param contentEncoding {@code Content-Encoding} of the response, {@code null} if not encoded
+         * @param receivedBytes   number of bytes received from the connection
+         * @param decodedBytes    number of bytes after decompression, equal to the received bytes if not encoded
+         */
+        void bodyRead(@Nullable String contentEncoding, long receivedBytes, long decodedBytes);
+
+        /**
+         * Records that a failed attempt of the call is retried.
+         */
+        void retried();
+
+        /**
+         * Records time an attempt of the call waited for permission of the client-side throttling.
+         *
+         * @param waitNanos time spent waiting in nanoseconds
+         */
+        void queued(long waitNanos);
+
+        /**
+         * Stops measuring of the call.
+         *
+         * @param error error of the call, {@code null} if the call succeeded
+         */
+        void stop(@Nullable ItemSearchException error);
+    }
+}
@@ -0,0 +1,105 @@
+package cz.kb.openbanking.adaa.client.jersey;
+
+import java.time.OffsetDateTime;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import javax.annotation.Nullable;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+/**
+ * State of the incremental transaction synchronization of one account, see {@link TransactionSync}.
+ * Immutable.
+ *
+ * @since 1.3
+ */
+public final class SyncWatermark {
+
+    /**
+     * The latest {@code lastUpdated} of all synchronized transactions.
+     */
+    private final OffsetDateTime lastUpdated;
+
+    /**
+     * {@code lastUpdated} of the transactions returned by the last synchronization by their {@code entryReference}.
+     */
+    private final Map<String, OffsetDateTime> entries;
+
+    /**
+     * New instance.
+     *
+     * @param lastUpdated the latest {@code lastUpdated} of all synchronized transactions,
+     *                    {@code null} if no transaction has it
+     * @param entries     {@code lastUpdated} of the transactions returned by the last synchronization
+     *                    by their {@code entryReference}
+     */
+    @JsonCreator
+    public SyncWatermark(@JsonProperty("lastUpdated") @Nullable OffsetDateTime lastUpdated,
+                         @JsonProperty("entries") Map<String, OffsetDateTime> entries) {
+        if (entries == null) {
+            throw new IllegalArgumentException("entries must not be null");
+        }
+
+        this.lastUpdated = lastUpdated;
+        this.entries = Collections.unmodifiableMap(new LinkedHashMap<>(entries));
+    }
+
+    /**
+     * Gets the latest {@code lastUpdated} of all synchronized transactions.
+     *
+     * @return the latest {@code lastUpdated} or {@code null} if no transaction has it
+     */
+    @Nullable
+    public OffsetDateTime getLastUpdated() {
+        return lastUpdated;
+    }
+
+    /**
+     * Gets {@code lastUpdated} of the transactions returned by the last synchronization by their
+     * {@code entryReference}. The next synchronization recognizes updated transactions by them.
+     *
+     * @return unmodifiable map of {@code lastUpdated} by {@code entryReference}
+     */
+    public Map<String, OffsetDateTime> getEntries() {
+        return entries;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+
+        if (!(o instanceof SyncWatermark)) {
+            return false;
+        }
+
+        SyncWatermark that = (SyncWatermark) o;
+
+        return new EqualsBuilder()
+                .append(lastUpdated, that.lastUpdated)
+                .append(entries, that.entries)
+                .isEquals();
+    }
+
+    @Override
+    public int hashCode() {
+        return new HashCodeBuilder(17, 37)
+                .append(lastUpdated)
+                .append(entries)
+                .toHashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .append("lastUpdated", lastUpdated)
+                .append("entries", entries.size())
+                .toString();
+    }
+}
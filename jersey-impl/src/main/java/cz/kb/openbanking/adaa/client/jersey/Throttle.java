@@ -0,0 +1,202 @@
+package cz.kb.openbanking.adaa.client.jersey;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import cz.kb.openbanking.adaa.client.api.exception.ItemSearchException;
+
+/**
+ * Client-side throttling of HTTP requests of one client configured by {@link ThrottlingSettings}:
+ * a token bucket rate limiter followed by a concurrency bulkhead. Waiting requests don't block any thread,
+ * they are resumed by the scheduler or by the release of a slot. Waiting requests fail when the client is closed.
+ * Thread-safe.
+ *
+ * @since 1.3
+ */
+final class Throttle {
+
+    private final ThrottlingSettings settings;
+
+    private final ClientScheduler scheduler;
+
+    private final long maxWaitNanos;
+
+    /**
+     * Interval between two tokens of the bucket in nanoseconds, {@code 0} if the rate isn't limited.
+     */
+    private final double tokenIntervalNanos;
+
+    /**
+     * Tokens stored in the bucket.
+     */
+    private double storedTokens;
+
+    /**
+     * Time of the {@link #storedTokens}, tokens reserved in advance move it to the future.
+     */
+    private long nextFreeNanos;
+
+    /**
+     * Free slots of the bulkhead.
+     */
+    private int freeSlots;
+
+    /**
+     * Requests waiting for a slot of the bulkhead, in the order of arrival.
+     */
+    private final Deque<CompletableFuture<Void>> slotWaiters = new ArrayDeque<>();
+
+    /**
+     * New instance.
+     *
+     * @param settings  settings of the throttling
+     * @param scheduler scheduler of resumption of waiting requests and of their timeouts
+     */
+    Throttle(ThrottlingSettings settings, ClientScheduler scheduler) {
+        if (settings == null) {
+            throw new IllegalArgumentException("settings must not be null");
+        }
+        if (scheduler == null) {
+            throw new IllegalArgumentException("scheduler must not be null");
+        }
+
+        this.settings = settings;
+        this.scheduler = scheduler;
+        this.maxWaitNanos = settings.getMaxWait().toNanos();
+        this.tokenIntervalNanos = settings.getRateLimit() == null
+                ? 0 : TimeUnit.SECONDS.toNanos(1) / settings.getRateLimit();
+        this.storedTokens = settings.getBurst();
+        this.nextFreeNanos = System.nanoTime();
+        this.freeSlots = settings.getMaxConcurrentCalls() == null ? 0 : settings.getMaxConcurrentCalls();
+    }
+
+    /**
+     * Acquires permission to send one HTTP request. The permission must be {@link #release() released}
+     * when the response (or the transport error) is received.
+     *
+     * @return future completed with the time spent waiting in nanoseconds or completed exceptionally
+     * by {@link ItemSearchException} if the request would wait longer than allowed
+     */
+    CompletableFuture<Long> acquire() {
+        long start = System.nanoTime();
+        long tokenWait = reserveToken(start);
+        if (tokenWait < 0) {
+            return rejected("rate limit " + settings.getRateLimit() + " requests per second");
+        }
+
+        CompletableFuture<Void> token = new CompletableFuture<>();
+        if (tokenWait == 0) {
+            token.complete(null);
+        } else {
+            scheduler.schedule(() -> token.complete(null), tokenWait, TimeUnit.NANOSECONDS, token);
+        }
+        return token
+                .thenCompose(ignored -> acquireSlot(maxWaitNanos - (System.nanoTime() - start)))
+                .thenApply(ignored -> System.nanoTime() - start);
+    }
+
+    /**
+     * Releases permission acquired by {@link #acquire()}, the slot is passed to the longest waiting request.
+     */
+    void release() {
+        if (settings.getMaxConcurrentCalls() == null) {
+            return;
+        }
+
+        CompletableFuture<Void> waiter;
+        do {
+            synchronized (this) {
+                waiter = slotWaiters.poll();
+                if (waiter == null) {
+                    freeSlots++;
+                    return;
+                }
+            }
+            // a waiter failed by the closed client doesn't take the slot
+        } while (!waiter.complete(null));
+    }
+
+    /**
+     * Reserves one token of the bucket, the token may be reserved in advance up to the maximal wait.
+     *
+     * @param now current time in nanoseconds
+     * @return wait for the token in nanoseconds or {@code -1} if it would be longer than the maximal wait
+     */
+    private synchronized long reserveToken(long now) {
+        if (settings.getRateLimit() == null) {
+            return 0;
+        }
+
+        if (now - nextFreeNanos > 0) {
+            storedTokens = Math.min(settings.getBurst(), storedTokens + (now - nextFreeNanos) / tokenIntervalNanos);
+            nextFreeNanos = now;
+        }
+        double fromStored = Math.min(1, storedTokens);
+        long availableNanos = nextFreeNanos + (long) ((1 - fromStored) * tokenIntervalNanos);
+        long wait = Math.max(0, availableNanos - now);
+        if (wait > maxWaitNanos) {
+            return -1;
+        }
+
+        storedTokens -= fromStored;
+        nextFreeNanos = availableNanos;
+        return wait;
+    }
+
+    /**
+     * Acquires a slot of the bulkhead or waits for it in the queue.
+     *
+     * @param timeoutNanos maximal wait for the slot in nanoseconds
+     * @return future completed when the slot is acquired
+     */
+    private CompletableFuture<Void> acquireSlot(long timeoutNanos) {
+        if (settings.getMaxConcurrentCalls() == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        CompletableFuture<Void> waiter = new CompletableFuture<>();
+        synchronized (this) {
+            if (freeSlots > 0 && slotWaiters.isEmpty()) {
+                freeSlots--;
+                return CompletableFuture.completedFuture(null);
+            }
+            if (timeoutNanos <= 0) {
+                return rejected("maximum of " + settings.getMaxConcurrentCalls() + " concurrent calls");
+            }
+            slotWaiters.add(waiter);
+        }
+
+        ScheduledFuture<?> timeout = scheduler.schedule(() -> {
+            synchronized (this) {
+                if (!slotWaiters.remove(waiter)) {
+                    return;
+                }
+            }
+            waiter.completeExceptionally(throttled("maximum of " + settings.getMaxConcurrentCalls()
+                    + " concurrent calls"));
+        }, timeoutNanos, TimeUnit.NANOSECONDS, waiter);
+        if (timeout == null) {
+            // the client is closed, the waiter is failed already
+            synchronized (this) {
+                slotWaiters.remove(waiter);
+            }
+        } else {
+            waiter.thenRun(() -> timeout.cancel(false));
+        }
+        return waiter;
+    }
+
+    private <T> CompletableFuture<T> rejected(String limit) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        result.completeExceptionally(throttled(limit));
+        return result;
+    }
+
+    private ItemSearchException throttled(String limit) {
+        return new ItemSearchException("Calling of API was throttled, " + limit + " exceeded for longer than "
+                + settings.getMaxWait().toMillis() + " ms.");
+    }
+}
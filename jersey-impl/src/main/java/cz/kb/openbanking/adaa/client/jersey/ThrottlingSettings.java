@@ -0,0 +1,193 @@
+package cz.kb.openbanking.adaa.client.jersey;
+
+import java.time.Duration;
+import javax.annotation.Nullable;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+/**
+ * Settings of client-side throttling of ADAA API calls, which smooths bursts of calls before
+ * the KB API store starts rejecting them by {@code 429 Too Many Requests}.
+ * <p>
+ * The rate limiter is a token bucket: it's refilled by {@link #getRateLimit()} tokens per second
+ * up to {@link #getBurst()} tokens and every HTTP request (including retries) takes one token.
+ * The bulkhead limits the number of concurrent HTTP requests to {@link #getMaxConcurrentCalls()}.
+ * A call that can't get a token or a free slot waits in a FIFO queue at most {@link #getMaxWait()},
+ * then it fails by {@link cz.kb.openbanking.adaa.client.api.exception.ItemSearchException}.
+ * Zero wait means failing fast.
+ *
+ * @see AccountApiJerseyImpl.Builder#throttling(ThrottlingSettings)
+ * @since 1.3
+ */
+public final class ThrottlingSettings {
+
+    /**
+     * Default maximal wait for a token or a free slot.
+     */
+    public static final Duration DEFAULT_MAX_WAIT = Duration.ofSeconds(5);
+
+    private final Double rateLimit;
+
+    private final int burst;
+
+    private final Integer maxConcurrentCalls;
+
+    private final Duration maxWait;
+
+    /**
+     * New instance.
+     *
+     * @param builder builder with the settings
+     */
+    private ThrottlingSettings(Builder builder) {
+        this.rateLimit = builder.rateLimit;
+        if (builder.burst != null) {
+            this.burst = builder.burst;
+        } else {
+            this.burst = rateLimit == null ? 1 : (int) Math.ceil(rateLimit);
+        }
+        this.maxConcurrentCalls = builder.maxConcurrentCalls;
+        this.maxWait = builder.maxWait;
+    }
+
+    /**
+     * Creates a new builder, nothing is throttled by default.
+     *
+     * @return {@link Builder}
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Gets maximal average number of HTTP requests per second.
+     *
+     * @return rate limit or {@code null} if the rate isn't limited
+     */
+    @Nullable
+    public Double getRateLimit() {
+        return rateLimit;
+    }
+
+    /**
+     * Gets maximal number of HTTP requests sent at once after a period of inactivity, i.e. capacity of the bucket.
+     *
+     * @return burst
+     */
+    public int getBurst() {
+        return burst;
+    }
+
+    /**
+     * Gets maximal number of concurrent HTTP requests.
+     *
+     * @return maximal number of concurrent HTTP requests or {@code null} if it isn't limited
+     */
+    @Nullable
+    public Integer getMaxConcurrentCalls() {
+        return maxConcurrentCalls;
+    }
+
+    public Duration getMaxWait() {
+        return maxWait;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .append("rateLimit", rateLimit)
+                .append("burst", burst)
+                .append("maxConcurrentCalls", maxConcurrentCalls)
+                .append("maxWait", maxWait)
+                .toString();
+    }
+
+    /**
+     * Builder of the {@link ThrottlingSettings}.
+     */
+    public static final class Builder {
+
+        private Double rateLimit;
+
+        private Integer burst;
+
+        private Integer maxConcurrentCalls;
+
+        private Duration maxWait = DEFAULT_MAX_WAIT;
+
+        /**
+         * No public instance, use {@link ThrottlingSettings#builder()}.
+         */
+        private Builder() {
+        }
+
+        /**
+         * Sets maximal average number of HTTP requests per second.
+         *
+         * @param rateLimit maximal average number of HTTP requests per second
+         * @return this builder
+         */
+        public Builder rateLimit(double rateLimit) {
+            if (rateLimit <= 0) {
+                throw new IllegalArgumentException("rateLimit must be greater than zero");
+            }
+            this.rateLimit = rateLimit;
+            return this;
+        }
+
+        /**
+         * Sets maximal number of HTTP requests sent at once after a period of inactivity.
+         * Defaults to the rate limit per one second.
+         *
+         * @param burst maximal number of HTTP requests sent at once
+         * @return this builder
+         */
+        public Builder burst(int burst) {
+            if (burst <= 0) {
+                throw new IllegalArgumentException("burst must be greater than zero");
+            }
+            this.burst = burst;
+            return this;
+        }
+
+        /**
+         * Sets maximal number of concurrent HTTP requests.
+         *
+         * @param maxConcurrentCalls maximal number of concurrent HTTP requests
+         * @return this builder
+         */
+        public Builder maxConcurrentCalls(int maxConcurrentCalls) {
+            if (maxConcurrentCalls <= 0) {
+                throw new IllegalArgumentException("maxConcurrentCalls must be greater than zero");
+            }
+            this.maxConcurrentCalls = maxConcurrentCalls;
+            return this;
+        }
+
+        /**
+         * Sets maximal wait for a token or a free slot, zero means failing fast.
+         *
+         * @param maxWait maximal wait for a token or a free slot
+         * @return this builder
+         */
+        public Builder maxWait(Duration maxWait) {
+            if (maxWait == null) {
+                throw new IllegalArgumentException("maxWait must not be null");
+            }
+            if (maxWait.isNegative()) {
+                throw new IllegalArgumentException("maxWait must not be negative");
+            }
+            this.maxWait = maxWait;
+            return this;
+        }
+
+        /**
+         * Builds {@link ThrottlingSettings}.
+         *
+         * @return {@link ThrottlingSettings}
+         */
+        public ThrottlingSettings build() {
+            return new ThrottlingSettings(this);
+        }
+    }
+}
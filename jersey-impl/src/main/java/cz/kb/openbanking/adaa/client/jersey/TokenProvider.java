@@ -0,0 +1,24 @@
+package cz.kb.openbanking.adaa.client.jersey;
+
+/**
+ * Provides access tokens of a session, see {@link AccountApiJerseyImpl#session(TokenProvider)}.
+ * The session asks for a new token shortly before the current one expires and when the ADAA API rejects
+ * the current one ({@code 401 Unauthorized}).
+ *
+ * @since 1.3
+ */
+@FunctionalInterface
+public interface TokenProvider {
+
+    /**
+     * Gets a new access token, e.g. by the refresh token grant of the OAuth2 authorization server.
+     * The method is never called concurrently for one session, callers waiting for the token share its result.
+     * It's called on a dedicated thread of the client, never on the thread of a search, so it may block,
+     * e.g. by a call of the authorization server.
+     *
+     * @return new {@link AccessToken}
+     * @throws RuntimeException if the token can't be obtained, the search fails
+     *                          with {@link cz.kb.openbanking.adaa.client.api.exception.ItemSearchException}
+     */
+    AccessToken fetchToken();
+}
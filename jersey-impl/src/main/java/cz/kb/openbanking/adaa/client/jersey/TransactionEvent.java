@@ -0,0 +1,67 @@
+package cz.kb.openbanking.adaa.client.jersey;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+/**
+ * Event of an account's transactions received by the {@link TransactionEventReceiver}.
+ * The payload is the decoded JSON body of the event as sent by the ADAA API according to the Event API
+ * specification, e.g. to find out which transactions should be fetched by
+ * {@link cz.kb.openbanking.adaa.client.api.AccountApi#transactions(String, String)}.
+ *
+ * @since 1.3
+ */
+public final class TransactionEvent {
+
+    private final String subscriptionId;
+
+    private final Map<String, Object> payload;
+
+    /**
+     * New instance.
+     *
+     * @param subscriptionId id of the subscription the event was sent for
+     * @param payload        decoded JSON body of the event
+     */
+    public TransactionEvent(String subscriptionId, Map<String, Object> payload) {
+        if (subscriptionId == null) {
+            throw new IllegalArgumentException("subscriptionId must not be null");
+        }
+        if (payload == null) {
+            throw new IllegalArgumentException("payload must not be null");
+        }
+
+        this.subscriptionId = subscriptionId;
+        this.payload = Collections.unmodifiableMap(new LinkedHashMap<>(payload));
+    }
+
+    /**
+     * Gets id of the subscription the event was sent for,
+     * see {@link cz.kb.openbanking.adaa.client.model.generated.SubscriptionInfo#getSubscriptionId()}.
+     *
+     * @return id of the subscription
+     */
+    public String getSubscriptionId() {
+        return subscriptionId;
+    }
+
+    /**
+     * Gets decoded JSON body of the event, JSON objects and arrays are decoded to maps and lists.
+     *
+     * @return unmodifiable map of the top-level properties of the event
+     */
+    public Map<String, Object> getPayload() {
+        return payload;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .append("subscriptionId", subscriptionId)
+                .append("payload", payload)
+                .toString();
+    }
+}
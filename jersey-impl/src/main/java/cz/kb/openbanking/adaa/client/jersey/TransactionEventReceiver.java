@@ -0,0 +1,455 @@
+package cz.kb.openbanking.adaa.client.jersey;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import javax.annotation.Nullable;
+
+import cz.kb.openbanking.adaa.client.model.generated.SubscriptionRequest;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Embeddable receiver of events of subscriptions created by
+ * {@link cz.kb.openbanking.adaa.client.api.AccountApi#createSubscription(String, String, SubscriptionRequest)},
+ * so changes of transactions can be pushed by the ADAA API instead of polling.
+ * <p>
+ * The receiver is a minimal Event API implementation on the JDK's built-in HTTP server,
+ * it accepts events by {@code POST <base path>/subscriptions/{subscriptionId}/events}.
+ * {@link SubscriptionRequest#getEventApiUrl()} is the public URL of the base path.
+ * The {@code x-api-key} header of the events is checked against {@link SubscriptionRequest#getEventApiKey()}
+ * if the key is set.
+ * <p>
+ * Received events are decoded and answered by {@code 202 Accepted} right away, the handlers are called
+ * on a bounded pool of threads. If its queue is full, the event is answered by {@code 503 Service Unavailable},
+ * so the sender can retry it later. The HTTP exchanges themselves are read and answered by a small bounded pool,
+ * when it's saturated the server stops accepting new connections until an exchange is done.
+ *
+ * @since 1.3
+ */
+public final class TransactionEventReceiver implements Closeable {
+
+    /**
+     * Default number of threads calling the handlers.
+     */
+    public static final int DEFAULT_HANDLER_THREADS = 2;
+
+    /**
+     * Default number of received events waiting for the handlers.
+     */
+    public static final int DEFAULT_QUEUE_CAPACITY = 1000;
+
+    /**
+     * Default maximal size of the body of an event in bytes.
+     */
+    public static final int DEFAULT_MAX_EVENT_SIZE = 64 * 1024;
+
+    private static final Logger log = LoggerFactory.getLogger(TransactionEventReceiver.class);
+
+    /**
+     * Path of the events relative to the base path.
+     */
+    private static final Pattern EVENTS_PATH = Pattern.compile("/subscriptions/([^/]+)/events/?");
+
+    private static final String API_KEY_HEADER_NAME = "x-api-key";
+
+    /**
+     * Number of threads reading and answering the HTTP exchanges.
+     */
+    private static final int SERVER_THREADS = 2;
+
+    /**
+     * Number of HTTP exchanges waiting for the server threads.
+     */
+    private static final int SERVER_QUEUE_CAPACITY = 100;
+
+    private final HttpServer server;
+
+    private final ThreadPoolExecutor serverExecutor;
+
+    private final ThreadPoolExecutor handlerExecutor;
+
+    private final List<Consumer<? super TransactionEvent>> handlers;
+
+    private final String basePath;
+
+    @Nullable
+    private final byte[] eventApiKey;
+
+    private final int maxEventSize;
+
+    private final ObjectReader eventReader;
+
+    /**
+     * New started instance.
+     *
+     * @param builder builder with the settings
+     * @throws IOException if the server can't be bound to its address
+     */
+    private TransactionEventReceiver(Builder builder) throws IOException {
+        this.handlers = Collections.unmodifiableList(new ArrayList<>(builder.handlers));
+        this.basePath = builder.basePath;
+        this.eventApiKey = builder.eventApiKey == null ? null : builder.eventApiKey.getBytes(StandardCharsets.UTF_8);
+        this.maxEventSize = builder.maxEventSize;
+        this.eventReader = builder.objectMapper.readerFor(new TypeReference<Map<String, Object>>() {
+        });
+        this.handlerExecutor = new ThreadPoolExecutor(builder.handlerThreads, builder.handlerThreads,
+                1, TimeUnit.MINUTES, new ArrayBlockingQueue<>(builder.queueCapacity),
+                new DaemonThreadFactory("adaa-event-handler-"));
+        this.handlerExecutor.allowCoreThreadTimeOut(true);
+        // the dispatcher of the server runs the exchange itself if the pool is saturated, so no exchange is dropped
+        this.serverExecutor = new ThreadPoolExecutor(SERVER_THREADS, SERVER_THREADS,
+                1, TimeUnit.MINUTES, new ArrayBlockingQueue<>(SERVER_QUEUE_CAPACITY),
+                new DaemonThreadFactory("adaa-event-receiver-"), new ThreadPoolExecutor.CallerRunsPolicy());
+        this.serverExecutor.allowCoreThreadTimeOut(true);
+
+        try {
+            this.server = HttpServer.create(builder.address, 0);
+        } catch (IOException e) {
+            serverExecutor.shutdown();
+            handlerExecutor.shutdown();
+            throw e;
+        }
+        this.server.setExecutor(serverExecutor);
+        this.server.createContext(basePath.isEmpty() ? "/" : basePath, this::receive);
+        this.server.start();
+        log.info("Receiver of transaction events listens on {}{}.", server.getAddress(), basePath);
+    }
+
+    /**
+     * Creates a new builder of the receiver listening on the given port of all local addresses.
+     *
+     * @param port port to listen on, {@code 0} for an ephemeral port
+     * @return {@link Builder}
+     */
+    public static Builder builder(int port) {
+        return builder(new InetSocketAddress(port));
+    }
+
+    /**
+     * Creates a new builder of the receiver listening on the given address.
+     *
+     * @param address address to listen on
+     * @return {@link Builder}
+     */
+    public static Builder builder(InetSocketAddress address) {
+        return new Builder(address);
+    }
+
+    /**
+     * Gets address the receiver listens on, e.g. to find out the ephemeral port.
+     *
+     * @return {@link InetSocketAddress}
+     */
+    public InetSocketAddress getAddress() {
+        return server.getAddress();
+    }
+
+    /**
+     * Stops receiving of events. Already accepted events are still passed to the handlers.
+     */
+    @Override
+    public void close() {
+        server.stop(0);
+        serverExecutor.shutdown();
+        handlerExecutor.shutdown();
+    }
+
+    /**
+     * Handles one HTTP exchange with an event.
+     *
+     * @param exchange HTTP exchange
+     */
+    private void receive(HttpExchange exchange) {
+        try {
+            exchange.sendResponseHeaders(accept(exchange), -1);
+        } catch (Exception e) {
+            log.error("Receiving of transaction event ends with error. Error: " + e.getMessage(), e);
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * Validates and decodes the event and passes it to the handlers.
+     *
+     * @param exchange HTTP exchange with the event
+     * @return HTTP status of the response
+     * @throws IOException if the event can't be read
+     */
+    private int accept(HttpExchange exchange) throws IOException {
+        Matcher path = EVENTS_PATH.matcher(exchange.getRequestURI().getPath().substring(basePath.length()));
+        if (!path.matches()) {
+            return 404;
+        }
+        if (!"POST".equals(exchange.getRequestMethod())) {
+            exchange.getResponseHeaders().set("Allow", "POST");
+            return 405;
+        }
+        if (eventApiKey != null && !isAuthorized(exchange.getRequestHeaders().getFirst(API_KEY_HEADER_NAME))) {
+            return 401;
+        }
+
+        byte[] body = readBody(exchange.getRequestBody());
+        if (body == null) {
+            return 413;
+        }
+        TransactionEvent event;
+        try {
+            event = new TransactionEvent(path.group(1), eventReader.readValue(body));
+        } catch (IOException | IllegalArgumentException e) {
+            log.warn("Invalid transaction event of subscription '{}'. Error: {}", path.group(1), e.getMessage());
+            return 400;
+        }
+
+        try {
+            handlerExecutor.execute(() -> dispatch(event));
+        } catch (RejectedExecutionException e) {
+            log.warn("Transaction event of subscription '{}' rejected, the handlers are busy.", path.group(1));
+            exchange.getResponseHeaders().set("Retry-After", "1");
+            return 503;
+        }
+        return 202;
+    }
+
+    /**
+     * Passes the event to all handlers, an error of a handler doesn't prevent calling of the others.
+     *
+     * @param event received event
+     */
+    private void dispatch(TransactionEvent event) {
+        for (Consumer<? super TransactionEvent> handler : handlers) {
+            try {
+                handler.accept(event);
+            } catch (RuntimeException e) {
+                log.error("Handling of transaction event ends with error. Error: " + e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * Compares the API key of the event with the expected one in constant time.
+     *
+     * @param apiKey API key of the event
+     * @return {@code true} if the API key matches
+     */
+    private boolean isAuthorized(@Nullable String apiKey) {
+        if (apiKey == null) {
+            return false;
+        }
+        String key = StringUtils.removeStartIgnoreCase(apiKey, "Bearer ");
+        return MessageDigest.isEqual(eventApiKey, key.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Reads body of the event up to the maximal size.
+     *
+     * @param in body of the event
+     * @return body or {@code null} if it's larger than the maximal size
+     * @throws IOException if the body can't be read
+     */
+    @Nullable
+    private byte[] readBody(InputStream in) throws IOException {
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        byte[] buffer = new byte[4096];
+        int read;
+        while ((read = in.read(buffer)) >= 0) {
+            if (body.size() + read > maxEventSize) {
+                return null;
+            }
+            body.write(buffer, 0, read);
+        }
+        return body.toByteArray();
+    }
+
+    /**
+     * Creates daemon threads of the server and the handlers.
+     */
+    private static final class DaemonThreadFactory implements ThreadFactory {
+
+        private final String namePrefix;
+
+        private final AtomicInteger threadNumber = new AtomicInteger();
+
+        private DaemonThreadFactory(String namePrefix) {
+            this.namePrefix = namePrefix;
+        }
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, namePrefix + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+
+    /**
+     * Builder of the {@link TransactionEventReceiver}.
+     */
+    public static final class Builder {
+
+        private final InetSocketAddress address;
+
+        private final List<Consumer<? super TransactionEvent>> handlers = new ArrayList<>();
+
+        private String basePath = "";
+
+        private String eventApiKey;
+
+        private int handlerThreads = DEFAULT_HANDLER_THREADS;
+
+        private int queueCapacity = DEFAULT_QUEUE_CAPACITY;
+
+        private int maxEventSize = DEFAULT_MAX_EVENT_SIZE;
+
+        private ObjectMapper objectMapper = JsonSupport.createObjectMapper();
+
+        /**
+         * No public instance, use {@link TransactionEventReceiver#builder(int)}.
+         *
+         * @param address address to listen on
+         */
+        private Builder(InetSocketAddress address) {
+            if (address == null) {
+                throw new IllegalArgumentException("address must not be null");
+            }
+
+            this.address = address;
+        }
+
+        /**
+         * Adds handler of the received events. Handlers are called in the order they were added.
+         *
+         * @param handler handler of the events
+         * @return this builder
+         */
+        public Builder handler(Consumer<? super TransactionEvent> handler) {
+            if (handler == null) {
+                throw new IllegalArgumentException("handler must not be null");
+            }
+            this.handlers.add(handler);
+            return this;
+        }
+
+        /**
+         * Sets base path of the receiver, e.g. {@code /event-api/v1}. Root by default.
+         *
+         * @param basePath base path of the receiver
+         * @return this builder
+         */
+        public Builder basePath(String basePath) {
+            if (basePath == null || !basePath.startsWith("/")) {
+                throw new IllegalArgumentException("basePath must start with '/'");
+            }
+            this.basePath = StringUtils.removeEnd(basePath, "/");
+            return this;
+        }
+
+        /**
+         * Sets API key required in the {@code x-api-key} header of the events,
+         * the same as {@link SubscriptionRequest#getEventApiKey()}. Events are not authorized by default.
+         *
+         * @param eventApiKey API key of the events
+         * @return this builder
+         */
+        public Builder eventApiKey(String eventApiKey) {
+            if (StringUtils.isBlank(eventApiKey)) {
+                throw new IllegalArgumentException("eventApiKey must not be blank");
+            }
+            this.eventApiKey = eventApiKey;
+            return this;
+        }
+
+        /**
+         * Sets number of threads calling the handlers.
+         *
+         * @param handlerThreads number of threads calling the handlers
+         * @return this builder
+         */
+        public Builder handlerThreads(int handlerThreads) {
+            if (handlerThreads <= 0) {
+                throw new IllegalArgumentException("handlerThreads must be greater than zero");
+            }
+            this.handlerThreads = handlerThreads;
+            return this;
+        }
+
+        /**
+         * Sets number of received events waiting for the handlers, further events are rejected.
+         *
+         * @param queueCapacity number of events waiting for the handlers
+         * @return this builder
+         */
+        public Builder queueCapacity(int queueCapacity) {
+            if (queueCapacity <= 0) {
+                throw new IllegalArgumentException("queueCapacity must be greater than zero");
+            }
+            this.queueCapacity = queueCapacity;
+            return this;
+        }
+
+        /**
+         * Sets maximal size of the body of an event in bytes, larger events are rejected.
+         *
+         * @param maxEventSize maximal size of an event in bytes
+         * @return this builder
+         */
+        public Builder maxEventSize(int maxEventSize) {
+            if (maxEventSize <= 0) {
+                throw new IllegalArgumentException("maxEventSize must be greater than zero");
+            }
+            this.maxEventSize = maxEventSize;
+            return this;
+        }
+
+        /**
+         * Sets Jackson's mapper decoding the events.
+         *
+         * @param objectMapper Jackson's mapper
+         * @return this builder
+         */
+        public Builder objectMapper(ObjectMapper objectMapper) {
+            if (objectMapper == null) {
+                throw new IllegalArgumentException("objectMapper must not be null");
+            }
+            this.objectMapper = objectMapper;
+            return this;
+        }
+
+        /**
+         * Builds and starts the {@link TransactionEventReceiver}.
+         *
+         * @return started {@link TransactionEventReceiver}
+         * @throws IOException if the receiver can't listen on its address
+         */
+        public TransactionEventReceiver start() throws IOException {
+            if (handlers.isEmpty()) {
+                throw new IllegalStateException("At least one handler must be set.");
+            }
+            return new TransactionEventReceiver(this);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package cz.kb.openbanking.adaa.client.jersey;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+
+import cz.kb.openbanking.adaa.client.api.model.PageSlice;
+import cz.kb.openbanking.adaa.client.api.search.TransactionHistorySearch;
+import cz.kb.openbanking.adaa.client.model.generated.AccountTransaction;
+
+/**
+ * Iterator over transactions of all pages of the {@link TransactionHistorySearch}.
+ * The next page is requested asynchronously as soon as the current page is received.
+ *
+ * @see TransactionHistorySearch#iterator()
+ * @since 1.3
+ */
+final class TransactionHistoryIterator implements Iterator<AccountTransaction> {
+
+    /**
+     * Search used to request particular pages.
+     */
+    private final TransactionHistorySearch search;
+
+    /**
+     * Transactions of the current page.
+     */
+    private Iterator<AccountTransaction> currentPage = Collections.emptyIterator();
+
+    /**
+     * Requested next page, {@code null} if there is no next page.
+     */
+    private CompletableFuture<PageSlice<AccountTransaction>> nextPage;
+
+    /**
+     * Number of the page that is requested next.
+     */
+    private int nextPageNumber;
+
+    /**
+     * New instance.
+     *
+     * @param search search used to request particular pages
+     */
+    TransactionHistoryIterator(TransactionHistorySearch search) {
+        if (search == null) {
+            throw new IllegalArgumentException("search must not be null");
+        }
+
+        this.search = search;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (nextPageNumber == 0 && nextPage == null) {
+            nextPage = requestNextPage();
+        }
+
+        while (!currentPage.hasNext() && nextPage != null) {
+            PageSlice<AccountTransaction> page = AbstractItemSearch.await(nextPage);
+            nextPage = page.isLast() || page.getContent().isEmpty() ? null : requestNextPage();
+            currentPage = page.getContent().iterator();
+        }
+
+        return currentPage.hasNext();
+    }
+
+    @Override
+    public AccountTransaction next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException("there are no more transactions");
+        }
+
+        return currentPage.next();
+    }
+
+    /**
+     * Requests the next page asynchronously.
+     *
+     * @return requested page
+     */
+    private CompletableFuture<PageSlice<AccountTransaction>> requestNextPage() {
+        return search.page(nextPageNumber++).findAsync().toCompletableFuture();
+    }
+}
@@ -1,5 +1,6 @@
 package cz.kb.openbanking.adaa.client.jersey;
 
+import cz.kb.openbanking.adaa.client.api.exception.ItemSearchException;
 import cz.kb.openbanking.adaa.client.api.model.PageSlice;
 import cz.kb.openbanking.adaa.client.api.search.TransactionHistorySearch;
 import cz.kb.openbanking.adaa.client.model.generated.AccountTransaction;
@@ -7,7 +8,17 @@ import cz.kb.openbanking.adaa.client.model.generated.AccountTransaction;
 import javax.annotation.Nullable;
 import javax.ws.rs.client.WebTarget;
 import javax.ws.rs.core.GenericType;
+import javax.ws.rs.core.Response;
+import java.io.IOException;
+import java.io.InputStream;
 import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
 
 import static cz.kb.openbanking.adaa.client.jersey.RequestConstants.FROM_DATE_PARAM_NAME;
 import static cz.kb.openbanking.adaa.client.jersey.RequestConstants.PAGE_PARAM_NAME;
@@ -29,22 +40,111 @@ final class TransactionHistorySearchImpl extends AbstractItemSearch<PageSlice<Ac
      */
     public static final int DEFAULT_PAGE_SIZE = 10;
 
+    /**
+     * Requested page number, {@code null} if not specified.
+     */
+    @Nullable
+    private final Integer page;
+
+    /**
+     * Requested page size, {@code null} if not specified.
+     */
+    @Nullable
+    private final Integer size;
+
+    @Nullable
+    private final OffsetDateTime fromDate;
+
+    @Nullable
+    private final OffsetDateTime toDate;
+
+    /**
+     * Target with the query parameters, built once by the first call.
+     */
+    private volatile WebTarget queryTarget;
+
     /**
      * New instance.
      *
      * @param webTarget         {@link WebTarget}
      * @param requestParameters {@link RequestParameters}
+     * @param searchContext     client-scoped infrastructure
      * @param responseClass     specific type of the response class
      */
     public TransactionHistorySearchImpl(WebTarget webTarget, RequestParameters requestParameters,
+                                        SearchContext searchContext,
                                         GenericType<PageSlice<AccountTransaction>> responseClass) {
-        super(webTarget, requestParameters, responseClass);
+        this(webTarget, requestParameters, searchContext, responseClass, null, null, null, null);
+    }
+
+    /**
+     * New instance with the query parameters. They are added to the target of the account's transactions
+     * only when the search is executed, so the builder methods don't copy the {@link WebTarget}.
+     *
+     * @param webTarget         {@link WebTarget} of the account's transactions
+     * @param requestParameters {@link RequestParameters}
+     * @param searchContext     client-scoped infrastructure
+     * @param responseClass     specific type of the response class
+     * @param page              page number, {@code null} if not specified
+     * @param size              page size, {@code null} if not specified
+     * @param fromDate          start of the transaction history, {@code null} if not specified
+     * @param toDate            end of the transaction history, {@code null} if not specified
+     */
+    private TransactionHistorySearchImpl(WebTarget webTarget, RequestParameters requestParameters,
+                                         SearchContext searchContext,
+                                         GenericType<PageSlice<AccountTransaction>> responseClass,
+                                         @Nullable Integer page, @Nullable Integer size,
+                                         @Nullable OffsetDateTime fromDate, @Nullable OffsetDateTime toDate) {
+        super(webTarget, requestParameters, searchContext, responseClass);
+
+        this.page = page;
+        this.size = size;
+        this.fromDate = fromDate;
+        this.toDate = toDate;
+    }
+
+    @Override
+    AdaaResource getResource() {
+        return AdaaResource.TRANSACTIONS;
+    }
+
+    /**
+     * Gets {@link WebTarget} with the query parameters of the search.
+     *
+     * @return {@link WebTarget}
+     */
+    @Override
+    protected WebTarget getWebTarget() {
+        WebTarget result = queryTarget;
+        if (result == null) {
+            result = super.getWebTarget();
+            if (page != null) {
+                result = result.queryParam(PAGE_PARAM_NAME, page);
+            }
+            if (size != null) {
+                result = result.queryParam(SIZE_PARAM_NAME, size);
+            }
+            if (fromDate != null) {
+                result = result.queryParam(FROM_DATE_PARAM_NAME, fromDate);
+            }
+            if (toDate != null) {
+                result = result.queryParam(TO_DATE_PARAM_NAME, toDate);
+            }
+            queryTarget = result;
+        }
+        return result;
     }
 
+    /**
+     * Specifies a number of the requested page of items. Replaces the previously specified page number.
+     *
+     * @param page page's number of the requested page of items
+     * @return requested page of items
+     */
     @Override
     public TransactionHistorySearch page(int page) {
-        return new TransactionHistorySearchImpl(getWebTarget().queryParam(PAGE_PARAM_NAME, page),
-                getRequestParameters(), getResponseClass());
+        return new TransactionHistorySearchImpl(super.getWebTarget(), getRequestParameters(), getSearchContext(),
+                getResponseClass(), page, size, fromDate, toDate);
     }
 
     /**
@@ -58,8 +158,8 @@ final class TransactionHistorySearchImpl extends AbstractItemSearch<PageSlice<Ac
         if (size == null) {
             size = DEFAULT_PAGE_SIZE;
         }
-        return new TransactionHistorySearchImpl(getWebTarget().queryParam(SIZE_PARAM_NAME, size),
-                getRequestParameters(), getResponseClass());
+        return new TransactionHistorySearchImpl(super.getWebTarget(), getRequestParameters(), getSearchContext(),
+                getResponseClass(), page, size, fromDate, toDate);
     }
 
     @Override
@@ -68,8 +168,8 @@ final class TransactionHistorySearchImpl extends AbstractItemSearch<PageSlice<Ac
             throw new IllegalArgumentException("fromDate must not be null");
         }
 
-        return new TransactionHistorySearchImpl(getWebTarget().queryParam(FROM_DATE_PARAM_NAME, fromDate),
-                getRequestParameters(), getResponseClass());
+        return new TransactionHistorySearchImpl(super.getWebTarget(), getRequestParameters(), getSearchContext(),
+                getResponseClass(), page, size, fromDate, toDate);
     }
 
     @Override
@@ -78,7 +178,71 @@ final class TransactionHistorySearchImpl extends AbstractItemSearch<PageSlice<Ac
             throw new IllegalArgumentException("toDate must not be null");
         }
 
-        return new TransactionHistorySearchImpl(getWebTarget().queryParam(TO_DATE_PARAM_NAME, toDate),
-                getRequestParameters(), getResponseClass());
+        return new TransactionHistorySearchImpl(super.getWebTarget(), getRequestParameters(), getSearchContext(),
+                getResponseClass(), page, size, fromDate, toDate);
+    }
+
+    @Override
+    public Iterator<AccountTransaction> iterator() {
+        return new TransactionHistoryIterator(this);
+    }
+
+    @Override
+    public List<AccountTransaction> findAll(int parallelism) throws ItemSearchException {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("parallelism must be greater than zero");
+        }
+
+        PageSlice<AccountTransaction> firstPage = page(0).find();
+        int totalPages = firstPage.getTotalPages();
+        log.debug("Transaction history has {} pages, requesting them with parallelism {}.", totalPages, parallelism);
+
+        List<CompletableFuture<PageSlice<AccountTransaction>>> pages = new ArrayList<>(Math.max(totalPages - 1, 0));
+        Semaphore permits = new Semaphore(parallelism);
+        AtomicBoolean failed = new AtomicBoolean();
+        // stops requesting further pages as soon as any page fails
+        for (int page = 1; page < totalPages && !failed.get(); page++) {
+            try {
+                permits.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ItemSearchException("Waiting for transaction history pages was interrupted.");
+            }
+
+            CompletableFuture<PageSlice<AccountTransaction>> requestedPage = page(page).findAsync()
+                                                                                      .toCompletableFuture();
+            requestedPage.whenComplete((result, throwable) -> {
+                if (throwable != null) {
+                    failed.set(true);
+                }
+                permits.release();
+            });
+            pages.add(requestedPage);
+        }
+
+        List<AccountTransaction> result = new ArrayList<>(firstPage.getContent());
+        for (CompletableFuture<PageSlice<AccountTransaction>> page : pages) {
+            result.addAll(await(page).getContent());
+        }
+        return result;
+    }
+
+    @Override
+    public PageSlice<AccountTransaction> findEach(Consumer<? super AccountTransaction> consumer)
+            throws ItemSearchException {
+        if (consumer == null) {
+            throw new IllegalArgumentException("consumer must not be null");
+        }
+
+        Response response = findResponse();
+        try (InputStream body = response.readEntity(InputStream.class)) {
+            return getSearchContext().getJsonSupport().readTransactionPage(body, consumer);
+        } catch (IOException e) {
+            log.error("Reading of transaction history ends with error. Error: " + e.getMessage(), e);
+            throw new ItemSearchException("Error occurred during reading transaction history. Error: "
+                    + e.getMessage());
+        } finally {
+            response.close();
+        }
     }
 }
@@ -0,0 +1,283 @@
+package cz.kb.openbanking.adaa.client.jersey;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.OffsetDateTime;
+import java.time.Period;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import javax.annotation.Nullable;
+
+import cz.kb.openbanking.adaa.client.api.AccountApi;
+import cz.kb.openbanking.adaa.client.api.exception.ItemSearchException;
+import cz.kb.openbanking.adaa.client.api.search.TransactionHistorySearch;
+import cz.kb.openbanking.adaa.client.model.generated.AccountTransaction;
+import cz.kb.openbanking.adaa.client.model.generated.CurrencyAmount;
+import cz.kb.openbanking.adaa.client.model.generated.TransactionCounterparty;
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Incremental synchronization of transaction history on top of {@link AccountApi#transactions(String, String)}.
+ * <p>
+ * The transaction history can be filtered only by dates, so each synchronization fetches transactions
+ * since the day of the account's {@link SyncWatermark#getLastUpdated() watermark} minus
+ * the {@link Builder#lookback(Period) lookback} (the whole history the first time). Fetched transactions
+ * are de-duplicated by {@code entryReference} and compared with the transactions of the previous synchronization:
+ * unknown ones are new, known ones with a different {@code lastUpdated} are updated, the rest is unchanged.
+ * A transaction without {@code entryReference} is identified by its booking date, amount and counterparty instead,
+ * identical transactions of one day are told apart by their order. The watermark is saved to
+ * the {@link WatermarkStore} only if all pages were fetched, so a failed synchronization is simply repeated.
+ * <p>
+ * Thread-safe as long as one account isn't synchronized concurrently.
+ *
+ * @since 1.3
+ */
+public class TransactionSync {
+
+    private static final Logger log = LoggerFactory.getLogger(TransactionSync.class);
+
+    /**
+     * Default overlap of two consecutive synchronizations.
+     */
+    public static final Period DEFAULT_LOOKBACK = Period.ofDays(7);
+
+    /**
+     * Maximal page size of the transaction history allowed by the API.
+     */
+    public static final int MAX_PAGE_SIZE = 20;
+
+    private final AccountApi accountApi;
+
+    private final WatermarkStore watermarkStore;
+
+    private final Period lookback;
+
+    private final int pageSize;
+
+    /**
+     * New instance.
+     *
+     * @param builder builder with the settings
+     */
+    private TransactionSync(Builder builder) {
+        this.accountApi = builder.accountApi;
+        this.watermarkStore = builder.watermarkStore;
+        this.lookback = builder.lookback;
+        this.pageSize = builder.pageSize;
+    }
+
+    /**
+     * Creates a new {@link Builder}.
+     *
+     * @param accountApi     {@link AccountApi} to fetch the transactions by
+     * @param watermarkStore store of the watermarks of the accounts
+     * @return {@link Builder}
+     */
+    public static Builder builder(AccountApi accountApi, WatermarkStore watermarkStore) {
+        return new Builder(accountApi, watermarkStore);
+    }
+
+    /**
+     * Synchronizes transactions of the account since its last synchronization.
+     *
+     * @param accountId   id of the account
+     * @param accessToken OAuth2 access token, used to requests' authorization
+     * @return {@link TransactionSyncResult} with new and updated transactions
+     * @throws ItemSearchException if any page of the transaction history can't be found
+     */
+    public TransactionSyncResult sync(String accountId, String accessToken) throws ItemSearchException {
+        if (StringUtils.isBlank(accountId)) {
+            throw new IllegalArgumentException("accountId must not be blank");
+        }
+        if (StringUtils.isBlank(accessToken)) {
+            throw new IllegalArgumentException("accessToken must not be blank");
+        }
+
+        SyncWatermark previous = watermarkStore.load(accountId);
+        TransactionHistorySearch search = accountApi.transactions(accountId, accessToken).size(pageSize);
+        OffsetDateTime fromDate = getFromDate(previous);
+        if (fromDate != null) {
+            search = search.fromDate(fromDate);
+        }
+
+        Map<String, OffsetDateTime> known = previous == null ? null : previous.getEntries();
+        Map<String, OffsetDateTime> entries = new LinkedHashMap<>();
+        Map<String, Integer> fallbackOccurrences = new HashMap<>();
+        List<AccountTransaction> newTransactions = new ArrayList<>();
+        List<AccountTransaction> updatedTransactions = new ArrayList<>();
+        OffsetDateTime lastUpdated = previous == null ? null : previous.getLastUpdated();
+        int fetchedCount = 0;
+
+        Iterator<AccountTransaction> transactions = search.iterator();
+        while (transactions.hasNext()) {
+            AccountTransaction transaction = transactions.next();
+            fetchedCount++;
+            String entryReference = transaction.getEntryReference();
+            OffsetDateTime transactionUpdated = transaction.getLastUpdated();
+            if (transactionUpdated != null && (lastUpdated == null || transactionUpdated.isAfter(lastUpdated))) {
+                lastUpdated = transactionUpdated;
+            }
+
+            if (entryReference == null) {
+                String fallbackReference = getFallbackReference(transaction);
+                int occurrence = fallbackOccurrences.merge(fallbackReference, 1, Integer::sum);
+                entryReference = fallbackReference + '#' + occurrence;
+            } else if (entries.containsKey(entryReference)) {
+                // duplicate caused by shifting of the pages during the iteration
+                continue;
+            }
+            entries.put(entryReference, transactionUpdated);
+
+            if (known == null || !known.containsKey(entryReference)) {
+                newTransactions.add(transaction);
+            } else if (!isSameTime(known.get(entryReference), transactionUpdated)) {
+                updatedTransactions.add(transaction);
+            }
+        }
+
+        SyncWatermark watermark = new SyncWatermark(lastUpdated, entries);
+        watermarkStore.save(accountId, watermark);
+        log.debug("Transactions of account '{}' synchronized from {}, {} fetched, {} new, {} updated.",
+                accountId, fromDate, fetchedCount, newTransactions.size(), updatedTransactions.size());
+        return new TransactionSyncResult(newTransactions, updatedTransactions, fetchedCount, watermark);
+    }
+
+    /**
+     * Computes start of the synchronized transaction history.
+     *
+     * @param watermark watermark of the previous synchronization
+     * @return start of the transaction history or {@code null} for the whole history
+     */
+    @Nullable
+    private OffsetDateTime getFromDate(@Nullable SyncWatermark watermark) {
+        if (watermark == null || watermark.getLastUpdated() == null) {
+            return null;
+        }
+        OffsetDateTime lastUpdated = watermark.getLastUpdated();
+        return lastUpdated.toLocalDate().minus(lookback).atStartOfDay().atOffset(lastUpdated.getOffset());
+    }
+
+    /**
+     * Computes identity of a transaction without {@code entryReference} from its booking date, amount
+     * and counterparty. It's kept in the watermark as the SHA-256 digest prefixed by {@code ~},
+     * so it can't be confused with an {@code entryReference}.
+     *
+     * @param transaction transaction without {@code entryReference}
+     * @return fallback reference of the transaction
+     */
+    private static String getFallbackReference(AccountTransaction transaction) {
+        StringBuilder content = new StringBuilder()
+                .append(transaction.getBookingDate()).append('|')
+                .append(transaction.getCreditDebitIndicator()).append('|');
+        CurrencyAmount amount = transaction.getAmount();
+        if (amount != null) {
+            content.append(amount.getValue()).append('|').append(amount.getCurrency());
+        }
+        content.append('|');
+        TransactionCounterparty counterparty = transaction.getCounterParty();
+        if (counterparty != null) {
+            content.append(counterparty.getIban()).append('|')
+                    .append(counterparty.getAccountNo()).append('|')
+                    .append(counterparty.getBankCode()).append('|')
+                    .append(counterparty.getName());
+        }
+
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            // every Java platform supports SHA-256
+            throw new IllegalStateException("SHA-256 is not supported.", e);
+        }
+        byte[] contentDigest = digest.digest(content.toString().getBytes(StandardCharsets.UTF_8));
+        return '~' + Base64.getEncoder().encodeToString(contentDigest);
+    }
+
+    private static boolean isSameTime(@Nullable OffsetDateTime first, @Nullable OffsetDateTime second) {
+        if (first == null || second == null) {
+            return first == second;
+        }
+        return first.isEqual(second);
+    }
+
+    /**
+     * Builder of the {@link TransactionSync}.
+     */
+    public static final class Builder {
+
+        private final AccountApi accountApi;
+
+        private final WatermarkStore watermarkStore;
+
+        private Period lookback = DEFAULT_LOOKBACK;
+
+        private int pageSize = MAX_PAGE_SIZE;
+
+        /**
+         * New instance.
+         *
+         * @param accountApi     {@link AccountApi} to fetch the transactions by
+         * @param watermarkStore store of the watermarks of the accounts
+         */
+        private Builder(AccountApi accountApi, WatermarkStore watermarkStore) {
+            if (accountApi == null) {
+                throw new IllegalArgumentException("accountApi must not be null");
+            }
+            if (watermarkStore == null) {
+                throw new IllegalArgumentException("watermarkStore must not be null");
+            }
+
+            this.accountApi = accountApi;
+            this.watermarkStore = watermarkStore;
+        }
+
+        /**
+         * Sets overlap of two consecutive synchronizations, it must cover the time in which a transaction
+         * can still be updated (e.g. booked) after its date.
+         *
+         * @param lookback overlap of two consecutive synchronizations
+         * @return this builder
+         */
+        public Builder lookback(Period lookback) {
+            if (lookback == null) {
+                throw new IllegalArgumentException("lookback must not be null");
+            }
+            if (lookback.isNegative()) {
+                throw new IllegalArgumentException("lookback must not be negative");
+            }
+            this.lookback = lookback;
+            return this;
+        }
+
+        /**
+         * Sets size of the fetched pages, the maximal size by default to minimize the number of requests.
+         *
+         * @param pageSize size of the fetched pages, from {@code 1} to {@value TransactionSync#MAX_PAGE_SIZE}
+         * @return this builder
+         */
+        public Builder pageSize(int pageSize) {
+            if (pageSize <= 0 || pageSize > MAX_PAGE_SIZE) {
+                throw new IllegalArgumentException("pageSize must be between one and " + MAX_PAGE_SIZE);
+            }
+            this.pageSize = pageSize;
+            return this;
+        }
+
+        /**
+         * Builds {@link TransactionSync}.
+         *
+         * @return {@link TransactionSync}
+         */
+        public TransactionSync build() {
+            return new TransactionSync(this);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package cz.kb.openbanking.adaa.client.jersey;
+
+import java.util.Collections;
+import java.util.List;
+
+import cz.kb.openbanking.adaa.client.model.generated.AccountTransaction;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+/**
+ * Result of one incremental transaction synchronization of an account, see {@link TransactionSync}.
+ *
+ * @since 1.3
+ */
+public final class TransactionSyncResult {
+
+    private final List<AccountTransaction> newTransactions;
+
+    private final List<AccountTransaction> updatedTransactions;
+
+    private final int fetchedCount;
+
+    private final SyncWatermark watermark;
+
+    /**
+     * New instance.
+     *
+     * @param newTransactions     transactions not known from the previous synchronization
+     * @param updatedTransactions known transactions with changed {@code lastUpdated}
+     * @param fetchedCount        number of transactions fetched from the API
+     * @param watermark           new watermark of the account
+     */
+    TransactionSyncResult(List<AccountTransaction> newTransactions, List<AccountTransaction> updatedTransactions,
+                          int fetchedCount, SyncWatermark watermark) {
+        this.newTransactions = Collections.unmodifiableList(newTransactions);
+        this.updatedTransactions = Collections.unmodifiableList(updatedTransactions);
+        this.fetchedCount = fetchedCount;
+        this.watermark = watermark;
+    }
+
+    /**
+     * Gets transactions not known from the previous synchronization, all transactions of the first one.
+     *
+     * @return unmodifiable list of new transactions
+     */
+    public List<AccountTransaction> getNewTransactions() {
+        return newTransactions;
+    }
+
+    /**
+     * Gets transactions known from the previous synchronization whose {@code lastUpdated} changed since.
+     *
+     * @return unmodifiable list of updated transactions
+     */
+    public List<AccountTransaction> getUpdatedTransactions() {
+        return updatedTransactions;
+    }
+
+    /**
+     * Gets number of transactions fetched from the API, including unchanged and duplicate ones.
+     *
+     * @return number of fetched transactions
+     */
+    public int getFetchedCount() {
+        return fetchedCount;
+    }
+
+    /**
+     * Gets the new watermark of the account, already saved to the {@link WatermarkStore}.
+     *
+     * @return {@link SyncWatermark}
+     */
+    public SyncWatermark getWatermark() {
+        return watermark;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .append("newTransactions", newTransactions.size())
+                .append("updatedTransactions", updatedTransactions.size())
+                .append("fetchedCount", fetchedCount)
+                .append("watermark", watermark)
+                .toString();
+    }
+}
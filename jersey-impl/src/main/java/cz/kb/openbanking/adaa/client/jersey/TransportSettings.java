@@ -0,0 +1,407 @@
+package cz.kb.openbanking.adaa.client.jersey;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nullable;
+import javax.ws.rs.client.Client;
+import javax.ws.rs.client.ClientBuilder;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.glassfish.jersey.apache.connector.ApacheClientProperties;
+import org.glassfish.jersey.apache.connector.ApacheConnectorProvider;
+import org.glassfish.jersey.apache.connector.ApacheHttpClientBuilderConfigurator;
+import org.glassfish.jersey.client.ClientConfig;
+import org.glassfish.jersey.client.ClientProperties;
+import org.glassfish.jersey.client.filter.EncodingFeature;
+import org.glassfish.jersey.message.DeflateEncoder;
+import org.glassfish.jersey.message.GZipEncoder;
+
+/**
+ * Settings of the HTTP transport used to call the ADAA API.
+ * The transport is based on Apache HttpClient with a pool of persistent (keep-alive) connections.
+ * Asynchronous calls (e.g. {@link cz.kb.openbanking.adaa.client.api.search.ItemSearch#findAsync()}) do the blocking
+ * I/O on the executor of the Jersey client, which can be an executor of virtual threads on Java 21 and newer.
+ * Compressed responses ({@code gzip} and {@code deflate}) are requested by default and decompressed while
+ * the entity is read.
+ *
+ * @see AccountApiJerseyImpl.Builder#transport(TransportSettings)
+ * @since 1.3
+ */
+public final class TransportSettings {
+
+    /**
+     * Default maximal number of pooled connections.
+     */
+    public static final int DEFAULT_MAX_CONNECTIONS_TOTAL = 50;
+
+    /**
+     * Default maximal number of pooled connections per route (host).
+     */
+    public static final int DEFAULT_MAX_CONNECTIONS_PER_ROUTE = 20;
+
+    /**
+     * Default timeout of establishing a connection.
+     */
+    public static final Duration DEFAULT_CONNECT_TIMEOUT = Duration.ofSeconds(5);
+
+    /**
+     * Default timeout of waiting for data.
+     */
+    public static final Duration DEFAULT_READ_TIMEOUT = Duration.ofSeconds(30);
+
+    /**
+     * Default timeout of waiting for a connection from the pool.
+     */
+    public static final Duration DEFAULT_CONNECTION_REQUEST_TIMEOUT = Duration.ofSeconds(5);
+
+    /**
+     * Default time after that idle pooled connections are evicted.
+     */
+    public static final Duration DEFAULT_IDLE_CONNECTION_TIMEOUT = Duration.ofSeconds(30);
+
+    private final int maxConnectionsTotal;
+
+    private final int maxConnectionsPerRoute;
+
+    private final Duration connectTimeout;
+
+    private final Duration readTimeout;
+
+    private final Duration connectionRequestTimeout;
+
+    private final Duration idleConnectionTimeout;
+
+    private final ExecutorService asyncExecutor;
+
+    private final boolean virtualThreads;
+
+    private final boolean compression;
+
+    /**
+     * New instance.
+     *
+     * @param builder builder with the settings
+     */
+    private TransportSettings(Builder builder) {
+        this.maxConnectionsTotal = builder.maxConnectionsTotal;
+        this.maxConnectionsPerRoute = builder.maxConnectionsPerRoute;
+        this.connectTimeout = builder.connectTimeout;
+        this.readTimeout = builder.readTimeout;
+        this.connectionRequestTimeout = builder.connectionRequestTimeout;
+        this.idleConnectionTimeout = builder.idleConnectionTimeout;
+        this.asyncExecutor = builder.asyncExecutor;
+        this.virtualThreads = builder.virtualThreads;
+        this.compression = builder.compression;
+    }
+
+    /**
+     * Creates a new builder with default settings.
+     *
+     * @return {@link Builder}
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Gets default settings.
+     *
+     * @return {@link TransportSettings} with default values
+     */
+    public static TransportSettings defaults() {
+        return builder().build();
+    }
+
+    /**
+     * Creates a new Jersey {@link Client} with pooled Apache HttpClient connector configured by these settings.
+     * The client owns its connection pool, the pool is shut down when the client is closed.
+     *
+     * @return new {@link Client}
+     */
+    public Client createClient() {
+        PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
+        connectionManager.setMaxTotal(maxConnectionsTotal);
+        connectionManager.setDefaultMaxPerRoute(maxConnectionsPerRoute);
+
+        RequestConfig requestConfig = RequestConfig.custom()
+                                                   .setConnectionRequestTimeout(toMillis(connectionRequestTimeout))
+                                                   .build();
+
+        // decompression is done by Jersey's encoders instead of the HttpClient, so the compressed size
+        // of the response stays visible to the metrics
+        ApacheHttpClientBuilderConfigurator httpClientConfigurator = httpClientBuilder -> httpClientBuilder
+                .disableContentCompression()
+                .evictExpiredConnections()
+                .evictIdleConnections(idleConnectionTimeout.toMillis(), TimeUnit.MILLISECONDS);
+
+        ClientConfig clientConfig = new ClientConfig()
+                .connectorProvider(new ApacheConnectorProvider())
+                .property(ClientProperties.CONNECT_TIMEOUT, toMillis(connectTimeout))
+                .property(ClientProperties.READ_TIMEOUT, toMillis(readTimeout))
+                .property(ApacheClientProperties.CONNECTION_MANAGER, connectionManager)
+                .property(ApacheClientProperties.REQUEST_CONFIG, requestConfig)
+                .register(httpClientConfigurator);
+        if (compression) {
+            clientConfig.register(new EncodingFeature(GZipEncoder.class, DeflateEncoder.class));
+        }
+
+        ClientBuilder clientBuilder = ClientBuilder.newBuilder().withConfig(clientConfig);
+        if (asyncExecutor != null) {
+            clientBuilder.executorService(asyncExecutor);
+        } else if (virtualThreads) {
+            // Jersey doesn't shut down the executor, which is fine as virtual threads are not pooled
+            clientBuilder.executorService(newVirtualThreadPerTaskExecutor());
+        }
+        return clientBuilder.build();
+    }
+
+    /**
+     * Creates executor starting a new virtual thread for each task, available since Java 21.
+     * It's looked up reflectively, so the client can be still built and run on Java 8.
+     *
+     * @return {@link ExecutorService} of virtual threads
+     * @throws IllegalStateException if virtual threads are not supported by the running Java
+     */
+    private static ExecutorService newVirtualThreadPerTaskExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException("Virtual threads require Java 21 or newer.", e);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Executor of virtual threads can't be created.", e);
+        }
+    }
+
+    private static int toMillis(Duration duration) {
+        return (int) Math.min(duration.toMillis(), Integer.MAX_VALUE);
+    }
+
+    public int getMaxConnectionsTotal() {
+        return maxConnectionsTotal;
+    }
+
+    public int getMaxConnectionsPerRoute() {
+        return maxConnectionsPerRoute;
+    }
+
+    public Duration getConnectTimeout() {
+        return connectTimeout;
+    }
+
+    public Duration getReadTimeout() {
+        return readTimeout;
+    }
+
+    public Duration getConnectionRequestTimeout() {
+        return connectionRequestTimeout;
+    }
+
+    public Duration getIdleConnectionTimeout() {
+        return idleConnectionTimeout;
+    }
+
+    /**
+     * Gets executor of asynchronous calls.
+     *
+     * @return {@link ExecutorService} or {@code null} if the default executor of Jersey or virtual threads are used
+     */
+    @Nullable
+    public ExecutorService getAsyncExecutor() {
+        return asyncExecutor;
+    }
+
+    public boolean isVirtualThreads() {
+        return virtualThreads;
+    }
+
+    public boolean isCompression() {
+        return compression;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .append("maxConnectionsTotal", maxConnectionsTotal)
+                .append("maxConnectionsPerRoute", maxConnectionsPerRoute)
+                .append("connectTimeout", connectTimeout)
+                .append("readTimeout", readTimeout)
+                .append("connectionRequestTimeout", connectionRequestTimeout)
+                .append("idleConnectionTimeout", idleConnectionTimeout)
+                .append("asyncExecutor", asyncExecutor)
+                .append("virtualThreads", virtualThreads)
+                .append("compression", compression)
+                .toString();
+    }
+
+    /**
+     * Builder of the {@link TransportSettings}.
+     */
+    public static final class Builder {
+
+        private int maxConnectionsTotal = DEFAULT_MAX_CONNECTIONS_TOTAL;
+
+        private int maxConnectionsPerRoute = DEFAULT_MAX_CONNECTIONS_PER_ROUTE;
+
+        private Duration connectTimeout = DEFAULT_CONNECT_TIMEOUT;
+
+        private Duration readTimeout = DEFAULT_READ_TIMEOUT;
+
+        private Duration connectionRequestTimeout = DEFAULT_CONNECTION_REQUEST_TIMEOUT;
+
+        private Duration idleConnectionTimeout = DEFAULT_IDLE_CONNECTION_TIMEOUT;
+
+        private ExecutorService asyncExecutor;
+
+        private boolean virtualThreads;
+
+        private boolean compression = true;
+
+        /**
+         * No public instance, use {@link TransportSettings#builder()}.
+         */
+        private Builder() {
+        }
+
+        /**
+         * Sets maximal number of pooled connections.
+         *
+         * @param maxConnectionsTotal maximal number of pooled connections
+         * @return this builder
+         */
+        public Builder maxConnectionsTotal(int maxConnectionsTotal) {
+            if (maxConnectionsTotal <= 0) {
+                throw new IllegalArgumentException("maxConnectionsTotal must be greater than zero");
+            }
+            this.maxConnectionsTotal = maxConnectionsTotal;
+            return this;
+        }
+
+        /**
+         * Sets maximal number of pooled connections per route (host).
+         *
+         * @param maxConnectionsPerRoute maximal number of pooled connections per route
+         * @return this builder
+         */
+        public Builder maxConnectionsPerRoute(int maxConnectionsPerRoute) {
+            if (maxConnectionsPerRoute <= 0) {
+                throw new IllegalArgumentException("maxConnectionsPerRoute must be greater than zero");
+            }
+            this.maxConnectionsPerRoute = maxConnectionsPerRoute;
+            return this;
+        }
+
+        /**
+         * Sets timeout of establishing a connection, zero means infinite timeout.
+         *
+         * @param connectTimeout timeout of establishing a connection
+         * @return this builder
+         */
+        public Builder connectTimeout(Duration connectTimeout) {
+            this.connectTimeout = checkTimeout(connectTimeout, "connectTimeout");
+            return this;
+        }
+
+        /**
+         * Sets timeout of waiting for data, zero means infinite timeout.
+         *
+         * @param readTimeout timeout of waiting for data
+         * @return this builder
+         */
+        public Builder readTimeout(Duration readTimeout) {
+            this.readTimeout = checkTimeout(readTimeout, "readTimeout");
+            return this;
+        }
+
+        /**
+         * Sets timeout of waiting for a connection from the pool, zero means infinite timeout.
+         *
+         * @param connectionRequestTimeout timeout of waiting for a connection from the pool
+         * @return this builder
+         */
+        public Builder connectionRequestTimeout(Duration connectionRequestTimeout) {
+            this.connectionRequestTimeout = checkTimeout(connectionRequestTimeout, "connectionRequestTimeout");
+            return this;
+        }
+
+        /**
+         * Sets time after that idle pooled connections are evicted.
+         *
+         * @param idleConnectionTimeout time after that idle pooled connections are evicted
+         * @return this builder
+         */
+        public Builder idleConnectionTimeout(Duration idleConnectionTimeout) {
+            if (idleConnectionTimeout == null || idleConnectionTimeout.isNegative() || idleConnectionTimeout.isZero()) {
+                throw new IllegalArgumentException("idleConnectionTimeout must be positive");
+            }
+            this.idleConnectionTimeout = idleConnectionTimeout;
+            return this;
+        }
+
+        /**
+         * Sets executor of asynchronous calls, it does the blocking I/O of the calls. The executor is not shut down
+         * by the client. Jersey's default executor (unbounded pool of platform threads) is used by default.
+         *
+         * @param asyncExecutor executor of asynchronous calls
+         * @return this builder
+         */
+        public Builder asyncExecutor(ExecutorService asyncExecutor) {
+            if (asyncExecutor == null) {
+                throw new IllegalArgumentException("asyncExecutor must not be null");
+            }
+            this.asyncExecutor = asyncExecutor;
+            this.virtualThreads = false;
+            return this;
+        }
+
+        /**
+         * Enables or disables executing of asynchronous calls on virtual threads, one per call,
+         * so tens of thousands of concurrent calls don't need a large pool of platform threads.
+         * Replaces {@link #asyncExecutor(ExecutorService)}. Blocking calls (e.g.
+         * {@link cz.kb.openbanking.adaa.client.api.search.ItemSearch#find()}) still run on the calling thread.
+         *
+         * @param virtualThreads {@code true} to execute asynchronous calls on virtual threads
+         * @return this builder
+         * @throws IllegalStateException if virtual threads are enabled and the running Java doesn't support them
+         */
+        public Builder virtualThreads(boolean virtualThreads) {
+            if (virtualThreads) {
+                newVirtualThreadPerTaskExecutor();
+                this.asyncExecutor = null;
+            }
+            this.virtualThreads = virtualThreads;
+            return this;
+        }
+
+        /**
+         * Enables or disables requesting of compressed responses ({@code Accept-Encoding: gzip, deflate}).
+         * Compressed responses are decompressed as a stream while the entity is read. Enabled by default.
+         *
+         * @param compression {@code true} to request compressed responses
+         * @return this builder
+         */
+        public Builder compression(boolean compression) {
+            this.compression = compression;
+            return this;
+        }
+
+        /**
+         * Builds {@link TransportSettings}.
+         *
+         * @return {@link TransportSettings}
+         */
+        public TransportSettings build() {
+            return new TransportSettings(this);
+        }
+
+        private static Duration checkTimeout(Duration timeout, String name) {
+            if (timeout == null || timeout.isNegative()) {
+                throw new IllegalArgumentException(name + " must not be null or negative");
+            }
+            return timeout;
+        }
+    }
+}
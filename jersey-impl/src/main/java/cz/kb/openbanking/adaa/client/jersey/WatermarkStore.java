@@ -0,0 +1,31 @@
+package cz.kb.openbanking.adaa.client.jersey;
+
+import javax.annotation.Nullable;
+
+/**
+ * Store of {@link SyncWatermark}s of the incremental transaction synchronization by account ids.
+ * Implementations must be thread-safe.
+ *
+ * @see InMemoryWatermarkStore
+ * @see FileWatermarkStore
+ * @since 1.3
+ */
+public interface WatermarkStore {
+
+    /**
+     * Loads the watermark of the account.
+     *
+     * @param accountId id of the account
+     * @return {@link SyncWatermark} or {@code null} if the account was never synchronized
+     */
+    @Nullable
+    SyncWatermark load(String accountId);
+
+    /**
+     * Saves the watermark of the account, replaces the previous one.
+     *
+     * @param accountId id of the account
+     * @param watermark {@link SyncWatermark} after a successful synchronization
+     */
+    void save(String accountId, SyncWatermark watermark);
+}
@@ -14,6 +14,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.mockserver.integration.ClientAndServer;
 import org.mockserver.model.Header;
 import org.mockserver.model.HttpStatusCode;
+import org.mockserver.model.Parameter;
 
 /**
  * Basic abstract test class for the ADAA client Jersey implementation.
@@ -48,9 +49,10 @@ abstract class AbstractAdaaJerseyClientTest {
      * @param responseResourceName path to the resource that represents a mock server's response
      * @param method               HTTP method
      * @param status               HTTP response
+     * @param queryParameters      query parameters the request must contain to get the response
      */
     protected void configureServer(String urlPath, String responseResourceName, HttpMethod method,
-                                   HttpStatusCode status)
+                                   HttpStatusCode status, Parameter... queryParameters)
     {
         if (StringUtils.isBlank(urlPath)) {
             throw new IllegalArgumentException("urlPath must not be empty");
@@ -77,7 +79,8 @@ abstract class AbstractAdaaJerseyClientTest {
             .when(
                 request()
                     .withMethod(method.name())
-                    .withPath(urlPath))
+                    .withPath(urlPath)
+                    .withQueryStringParameters(queryParameters))
             .respond(
                 response()
                     .withStatusCode(status.code())
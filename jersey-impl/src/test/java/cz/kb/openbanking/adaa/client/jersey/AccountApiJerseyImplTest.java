@@ -2,18 +2,53 @@ package cz.kb.openbanking.adaa.client.jersey;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.api.Assertions.entry;
 import static org.mockserver.model.HttpRequest.request;
 import static org.mockserver.model.HttpResponse.response;
+import static org.mockserver.model.JsonBody.json;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.channels.Channels;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.zip.GZIPOutputStream;
+import javax.ws.rs.client.ClientBuilder;
 import javax.ws.rs.core.MediaType;
 
 import cz.kb.openbanking.adaa.client.api.AccountApi;
+import cz.kb.openbanking.adaa.client.api.AccountSession;
+import cz.kb.openbanking.adaa.client.api.exception.CircuitBreakerOpenException;
 import cz.kb.openbanking.adaa.client.api.exception.ItemSearchException;
 import cz.kb.openbanking.adaa.client.api.model.PageSlice;
+import cz.kb.openbanking.adaa.client.api.search.ItemSearch;
+import cz.kb.openbanking.adaa.client.api.search.PdfStatementSearch;
+import cz.kb.openbanking.adaa.client.api.search.TransactionHistorySearch;
 import cz.kb.openbanking.adaa.client.model.generated.Account;
 import cz.kb.openbanking.adaa.client.model.generated.AccountBalance;
 import cz.kb.openbanking.adaa.client.model.generated.AccountTransaction;
@@ -22,13 +57,23 @@ import cz.kb.openbanking.adaa.client.model.generated.CreditDebitIndicator;
 import cz.kb.openbanking.adaa.client.model.generated.CreditLine;
 import cz.kb.openbanking.adaa.client.model.generated.CurrencyAmount;
 import cz.kb.openbanking.adaa.client.model.generated.Error;
+import cz.kb.openbanking.adaa.client.model.generated.IsAliveResponse;
 import cz.kb.openbanking.adaa.client.model.generated.Statement;
+import cz.kb.openbanking.adaa.client.model.generated.SubscriptionInfo;
+import cz.kb.openbanking.adaa.client.model.generated.SubscriptionRequest;
 import cz.kb.openbanking.adaa.client.model.generated.TransactionCounterparty;
 import cz.kb.openbanking.adaa.client.model.generated.TransactionReferences;
 import cz.kb.openbanking.adaa.client.model.generated.TransactionType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import io.netty.handler.codec.http.HttpMethod;
 import org.apache.commons.io.IOUtils;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockserver.matchers.Times;
 import org.mockserver.model.Header;
 import org.mockserver.model.HttpStatusCode;
 import org.mockserver.model.Parameter;
@@ -47,6 +92,11 @@ class AccountApiJerseyImplTest extends AbstractAdaaJerseyClientTest {
      */
     private static final long STATEMENT_ID = 1234L;
 
+    /**
+     * Subscription ID.
+     */
+    private static final String SUBSCRIPTION_ID = "71f415f4-412d-4c55-af05-15d1e0389f8f";
+
     /**
      * Start of the date-time interval of account statements.
      */
@@ -80,6 +130,122 @@ class AccountApiJerseyImplTest extends AbstractAdaaJerseyClientTest {
         );
     }
 
+    /**
+     * Test method for the {@link AccountApi#accounts(String)} with custom {@link TransportSettings}.
+     */
+    @Test
+    void test_getAccounts_customTransport_ok() {
+        configureServer("/accounts", "response-accounts.json", HttpMethod.GET, HttpStatusCode.OK_200);
+
+        TransportSettings transportSettings = TransportSettings.builder()
+                .maxConnectionsTotal(2)
+                .maxConnectionsPerRoute(1)
+                .connectTimeout(Duration.ofSeconds(1))
+                .readTimeout(Duration.ofSeconds(2))
+                .connectionRequestTimeout(Duration.ofSeconds(1))
+                .build();
+
+        try (AccountApiJerseyImpl accountApi = AccountApiJerseyImpl.builder(MOCK_SERVER_URI, "apiKey")
+                .transport(transportSettings)
+                .build()) {
+            // the only pooled connection is reused by all requests
+            for (int i = 0; i < 3; i++) {
+                assertThat(accountApi.accounts("accessToken").find()).hasSize(1);
+            }
+        }
+
+        mockServer.verify(request().withPath("/accounts"), VerificationTimes.exactly(3));
+    }
+
+    /**
+     * Test method for the {@link AccountApi#accounts(String)} with enabled response cache.
+     */
+    @Test
+    void test_getAccounts_cached_ok() {
+        configureServer("/accounts", "response-accounts.json", HttpMethod.GET, HttpStatusCode.OK_200);
+
+        AccountApiJerseyImpl accountApi = AccountApiJerseyImpl.builder(MOCK_SERVER_URI, "apiKey")
+                .responseCache(ResponseCacheSettings.builder().build())
+                .build();
+        List<Account> first = accountApi.accounts("accessToken").find();
+        List<Account> second = accountApi.accounts("accessToken").find();
+        accountApi.accounts("otherAccessToken").find();
+
+        assertThat(second).isSameAs(first).hasSize(1);
+        assertThat(accountApi.getResponseCacheStatistics().getHitCount()).isEqualTo(1);
+        assertThat(accountApi.getResponseCacheStatistics().getMissCount()).isEqualTo(2);
+
+        mockServer.verify(
+            request()
+                .withPath("/accounts")
+                .withHeader("Authorization", "Bearer accessToken"),
+            VerificationTimes.exactly(1)
+        );
+    }
+
+    /**
+     * Test method for the {@link AccountApi#balances(String, String)} with revalidation of the cached response.
+     */
+    @Test
+    void test_getAccountBalances_revalidated_ok() throws IOException {
+        String balancesPath = "/accounts/" + ACCOUNT_ID + "/balances";
+        mockServer
+            .when(request().withPath(balancesPath).withHeader("If-None-Match", "\"v1\""))
+            .respond(response().withStatusCode(HttpStatusCode.NOT_MODIFIED_304.code()));
+        mockServer
+            .when(request().withPath(balancesPath))
+            .respond(
+                response()
+                    .withStatusCode(HttpStatusCode.OK_200.code())
+                    .withHeader(new Header("Content-Type", "application/json"))
+                    .withHeader(new Header("ETag", "\"v1\""))
+                    .withBody(IOUtils.toString(getClass().getClassLoader()
+                            .getResourceAsStream("response-account-balances.json"), StandardCharsets.UTF_8)));
+
+        // the cached response expires immediately, so every call is revalidated
+        AccountApiJerseyImpl accountApi = AccountApiJerseyImpl.builder(MOCK_SERVER_URI, "apiKey")
+                .responseCache(ResponseCacheSettings.builder().balancesTtl(Duration.ZERO).build())
+                .build();
+        List<AccountBalance> first = accountApi.balances(ACCOUNT_ID, "accessToken").find();
+        List<AccountBalance> second = accountApi.balances(ACCOUNT_ID, "accessToken").find();
+
+        assertThat(second).isSameAs(first).hasSize(1);
+        assertThat(accountApi.getResponseCacheStatistics().getRevalidationCount()).isEqualTo(1);
+
+        mockServer.verify(request().withPath(balancesPath), VerificationTimes.exactly(2));
+        mockServer.verify(request().withPath(balancesPath).withHeader("If-None-Match", "\"v1\""),
+                VerificationTimes.exactly(1));
+    }
+
+    /**
+     * Test method for the asynchronous {@link AccountApi#balances(String, String)} with coalesced requests.
+     */
+    @Test
+    void test_getAccountBalancesAsync_coalesced_ok() throws IOException {
+        String balancesPath = "/accounts/" + ACCOUNT_ID + "/balances";
+        mockServer
+            .when(request().withPath(balancesPath))
+            .respond(
+                response()
+                    .withStatusCode(HttpStatusCode.OK_200.code())
+                    .withHeader(new Header("Content-Type", "application/json"))
+                    .withBody(IOUtils.toString(getClass().getClassLoader()
+                            .getResourceAsStream("response-account-balances.json"), StandardCharsets.UTF_8))
+                    .withDelay(TimeUnit.MILLISECONDS, 500));
+
+        AccountApiJerseyImpl accountApi = AccountApiJerseyImpl.builder(MOCK_SERVER_URI, "apiKey")
+                .coalesceRequests(true)
+                .build();
+        List<CompletableFuture<List<AccountBalance>>> results = IntStream.range(0, 5)
+                .mapToObj(i -> accountApi.balances(ACCOUNT_ID, "accessToken").findAsync().toCompletableFuture())
+                .collect(Collectors.toList());
+
+        assertThat(results).allSatisfy(result -> assertThat(result.join()).isSameAs(results.get(0).join()));
+        assertThat(accountApi.getCoalescedRequestCount()).isEqualTo(4);
+
+        mockServer.verify(request().withPath(balancesPath), VerificationTimes.exactly(1));
+    }
+
     /**
      * Test method for the {@link AccountApi#balances(String, String)} with positive result.
      */
@@ -117,6 +283,156 @@ class AccountApiJerseyImplTest extends AbstractAdaaJerseyClientTest {
         );
     }
 
+    /**
+     * Test method for the {@link AccountApi#session(String)}, searches of an account are reused by the session.
+     */
+    @Test
+    void test_session_balancesAndTransactions_ok() {
+        configureServer("/accounts/" + ACCOUNT_ID + "/balances", "response-account-balances.json",
+                HttpMethod.GET, HttpStatusCode.OK_200);
+        configureServer("/accounts/" + ACCOUNT_ID + "/transactions", "response-transaction-history.json",
+                HttpMethod.GET, HttpStatusCode.OK_200);
+
+        AccountApi accountApi = new AccountApiJerseyImpl(MOCK_SERVER_URI, "apiKey");
+        AccountSession session = accountApi.session("accessToken");
+
+        assertThat(session.balances(ACCOUNT_ID)).isSameAs(session.balances(ACCOUNT_ID));
+        for (int i = 0; i < 2; i++) {
+            assertThat(session.balances(ACCOUNT_ID).find()).hasSize(1);
+        }
+        PageSlice<AccountTransaction> transactions = session.transactions(ACCOUNT_ID)
+                .page(5)
+                .size(3)
+                .page(0)
+                .find();
+
+        assertThat(transactions.getContent()).hasSize(2);
+        mockServer.verify(
+                request()
+                        .withPath("/accounts/" + ACCOUNT_ID + "/balances")
+                        .withHeader("x-api-key", "Bearer apiKey")
+                        .withHeader("Authorization", "Bearer accessToken"),
+                VerificationTimes.exactly(2)
+        );
+        mockServer.verify(
+                request()
+                        .withPath("/accounts/" + ACCOUNT_ID + "/transactions")
+                        .withQueryStringParameter("page", "0")
+                        .withQueryStringParameter("size", "3")
+                        .withHeader("Authorization", "Bearer accessToken"),
+                VerificationTimes.exactly(1)
+        );
+    }
+
+    /**
+     * Test method for the {@link AccountApi#session(String)}, searches of the least recently used accounts
+     * are evicted.
+     */
+    @Test
+    void test_session_accountsEvicted() {
+        AccountSession session = new AccountApiJerseyImpl(MOCK_SERVER_URI, "apiKey").session("accessToken");
+        TransactionHistorySearch first = session.transactions("account0");
+        TransactionHistorySearch second = session.transactions("account1");
+
+        for (int i = 2; i <= AccountSessionJerseyImpl.MAX_ACCOUNTS; i++) {
+            session.transactions("account" + i);
+            // keeps the first account recently used
+            session.transactions("account0");
+        }
+
+        assertThat(session.transactions("account0")).isSameAs(first);
+        assertThat(session.transactions("account1")).isNotSameAs(second);
+    }
+
+    /**
+     * Test method for the {@link AccountApiJerseyImpl#session(TokenProvider)}, requests rejected
+     * with {@code 401 Unauthorized} are replayed once with a refreshed token.
+     */
+    @Test
+    void test_session_tokenProvider_replayedAfterUnauthorized() {
+        String balancesPath = "/accounts/" + ACCOUNT_ID + "/balances";
+        mockServer
+                .when(request().withPath(balancesPath).withHeader("Authorization", "Bearer token-1"))
+                .respond(response().withStatusCode(HttpStatusCode.UNAUTHORIZED_401.code()));
+        configureServer(balancesPath, "response-account-balances.json", HttpMethod.GET, HttpStatusCode.OK_200);
+
+        AccountApiJerseyImpl accountApi = new AccountApiJerseyImpl(MOCK_SERVER_URI, "apiKey");
+        Iterator<String> syncTokens = Arrays.asList("token-1", "token-2").iterator();
+        Iterator<String> asyncTokens = Arrays.asList("token-1", "token-2").iterator();
+        AccountSession syncSession = accountApi.session(() -> new AccessToken(syncTokens.next(), null));
+        AccountSession asyncSession = accountApi.session(() -> new AccessToken(asyncTokens.next(), null));
+
+        assertThat(syncSession.balances(ACCOUNT_ID).find()).hasSize(1);
+        assertThat(asyncSession.balances(ACCOUNT_ID).findAsync().toCompletableFuture().join()).hasSize(1);
+
+        assertThat(syncTokens.hasNext()).isFalse();
+        assertThat(asyncTokens.hasNext()).isFalse();
+        mockServer.verify(request().withPath(balancesPath).withHeader("Authorization", "Bearer token-1"),
+                VerificationTimes.exactly(2));
+        mockServer.verify(request().withPath(balancesPath).withHeader("Authorization", "Bearer token-2"),
+                VerificationTimes.exactly(2));
+        accountApi.close();
+    }
+
+    /**
+     * Test method for the {@link AccountApiJerseyImpl#session(TokenProvider, Duration)}, the used token
+     * is refreshed ahead of its expiration.
+     */
+    @Test
+    void test_session_tokenProvider_refreshedAhead() throws InterruptedException {
+        String balancesPath = "/accounts/" + ACCOUNT_ID + "/balances";
+        configureServer(balancesPath, "response-account-balances.json", HttpMethod.GET, HttpStatusCode.OK_200);
+
+        AccountApiJerseyImpl accountApi = new AccountApiJerseyImpl(MOCK_SERVER_URI, "apiKey");
+        AtomicInteger fetched = new AtomicInteger();
+        AccountSession session = accountApi.session(
+                () -> AccessToken.expiringIn("token-" + fetched.incrementAndGet(), Duration.ofSeconds(1)),
+                Duration.ofMillis(800));
+
+        session.balances(ACCOUNT_ID).find();
+        for (int i = 0; i < 100 && fetched.get() < 2; i++) {
+            Thread.sleep(50);
+        }
+        assertThat(fetched).hasValue(2);
+        session.balances(ACCOUNT_ID).find();
+
+        mockServer.verify(request().withPath(balancesPath).withHeader("Authorization", "Bearer token-2"),
+                VerificationTimes.exactly(1));
+        accountApi.close();
+    }
+
+    /**
+     * Test method for the {@link AccountApiJerseyImpl#session(TokenProvider)}, the asynchronous search doesn't wait
+     * for the provider, it's called on the refresh thread of the client.
+     */
+    @Test
+    void test_session_tokenProvider_fetchedByRefreshThread() {
+        configureServer("/accounts/" + ACCOUNT_ID + "/balances", "response-account-balances.json", HttpMethod.GET,
+                HttpStatusCode.OK_200);
+
+        AccountApiJerseyImpl accountApi = new AccountApiJerseyImpl(MOCK_SERVER_URI, "apiKey");
+        CountDownLatch released = new CountDownLatch(1);
+        AtomicReference<String> fetchingThread = new AtomicReference<>();
+        AccountSession session = accountApi.session(() -> {
+            fetchingThread.set(Thread.currentThread().getName());
+            try {
+                released.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return new AccessToken("token", null);
+        });
+
+        CompletableFuture<List<AccountBalance>> result = session.balances(ACCOUNT_ID).findAsync()
+                .toCompletableFuture();
+        assertThat(result).isNotDone();
+        released.countDown();
+
+        assertThat(result.join()).hasSize(1);
+        assertThat(fetchingThread.get()).startsWith("adaa-token-refresh-");
+        accountApi.close();
+    }
+
     /**
      * Test method for the {@link AccountApi#transactions(String, String)} with positive result.
      */
@@ -227,6 +543,179 @@ class AccountApiJerseyImplTest extends AbstractAdaaJerseyClientTest {
         );
     }
 
+    /**
+     * Test method for the {@link AccountApi#transactions(String, String)} with the application's own
+     * {@link ObjectMapper} and positive result.
+     */
+    @Test
+    void test_getTransactions_sharedObjectMapper_ok() {
+        configureServer("/accounts/" + ACCOUNT_ID + "/transactions", "response-transaction-history.json",
+                HttpMethod.GET, HttpStatusCode.OK_200);
+
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        AccountApi accountApi = new AccountApiJerseyImpl(MOCK_SERVER_URI, "apiKey", ClientBuilder.newClient(),
+                objectMapper);
+
+        PageSlice<AccountTransaction> firstResult = accountApi.transactions(ACCOUNT_ID, "accessToken").find();
+        PageSlice<AccountTransaction> secondResult = accountApi.transactions(ACCOUNT_ID, "accessToken").find();
+
+        assertThat(firstResult.getContent()).hasSize(2);
+        assertThat(secondResult).isEqualTo(firstResult);
+        assertThat(firstResult.getContent().get(0).getLastUpdated())
+                .isEqualTo(OffsetDateTime.parse("2020-01-14T09:33:06.323Z"));
+    }
+
+    /**
+     * Test method for the {@link TransactionHistorySearch#stream()} over all pages.
+     */
+    @Test
+    void test_streamTransactions_allPages_ok() {
+        for (int page = 0; page < 3; page++) {
+            configureServer("/accounts/" + ACCOUNT_ID + "/transactions",
+                    "response-transaction-history-page-" + page + ".json", HttpMethod.GET, HttpStatusCode.OK_200,
+                    new Parameter("page", String.valueOf(page)));
+        }
+
+        AccountApi accountApi = new AccountApiJerseyImpl(MOCK_SERVER_URI, "apiKey");
+
+        List<String> result = accountApi.transactions(ACCOUNT_ID, "accessToken")
+                .size(1)
+                .page(2)
+                .stream()
+                .map(AccountTransaction::getEntryReference)
+                .collect(Collectors.toList());
+
+        assertThat(result).containsExactly("KB-1000000000", "KB-1000000001", "KB-1000000002");
+
+        mockServer.verify(
+                request()
+                        .withPath("/accounts/" + ACCOUNT_ID + "/transactions")
+                        .withQueryStringParameter("size", "1"),
+                VerificationTimes.exactly(3)
+        );
+    }
+
+    /**
+     * Test method for the {@link TransactionSync#sync(String, String)} fetching only transactions since the watermark
+     * persisted by {@link FileWatermarkStore}.
+     */
+    @Test
+    void test_syncTransactions_incremental(@TempDir Path tempDir) {
+        String transactionsPath = "/accounts/" + ACCOUNT_ID + "/transactions";
+        configureServer(transactionsPath, "response-transaction-history-updated.json", HttpMethod.GET,
+                HttpStatusCode.OK_200, new Parameter("fromDate", "2020-01-08T00:00Z"));
+        configureServer(transactionsPath, "response-transaction-history.json", HttpMethod.GET, HttpStatusCode.OK_200);
+
+        AccountApi accountApi = new AccountApiJerseyImpl(MOCK_SERVER_URI, "apiKey");
+        Path watermarks = tempDir.resolve("watermarks.json");
+        TransactionSyncResult first = TransactionSync.builder(accountApi, new FileWatermarkStore(watermarks))
+                .build()
+                .sync(ACCOUNT_ID, "accessToken");
+        TransactionSyncResult second = TransactionSync.builder(accountApi, new FileWatermarkStore(watermarks))
+                .build()
+                .sync(ACCOUNT_ID, "accessToken");
+
+        assertThat(first.getNewTransactions()).extracting(AccountTransaction::getEntryReference)
+                .containsExactly("KB-1234567890", "KB-1234567891");
+        assertThat(first.getUpdatedTransactions()).isEmpty();
+        assertThat(second.getFetchedCount()).isEqualTo(4);
+        assertThat(second.getNewTransactions()).extracting(AccountTransaction::getEntryReference)
+                .containsExactly("KB-1234567892");
+        assertThat(second.getUpdatedTransactions()).extracting(AccountTransaction::getEntryReference)
+                .containsExactly("KB-1234567891");
+        assertThat(second.getWatermark().getLastUpdated())
+                .isEqualTo(OffsetDateTime.parse("2020-01-16T11:00:00.000Z"));
+        mockServer.verify(request().withPath(transactionsPath).withQueryStringParameter("size", "20"),
+                VerificationTimes.exactly(2));
+    }
+
+    /**
+     * Test method for the {@link TransactionSync#sync(String, String)} with identical transactions
+     * without {@code entryReference}, they are reported as new only once.
+     */
+    @Test
+    void test_syncTransactions_withoutEntryReference() {
+        configureServer("/accounts/" + ACCOUNT_ID + "/transactions", "response-transaction-history-unreferenced.json",
+                HttpMethod.GET, HttpStatusCode.OK_200);
+
+        TransactionSync transactionSync = TransactionSync.builder(new AccountApiJerseyImpl(MOCK_SERVER_URI, "apiKey"),
+                new InMemoryWatermarkStore())
+                .build();
+        TransactionSyncResult first = transactionSync.sync(ACCOUNT_ID, "accessToken");
+        TransactionSyncResult second = transactionSync.sync(ACCOUNT_ID, "accessToken");
+
+        assertThat(first.getNewTransactions()).hasSize(2);
+        assertThat(second.getFetchedCount()).isEqualTo(2);
+        assertThat(second.getNewTransactions()).isEmpty();
+        assertThat(second.getUpdatedTransactions()).isEmpty();
+    }
+
+    /**
+     * Test method for the {@link TransactionHistorySearch#findAll(int)} with positive result.
+     */
+    @Test
+    void test_findAllTransactions_ok() {
+        for (int page = 0; page < 3; page++) {
+            configureServer("/accounts/" + ACCOUNT_ID + "/transactions",
+                    "response-transaction-history-page-" + page + ".json", HttpMethod.GET, HttpStatusCode.OK_200,
+                    new Parameter("page", String.valueOf(page)));
+        }
+
+        AccountApi accountApi = new AccountApiJerseyImpl(MOCK_SERVER_URI, "apiKey");
+
+        List<AccountTransaction> result = accountApi.transactions(ACCOUNT_ID, "accessToken")
+                .size(1)
+                .findAll(2);
+
+        assertThat(result).extracting(AccountTransaction::getEntryReference)
+                .containsExactly("KB-1000000000", "KB-1000000001", "KB-1000000002");
+    }
+
+    /**
+     * Test method for the equality and immutability of the pages found by {@link TransactionHistorySearch#find()}.
+     */
+    @Test
+    void test_getTransactions_pagesEqualAndImmutable() {
+        configureServer("/accounts/" + ACCOUNT_ID + "/transactions", "response-transaction-history-page-1.json",
+                HttpMethod.GET, HttpStatusCode.OK_200);
+
+        AccountApi accountApi = new AccountApiJerseyImpl(MOCK_SERVER_URI, "apiKey");
+        PageSlice<AccountTransaction> page = accountApi.transactions(ACCOUNT_ID, "accessToken").find();
+        PageSlice<AccountTransaction> samePage = accountApi.transactions(ACCOUNT_ID, "accessToken").find();
+
+        assertThat(page).isEqualTo(samePage).hasSameHashCodeAs(samePage);
+        assertThat(page.getContent()).isSameAs(page.getContent());
+        assertThat(catchThrowable(() -> page.getContent().clear())).isInstanceOf(UnsupportedOperationException.class);
+        assertThat(new PageSlice<>(page.getContent(), 3, 1, 1, 1, false, false, false)).isEqualTo(page);
+    }
+
+    /**
+     * Test method for the {@link TransactionHistorySearch#findEach(java.util.function.Consumer)}
+     * with positive result.
+     */
+    @Test
+    void test_findEachTransaction_ok() {
+        configureServer("/accounts/" + ACCOUNT_ID + "/transactions", "response-transaction-history-page-1.json",
+                HttpMethod.GET, HttpStatusCode.OK_200, new Parameter("page", "1"));
+
+        AccountApi accountApi = new AccountApiJerseyImpl(MOCK_SERVER_URI, "apiKey");
+
+        List<AccountTransaction> transactions = new ArrayList<>();
+        PageSlice<AccountTransaction> result = accountApi.transactions(ACCOUNT_ID, "accessToken")
+                .size(1)
+                .page(1)
+                .findEach(transactions::add);
+
+        assertThat(transactions).extracting(AccountTransaction::getEntryReference).containsExactly("KB-1000000001");
+        assertThat(transactions.get(0).getAmount().getCurrency()).isEqualTo("EUR");
+        assertThat(result.getContent()).isEmpty();
+        assertThat(result.getTotalPages()).isEqualTo(3);
+        assertThat(result.getPageNumber()).isEqualTo(1);
+        assertThat(result.getNumberOfElements()).isEqualTo(1);
+        assertThat(result.isFirst()).isFalse();
+        assertThat(result.isLast()).isFalse();
+    }
+
     /**
      * Test method for the {@link AccountApi#statements(String, String, OffsetDateTime)}
      * with positive result.
@@ -300,6 +789,82 @@ class AccountApiJerseyImplTest extends AbstractAdaaJerseyClientTest {
         );
     }
 
+    /**
+     * Test method for the streaming variants of the {@link AccountApi#statementPdf(String, String, long)}.
+     */
+    @Test
+    void test_downloadPdfStatement_ok(@TempDir Path tempDir) throws IOException {
+        byte[] response = IOUtils.toByteArray(
+                getClass().getClassLoader().getResourceAsStream("response-pdf-statement.pdf"));
+        mockServer
+                .when(
+                        request()
+                                .withMethod(HttpMethod.GET.name())
+                                .withPath("/accounts/" + ACCOUNT_ID + "/statements/" + STATEMENT_ID))
+                .respond(
+                        response()
+                                .withStatusCode(HttpStatusCode.OK_200.code())
+                                .withHeader(new Header("Content-Type", "application/pdf"))
+                                .withBody(response));
+
+        AccountApi accountApi = new AccountApiJerseyImpl(MOCK_SERVER_URI, "apiKey");
+
+        try (InputStream stream = accountApi.statementPdf(ACCOUNT_ID, "accessToken", STATEMENT_ID).findAsStream()) {
+            assertThat(stream).hasSameContentAs(new ByteArrayInputStream(response));
+        }
+
+        Path file = tempDir.resolve("statement.pdf");
+        long written = accountApi.statementPdf(ACCOUNT_ID, "accessToken", STATEMENT_ID).downloadTo(file);
+        assertThat(written).isEqualTo(response.length);
+        assertThat(Files.readAllBytes(file)).isEqualTo(response);
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        accountApi.statementPdf(ACCOUNT_ID, "accessToken", STATEMENT_ID).transferTo(Channels.newChannel(output));
+        assertThat(output.toByteArray()).isEqualTo(response);
+    }
+
+    /**
+     * Test method for the default streaming variants of the {@link PdfStatementSearch}, e.g. of a custom implementation.
+     */
+    @Test
+    void test_downloadPdfStatement_defaults(@TempDir Path tempDir) throws IOException {
+        byte[] response = IOUtils.toByteArray(
+                getClass().getClassLoader().getResourceAsStream("response-pdf-statement.pdf"));
+        PdfStatementSearch search = () -> response;
+
+        try (InputStream stream = search.findAsStream()) {
+            assertThat(stream).hasSameContentAs(new ByteArrayInputStream(response));
+        }
+
+        Path file = tempDir.resolve("statement.pdf");
+        Files.write(file, new byte[] {1, 2, 3});
+        assertThat(search.downloadTo(file)).isEqualTo(response.length);
+        assertThat(Files.readAllBytes(file)).isEqualTo(response);
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        assertThat(search.transferTo(Channels.newChannel(output))).isEqualTo(response.length);
+        assertThat(output.toByteArray()).isEqualTo(response);
+    }
+
+    /**
+     * Test method for the {@link PdfStatementSearch#downloadTo(Path)} with unknown error occurred.
+     */
+    @Test
+    void test_downloadPdfStatement_unknownError(@TempDir Path tempDir) {
+        configureServer("/accounts/" + ACCOUNT_ID + "/statements/" + STATEMENT_ID, "response-unknown-error.xml",
+                HttpMethod.GET, HttpStatusCode.FORBIDDEN_403);
+
+        AccountApi accountApi = new AccountApiJerseyImpl(MOCK_SERVER_URI, "apiKey");
+        Path file = tempDir.resolve("statement.pdf");
+
+        Throwable thrown = catchThrowable(() ->
+                accountApi.statementPdf(ACCOUNT_ID, "accessToken", STATEMENT_ID).downloadTo(file));
+
+        assertThat(thrown).isInstanceOf(ItemSearchException.class)
+                .hasMessage("Error occurred during calling API. Error: Forbidden");
+        assertThat(file).doesNotExist();
+    }
+
     /**
      * Test method for the {@link AccountApi#balances(String, String)} with unknown error occurred.
      */
@@ -317,6 +882,500 @@ class AccountApiJerseyImplTest extends AbstractAdaaJerseyClientTest {
         assertThat(itemSearchException.getErrors().size()).isEqualTo(0);
     }
 
+    /**
+     * Test method for the {@link AccountApi#balances(String, String)} with recorded metrics.
+     */
+    @Test
+    void test_getAccountBalances_metrics() {
+        configureServer("/accounts", "response-accounts.json", HttpMethod.GET, HttpStatusCode.OK_200);
+        configureServer("/accounts/" + ACCOUNT_ID + "/balances", "response-unknown-error.xml", HttpMethod.GET,
+                HttpStatusCode.FORBIDDEN_403);
+
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        AccountApi accountApi = AccountApiJerseyImpl.builder(MOCK_SERVER_URI, "apiKey")
+                .meterRegistry(meterRegistry)
+                .build();
+        accountApi.accounts("accessToken").find();
+        catchThrowable(() -> accountApi.balances(ACCOUNT_ID, "accessToken").find());
+
+        assertThat(meterRegistry.get(MicrometerSearchMetrics.REQUESTS_METER_NAME)
+                .tags("resource", "accounts", "status", "200", "outcome", "SUCCESS")
+                .timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get(MicrometerSearchMetrics.REQUESTS_METER_NAME)
+                .tags("resource", "balances", "status", "403", "outcome", "ERROR")
+                .timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get(MicrometerSearchMetrics.ERRORS_METER_NAME)
+                .tags("resource", "balances", "status", "403", "code", "NONE")
+                .counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get(MicrometerSearchMetrics.RESPONSE_SIZE_METER_NAME)
+                .tags("resource", "accounts")
+                .summary().totalAmount()).isPositive();
+        assertThat(meterRegistry.get(MicrometerSearchMetrics.ACTIVE_REQUESTS_METER_NAME)
+                .tags("resource", "accounts")
+                .gauge().value()).isZero();
+    }
+
+    /**
+     * Test method for the in-flight gauge shared by two clients recording to the same registry.
+     */
+    @Test
+    void test_getAccountBalancesAsync_activeRequestsOfTwoClients() {
+        mockServer
+            .when(request().withPath("/accounts/" + ACCOUNT_ID + "/balances"))
+            .respond(response().withStatusCode(HttpStatusCode.OK_200.code()).withDelay(TimeUnit.MILLISECONDS, 500));
+
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        AccountApiJerseyImpl firstApi = AccountApiJerseyImpl.builder(MOCK_SERVER_URI, "apiKey")
+                .meterRegistry(meterRegistry)
+                .build();
+        AccountApiJerseyImpl secondApi = AccountApiJerseyImpl.builder(MOCK_SERVER_URI, "apiKey")
+                .meterRegistry(meterRegistry)
+                .build();
+        CompletableFuture<?> first = firstApi.balances(ACCOUNT_ID, "accessToken").findAsync().toCompletableFuture();
+        CompletableFuture<?> second = secondApi.balances(ACCOUNT_ID, "accessToken").findAsync().toCompletableFuture();
+
+        assertThat(meterRegistry.get(MicrometerSearchMetrics.ACTIVE_REQUESTS_METER_NAME)
+                .tags("resource", "balances")
+                .gauge().value()).isEqualTo(2);
+        CompletableFuture.allOf(first, second).handle((result, throwable) -> result).join();
+        assertThat(meterRegistry.get(MicrometerSearchMetrics.ACTIVE_REQUESTS_METER_NAME)
+                .tags("resource", "balances")
+                .gauge().value()).isZero();
+        firstApi.close();
+        secondApi.close();
+    }
+
+    /**
+     * Test method for the {@link AccountApi#accounts(String)} with gzip compressed response.
+     */
+    @Test
+    void test_getAccounts_gzipCompressed_ok() throws IOException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (InputStream json = getClass().getClassLoader().getResourceAsStream("response-accounts.json");
+             GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            IOUtils.copy(json, gzip);
+        }
+        mockServer
+                .when(
+                        request()
+                                .withPath("/accounts")
+                                .withHeader("Accept-Encoding", ".*gzip.*"))
+                .respond(
+                        response()
+                                .withStatusCode(HttpStatusCode.OK_200.code())
+                                .withHeader(new Header("Content-Type", "application/json"))
+                                .withHeader(new Header("Content-Encoding", "gzip"))
+                                .withBody(compressed.toByteArray()));
+
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        AccountApi accountApi = AccountApiJerseyImpl.builder(MOCK_SERVER_URI, "apiKey")
+                .meterRegistry(meterRegistry)
+                .build();
+        List<Account> result = accountApi.accounts("accessToken").find();
+
+        assertThat(result).extracting(Account::getAccountId).containsExactly(ACCOUNT_ID);
+        double received = meterRegistry.get(MicrometerSearchMetrics.RECEIVED_BODY_SIZE_METER_NAME)
+                .tags("resource", "accounts", "encoding", "gzip")
+                .summary().totalAmount();
+        double decoded = meterRegistry.get(MicrometerSearchMetrics.DECODED_BODY_SIZE_METER_NAME)
+                .tags("resource", "accounts", "encoding", "gzip")
+                .summary().totalAmount();
+        assertThat(received).isEqualTo(compressed.size());
+        assertThat(decoded).isGreaterThan(received);
+    }
+
+    /**
+     * Test method for the {@link AccountApi#accounts(String)} without requesting of compressed responses.
+     */
+    @Test
+    void test_getAccounts_compressionDisabled_ok() {
+        configureServer("/accounts", "response-accounts.json", HttpMethod.GET, HttpStatusCode.OK_200);
+
+        AccountApi accountApi = AccountApiJerseyImpl.builder(MOCK_SERVER_URI, "apiKey")
+                .transport(TransportSettings.builder().compression(false).build())
+                .build();
+        accountApi.accounts("accessToken").find();
+
+        mockServer.verify(
+                request()
+                        .withPath("/accounts")
+                        .withHeader("Accept-Encoding", ".*gzip.*"),
+                VerificationTimes.exactly(0)
+        );
+    }
+
+    /**
+     * Test method for the {@link AccountApi#balances(String, String)} retried after transient errors.
+     */
+    @Test
+    void test_getAccountBalances_retried_ok() {
+        String balancesPath = "/accounts/" + ACCOUNT_ID + "/balances";
+        mockServer
+            .when(request().withPath(balancesPath), Times.exactly(2))
+            .respond(response().withStatusCode(HttpStatusCode.SERVICE_UNAVAILABLE_503.code()));
+        configureServer(balancesPath, "response-account-balances.json", HttpMethod.GET, HttpStatusCode.OK_200);
+
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        AccountApi accountApi = AccountApiJerseyImpl.builder(MOCK_SERVER_URI, "apiKey")
+                .retry(RetrySettings.builder().initialBackoff(Duration.ofMillis(10)).build())
+                .meterRegistry(meterRegistry)
+                .build();
+        List<AccountBalance> result = accountApi.balances(ACCOUNT_ID, "accessToken").find();
+
+        assertThat(result).hasSize(1);
+        assertThat(meterRegistry.get(MicrometerSearchMetrics.RETRIES_METER_NAME)
+                .tags("resource", "balances", "status", "503")
+                .counter().count()).isEqualTo(2);
+        mockServer.verify(request().withPath(balancesPath), VerificationTimes.exactly(3));
+    }
+
+    /**
+     * Test method for the asynchronous {@link AccountApi#balances(String, String)} retried after transient error.
+     */
+    @Test
+    void test_getAccountBalancesAsync_retried_ok() {
+        String balancesPath = "/accounts/" + ACCOUNT_ID + "/balances";
+        mockServer
+            .when(request().withPath(balancesPath), Times.once())
+            .respond(response().withStatusCode(HttpStatusCode.BAD_GATEWAY_502.code()));
+        configureServer(balancesPath, "response-account-balances.json", HttpMethod.GET, HttpStatusCode.OK_200);
+
+        AccountApi accountApi = AccountApiJerseyImpl.builder(MOCK_SERVER_URI, "apiKey")
+                .retry(RetrySettings.builder().initialBackoff(Duration.ofMillis(10)).build())
+                .build();
+        List<AccountBalance> result = accountApi.balances(ACCOUNT_ID, "accessToken")
+                .findAsync()
+                .toCompletableFuture()
+                .join();
+
+        assertThat(result).hasSize(1);
+        mockServer.verify(request().withPath(balancesPath), VerificationTimes.exactly(2));
+    }
+
+    /**
+     * Test method for the asynchronous {@link AccountApi#balances(String, String)} waiting for a retry
+     * when the client is closed.
+     */
+    @Test
+    void test_getAccountBalancesAsync_retryCancelledByClose() throws Exception {
+        String balancesPath = "/accounts/" + ACCOUNT_ID + "/balances";
+        mockServer
+                .when(request().withPath(balancesPath))
+                .respond(response().withStatusCode(HttpStatusCode.SERVICE_UNAVAILABLE_503.code()));
+
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        AccountApiJerseyImpl accountApi = AccountApiJerseyImpl.builder(MOCK_SERVER_URI, "apiKey")
+                .retry(RetrySettings.builder()
+                        .initialBackoff(Duration.ofSeconds(10))
+                        .maxBackoff(Duration.ofSeconds(10))
+                        .jitter(0)
+                        .build())
+                .meterRegistry(meterRegistry)
+                .build();
+        CompletableFuture<List<AccountBalance>> result = accountApi.balances(ACCOUNT_ID, "accessToken")
+                .findAsync()
+                .toCompletableFuture();
+        for (int i = 0; i < 100 && meterRegistry.find(MicrometerSearchMetrics.RETRIES_METER_NAME).counter() == null;
+             i++) {
+            Thread.sleep(50);
+        }
+        accountApi.close();
+
+        Throwable thrown = catchThrowable(() -> result.get(5, TimeUnit.SECONDS));
+        assertThat(thrown)
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(ItemSearchException.class);
+        assertThat(thrown.getCause()).hasMessage("Calling of API was cancelled, the client is closed.");
+        mockServer.verify(request().withPath(balancesPath), VerificationTimes.exactly(1));
+    }
+
+    /**
+     * Test method for the {@link AccountApi#accounts(String)} not retried because of too long {@code Retry-After}.
+     */
+    @Test
+    void test_getAccounts_retryAfterTooLong() {
+        mockServer
+            .when(request().withPath("/accounts"))
+            .respond(
+                response()
+                    .withStatusCode(429)
+                    .withHeader(new Header("Retry-After", "3660")));
+
+        AccountApi accountApi = AccountApiJerseyImpl.builder(MOCK_SERVER_URI, "apiKey")
+                .retry(RetrySettings.defaults())
+                .build();
+        Throwable thrown = catchThrowable(() -> accountApi.accounts("accessToken").find());
+
+        assertThat(thrown).isInstanceOf(ItemSearchException.class)
+                .hasMessage("Error occurred during calling API. Error: Too Many Requests");
+        mockServer.verify(request().withPath("/accounts"), VerificationTimes.exactly(1));
+    }
+
+    /**
+     * Test method for the {@link AccountBatch#balances(Collection, String)} with partial result.
+     */
+    @Test
+    void test_batchBalances_partialResult() {
+        configureServer("/accounts/" + ACCOUNT_ID + "/balances", "response-account-balances.json", HttpMethod.GET,
+                HttpStatusCode.OK_200);
+        mockServer
+            .when(request().withPath("/accounts/slowAccount/balances"))
+            .respond(response().withStatusCode(HttpStatusCode.OK_200.code()).withDelay(TimeUnit.SECONDS, 2));
+
+        AccountApi accountApi = new AccountApiJerseyImpl(MOCK_SERVER_URI, "apiKey");
+        // the first request of the client bootstraps Jersey, it mustn't be measured by the call timeout
+        accountApi.balances(ACCOUNT_ID, "accessToken").find();
+        AccountBatchResult<List<AccountBalance>> result = AccountBatch.builder(accountApi)
+                .parallelism(2)
+                .callTimeout(Duration.ofMillis(500))
+                .build()
+                .balances(Arrays.asList(ACCOUNT_ID, "unknownAccount", "slowAccount", ACCOUNT_ID), "accessToken");
+
+        assertThat(result.isComplete()).isFalse();
+        assertThat(result.getResults()).containsOnlyKeys(ACCOUNT_ID);
+        assertThat(result.getResult(ACCOUNT_ID)).hasSize(1);
+        assertThat(result.getErrors()).containsOnlyKeys("unknownAccount", "slowAccount");
+        assertThat(result.getErrors().get("slowAccount"))
+                .hasMessage("Search of account 'slowAccount' timed out after 500 ms.");
+    }
+
+    /**
+     * Test method for the {@link AccountBatch#searchAsync(Collection, Function)}, a timed out search keeps its slot
+     * until its call ends.
+     */
+    @Test
+    void test_batchSearch_timedOutHoldsSlot() throws Exception {
+        CompletableFuture<String> slowCall = new CompletableFuture<>();
+        List<String> started = new ArrayList<>();
+
+        CompletableFuture<AccountBatchResult<String>> batch = AccountBatch
+                .builder(new AccountApiJerseyImpl(MOCK_SERVER_URI, "apiKey"))
+                .parallelism(1)
+                .callTimeout(Duration.ofMillis(100))
+                .build()
+                .searchAsync(Arrays.asList("slowAccount", ACCOUNT_ID), accountId -> new ItemSearch<String>() {
+                    @Override
+                    public String find() {
+                        return accountId;
+                    }
+
+                    @Override
+                    public CompletionStage<String> findAsync() {
+                        synchronized (started) {
+                            started.add(accountId);
+                        }
+                        return "slowAccount".equals(accountId)
+                                ? slowCall : CompletableFuture.completedFuture(accountId);
+                    }
+                })
+                .toCompletableFuture();
+
+        Thread.sleep(500);
+        synchronized (started) {
+            assertThat(started).containsExactly("slowAccount");
+        }
+        assertThat(batch).isNotDone();
+
+        slowCall.complete("slowAccount");
+        AccountBatchResult<String> result = batch.get(5, TimeUnit.SECONDS);
+
+        assertThat(started).containsExactly("slowAccount", ACCOUNT_ID);
+        assertThat(result.getResults()).containsOnlyKeys(ACCOUNT_ID);
+        assertThat(result.getErrors().get("slowAccount"))
+                .hasMessage("Search of account 'slowAccount' timed out after 100 ms.");
+    }
+
+    /**
+     * Test method for the {@link AccountBatch#searchAsync(Collection, Function)} with thousands of searches
+     * completed synchronously, e.g. by cached account ids.
+     */
+    @Test
+    void test_batchSearch_completedSynchronously() throws Exception {
+        List<String> accountIds = IntStream.range(0, 3000)
+                .mapToObj(i -> "account" + i)
+                .collect(Collectors.toList());
+
+        AccountBatchResult<String> result = AccountBatch.builder(new AccountApiJerseyImpl(MOCK_SERVER_URI, "apiKey"))
+                .build()
+                .searchAsync(accountIds, accountId -> new ItemSearch<String>() {
+                    @Override
+                    public String find() {
+                        return accountId;
+                    }
+
+                    @Override
+                    public CompletionStage<String> findAsync() {
+                        return CompletableFuture.completedFuture(accountId);
+                    }
+                })
+                .toCompletableFuture()
+                .get(10, TimeUnit.SECONDS);
+
+        assertThat(result.isComplete()).isTrue();
+        assertThat(result.getResults()).hasSize(3000);
+        assertThat(result.getResult("account2999")).isEqualTo("account2999");
+    }
+
+    /**
+     * Test method for the {@link AccountApi#balances(String, String)} rejected by the rate limiter without waiting.
+     */
+    @Test
+    void test_getAccountBalances_throttled() {
+        String balancesPath = "/accounts/" + ACCOUNT_ID + "/balances";
+        configureServer(balancesPath, "response-account-balances.json", HttpMethod.GET, HttpStatusCode.OK_200);
+
+        AccountApi accountApi = AccountApiJerseyImpl.builder(MOCK_SERVER_URI, "apiKey")
+                .throttling(ThrottlingSettings.builder().rateLimit(0.1).maxWait(Duration.ZERO).build())
+                .build();
+        accountApi.balances(ACCOUNT_ID, "accessToken").find();
+        Throwable thrown = catchThrowable(() -> accountApi.balances(ACCOUNT_ID, "accessToken").find());
+
+        assertThat(thrown).isInstanceOf(ItemSearchException.class)
+                .hasMessageStartingWith("Calling of API was throttled");
+        mockServer.verify(request().withPath(balancesPath), VerificationTimes.exactly(1));
+    }
+
+    /**
+     * Test method for the asynchronous {@link AccountApi#balances(String, String)} queued by the throttling.
+     */
+    @Test
+    void test_getAccountBalancesAsync_throttled_queued() {
+        String balancesPath = "/accounts/" + ACCOUNT_ID + "/balances";
+        configureServer(balancesPath, "response-account-balances.json", HttpMethod.GET, HttpStatusCode.OK_200);
+
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        AccountApi accountApi = AccountApiJerseyImpl.builder(MOCK_SERVER_URI, "apiKey")
+                .throttling(ThrottlingSettings.builder()
+                        .rateLimit(20)
+                        .burst(1)
+                        .maxConcurrentCalls(1)
+                        .maxWait(Duration.ofSeconds(2))
+                        .build())
+                .meterRegistry(meterRegistry)
+                .build();
+        List<CompletableFuture<List<AccountBalance>>> results = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            results.add(accountApi.balances(ACCOUNT_ID, "accessToken").findAsync().toCompletableFuture());
+        }
+
+        assertThat(results).allSatisfy(result -> assertThat(result.join()).hasSize(1));
+        Timer queueWait = meterRegistry.get(MicrometerSearchMetrics.QUEUE_WAIT_METER_NAME)
+                .tags("resource", "balances")
+                .timer();
+        assertThat(queueWait.count()).isEqualTo(3);
+        assertThat(queueWait.max(TimeUnit.MILLISECONDS)).isGreaterThanOrEqualTo(50);
+        mockServer.verify(request().withPath(balancesPath), VerificationTimes.exactly(3));
+    }
+
+    /**
+     * Test method for the {@link AccountApi#balances(String, String)} queued by the throttling when the client
+     * is closed, the queued calls fail instead of waiting forever.
+     */
+    @Test
+    void test_getAccountBalances_throttled_closed() throws Exception {
+        String balancesPath = "/accounts/" + ACCOUNT_ID + "/balances";
+        mockServer
+                .when(request().withPath(balancesPath))
+                .respond(response().withStatusCode(HttpStatusCode.OK_200.code()).withDelay(TimeUnit.SECONDS, 2));
+
+        AccountApiJerseyImpl accountApi = AccountApiJerseyImpl.builder(MOCK_SERVER_URI, "apiKey")
+                .throttling(ThrottlingSettings.builder()
+                        .rateLimit(1)
+                        .burst(1)
+                        .maxConcurrentCalls(1)
+                        .maxWait(Duration.ofSeconds(10))
+                        .build())
+                .build();
+        accountApi.balances(ACCOUNT_ID, "accessToken").findAsync();
+        // waits for the token for 1 s, then for the slot of the first call
+        CompletableFuture<List<AccountBalance>> queuedForSlot = CompletableFuture.supplyAsync(
+                () -> accountApi.balances(ACCOUNT_ID, "accessToken").find());
+        Thread.sleep(100);
+        // waits for the token for 2 s
+        CompletableFuture<List<AccountBalance>> queuedForToken = accountApi.balances(ACCOUNT_ID, "accessToken")
+                .findAsync()
+                .toCompletableFuture();
+        Thread.sleep(1400);
+        accountApi.close();
+
+        for (CompletableFuture<List<AccountBalance>> queued : Arrays.asList(queuedForSlot, queuedForToken)) {
+            Throwable thrown = catchThrowable(() -> queued.get(5, TimeUnit.SECONDS));
+            assertThat(thrown)
+                    .isInstanceOf(ExecutionException.class)
+                    .hasCauseInstanceOf(ItemSearchException.class);
+            assertThat(thrown.getCause()).hasMessage("Calling of API was cancelled, the client is closed.");
+        }
+        mockServer.verify(request().withPath(balancesPath), VerificationTimes.exactly(1));
+    }
+
+    /**
+     * Test method for the {@link AccountApiJerseyImpl#isAlive()}.
+     */
+    @Test
+    void test_isAlive_ok() {
+        configureServer("/is-alive", "response-is-alive.json", HttpMethod.GET, HttpStatusCode.OK_200);
+
+        IsAliveResponse result = new AccountApiJerseyImpl(MOCK_SERVER_URI, "apiKey").isAlive();
+
+        assertThat(result.getName()).isEqualTo("ADAA");
+        assertThat(result.getVersion()).isEqualTo("1.0");
+    }
+
+    /**
+     * Test method for the {@link AccountApiJerseyImpl#warmUp(int)}, one {@code /is-alive} call per connection.
+     */
+    @Test
+    void test_warmUp_ok() {
+        configureServer("/is-alive", "response-is-alive.json", HttpMethod.GET, HttpStatusCode.OK_200);
+
+        AccountApiJerseyImpl accountApi = new AccountApiJerseyImpl(MOCK_SERVER_URI, "apiKey");
+        IsAliveResponse result = accountApi.warmUp(3);
+        accountApi.close();
+
+        assertThat(result.getName()).isEqualTo("ADAA");
+        mockServer.verify(request().withPath("/is-alive"), VerificationTimes.exactly(3));
+    }
+
+    /**
+     * Test method for the {@link AccountApi#balances(String, String)} failing fast by the open circuit breaker
+     * until the {@code /is-alive} probe succeeds.
+     */
+    @Test
+    void test_getAccountBalances_circuitBreakerOpen() throws InterruptedException {
+        String balancesPath = "/accounts/" + ACCOUNT_ID + "/balances";
+        mockServer
+            .when(request().withPath(balancesPath), Times.exactly(2))
+            .respond(response().withStatusCode(HttpStatusCode.SERVICE_UNAVAILABLE_503.code()));
+        configureServer(balancesPath, "response-account-balances.json", HttpMethod.GET, HttpStatusCode.OK_200);
+        configureServer("/is-alive", "response-is-alive.json", HttpMethod.GET, HttpStatusCode.OK_200);
+
+        AccountApi accountApi = AccountApiJerseyImpl.builder(MOCK_SERVER_URI, "apiKey")
+                .circuitBreaker(CircuitBreakerSettings.builder()
+                        .slidingWindowSize(2)
+                        .minimumCalls(2)
+                        .openDuration(Duration.ofMillis(200))
+                        .build())
+                .build();
+        for (int i = 0; i < 2; i++) {
+            assertThat(catchThrowable(() -> accountApi.balances(ACCOUNT_ID, "accessToken").find()))
+                    .isExactlyInstanceOf(ItemSearchException.class);
+        }
+        assertThat(catchThrowable(() -> accountApi.balances(ACCOUNT_ID, "accessToken").find()))
+                .isInstanceOf(CircuitBreakerOpenException.class);
+        mockServer.verify(request().withPath(balancesPath), VerificationTimes.exactly(2));
+
+        List<AccountBalance> result = null;
+        for (int i = 0; i < 100 && result == null; i++) {
+            try {
+                result = accountApi.balances(ACCOUNT_ID, "accessToken").find();
+            } catch (CircuitBreakerOpenException e) {
+                Thread.sleep(50);
+            }
+        }
+        assertThat(result).hasSize(1);
+        mockServer.verify(request().withPath("/is-alive"), VerificationTimes.atLeast(1));
+    }
+
     /**
      * Test method fot the {@link AccountApi#transactions(String, String)}
      * with missing correlation ID.
@@ -349,6 +1408,149 @@ class AccountApiJerseyImplTest extends AbstractAdaaJerseyClientTest {
         assertThat(error.getAdditionalInfo().getRejectedValue()).isEqualTo("wrongValue");
     }
 
+    /**
+     * Test method for the asynchronous {@link AccountApi#balances(String, String)} with positive result.
+     */
+    @Test
+    void test_getAccountBalancesAsync_ok() {
+        configureServer("/accounts/" + ACCOUNT_ID + "/balances", "response-account-balances.json",
+                HttpMethod.GET, HttpStatusCode.OK_200);
+
+        AccountApi accountApi = new AccountApiJerseyImpl(MOCK_SERVER_URI, "apiKey");
+        List<AccountBalance> result = accountApi.balances(ACCOUNT_ID, "accessToken")
+                .findAsync()
+                .toCompletableFuture()
+                .join();
+
+        assertThat(result).hasSize(1);
+        assertThat(result.get(0).getType()).isEqualTo(AccountBalance.TypeEnum.PREVIOUSLY_CLOSED_BOOK);
+
+        mockServer.verify(
+                request()
+                        .withPath("/accounts/" + ACCOUNT_ID + "/balances")
+                        .withHeader("x-api-key", "Bearer apiKey")
+                        .withHeader("Authorization", "Bearer accessToken")
+                        .withHeader("x-correlation-id"),
+                VerificationTimes.exactly(1)
+        );
+    }
+
+    /**
+     * Test method for the asynchronous {@link AccountApi#balances(String, String)} executed
+     * by {@link TransportSettings#getAsyncExecutor()}.
+     */
+    @Test
+    void test_getAccountBalancesAsync_asyncExecutor() {
+        configureServer("/accounts/" + ACCOUNT_ID + "/balances", "response-account-balances.json",
+                HttpMethod.GET, HttpStatusCode.OK_200);
+
+        AtomicInteger executedTasks = new AtomicInteger();
+        ExecutorService asyncExecutor = Executors.newCachedThreadPool();
+        ExecutorService countingExecutor = new AbstractExecutorService() {
+            @Override
+            public void execute(Runnable command) {
+                executedTasks.incrementAndGet();
+                asyncExecutor.execute(command);
+            }
+
+            @Override
+            public void shutdown() {
+                asyncExecutor.shutdown();
+            }
+
+            @Override
+            public List<Runnable> shutdownNow() {
+                return asyncExecutor.shutdownNow();
+            }
+
+            @Override
+            public boolean isShutdown() {
+                return asyncExecutor.isShutdown();
+            }
+
+            @Override
+            public boolean isTerminated() {
+                return asyncExecutor.isTerminated();
+            }
+
+            @Override
+            public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+                return asyncExecutor.awaitTermination(timeout, unit);
+            }
+        };
+
+        try (AccountApiJerseyImpl accountApi = AccountApiJerseyImpl.builder(MOCK_SERVER_URI, "apiKey")
+                .transport(TransportSettings.builder().asyncExecutor(countingExecutor).build())
+                .build()) {
+            List<AccountBalance> result = accountApi.balances(ACCOUNT_ID, "accessToken")
+                    .findAsync()
+                    .toCompletableFuture()
+                    .join();
+
+            assertThat(result).hasSize(1);
+            assertThat(executedTasks.get()).isPositive();
+        } finally {
+            asyncExecutor.shutdown();
+        }
+    }
+
+    /**
+     * Test method for the asynchronous {@link AccountApi#balances(String, String)}, an async executor rejecting
+     * the call fails the call and releases its throttling slot.
+     */
+    @Test
+    void test_getAccountBalancesAsync_executorRejected() {
+        ExecutorService asyncExecutor = Executors.newSingleThreadExecutor();
+        asyncExecutor.shutdown();
+
+        try (AccountApiJerseyImpl accountApi = AccountApiJerseyImpl.builder(MOCK_SERVER_URI, "apiKey")
+                .transport(TransportSettings.builder().asyncExecutor(asyncExecutor).build())
+                .throttling(ThrottlingSettings.builder()
+                        .maxConcurrentCalls(1)
+                        .maxWait(Duration.ofMillis(100))
+                        .build())
+                .build()) {
+            for (int i = 0; i < 2; i++) {
+                CompletableFuture<List<AccountBalance>> result = accountApi.balances(ACCOUNT_ID, "accessToken")
+                        .findAsync()
+                        .toCompletableFuture();
+
+                Throwable thrown = catchThrowable(() -> result.get(5, TimeUnit.SECONDS));
+                assertThat(thrown)
+                        .isInstanceOf(ExecutionException.class)
+                        .hasCauseInstanceOf(ItemSearchException.class);
+                assertThat(thrown.getCause()).hasMessageStartingWith("Error occurred during calling API.");
+            }
+        }
+        mockServer.verify(request().withPath("/accounts/" + ACCOUNT_ID + "/balances"), VerificationTimes.exactly(0));
+    }
+
+    /**
+     * Test method for the asynchronous {@link AccountApi#transactions(String, String)}
+     * with missing correlation ID.
+     */
+    @Test
+    void test_getTransactionsAsync_missingCorrelationId() {
+        configureServer("/accounts/" + ACCOUNT_ID + "/transactions", "response-missing-corr-id.json", HttpMethod.GET,
+                HttpStatusCode.BAD_REQUEST_400);
+
+        AccountApi accountApi = new AccountApiJerseyImpl(MOCK_SERVER_URI, "apiKey");
+
+        Throwable thrown = catchThrowable(() ->
+                accountApi.transactions(ACCOUNT_ID, "accessToken")
+                        .findAsync()
+                        .toCompletableFuture()
+                        .join()
+        );
+
+        assertThat(thrown).isInstanceOf(CompletionException.class);
+        ItemSearchException itemSearchException = (ItemSearchException) thrown.getCause();
+        assertThat(itemSearchException.getMessage()).isEqualTo(
+                "Error occurred during calling API. Error: "
+                        + "Required String parameter 'x-correlation-id' is not present");
+        assertThat(itemSearchException.getErrors()).hasSize(1);
+    }
+
     /**
      * Test method for the {@link AccountApi#transactions(String, String)}
      * with unknown error occurred.
@@ -373,4 +1575,145 @@ class AccountApiJerseyImplTest extends AbstractAdaaJerseyClientTest {
         assertThat(itemSearchException.getErrors().size()).isEqualTo(0);
     }
 
-}
\ No newline at end of file
+    /**
+     * Test method for the {@link AccountApi#createSubscription(String, String, SubscriptionRequest)},
+     * {@link AccountApi#subscription(String, String, String)}
+     * and {@link AccountApi#deleteSubscription(String, String, String)}.
+     */
+    @Test
+    void test_subscription_createGetDelete_ok() {
+        String subscriptionsPath = "/accounts/" + ACCOUNT_ID + "/transactions/event-subscriptions";
+        String subscriptionPath = subscriptionsPath + "/" + SUBSCRIPTION_ID;
+        configureServer(subscriptionsPath, "response-subscription.json", HttpMethod.POST, HttpStatusCode.CREATED_201);
+        configureServer(subscriptionPath, "response-subscription.json", HttpMethod.GET, HttpStatusCode.OK_200);
+        mockServer
+                .when(request().withMethod("DELETE").withPath(subscriptionPath))
+                .respond(response().withStatusCode(HttpStatusCode.NO_CONTENT_204.code()));
+
+        AccountApi accountApi = AccountApiJerseyImpl.builder(MOCK_SERVER_URI, "apiKey")
+                .retry(RetrySettings.builder().build())
+                .build();
+        SubscriptionInfo created = accountApi.createSubscription(ACCOUNT_ID, "accessToken", new SubscriptionRequest()
+                .eventApiUrl("https://company.org/event-api/v1")
+                .eventApiKey("eventApiKey"));
+        SubscriptionInfo found = accountApi.subscription(ACCOUNT_ID, "accessToken", SUBSCRIPTION_ID).find();
+        accountApi.deleteSubscription(ACCOUNT_ID, "accessToken", SUBSCRIPTION_ID);
+
+        assertThat(created.getSubscriptionId()).isEqualTo(SUBSCRIPTION_ID);
+        assertThat(found.getStatus()).isEqualTo(SubscriptionInfo.StatusEnum.ACTIVE);
+        mockServer.verify(
+                request()
+                        .withMethod("POST")
+                        .withPath(subscriptionsPath)
+                        .withBody(json("{\"eventApiUrl\": \"https://company.org/event-api/v1\", "
+                                + "\"eventApiKey\": \"eventApiKey\"}")),
+                VerificationTimes.exactly(1)
+        );
+        mockServer.verify(request().withMethod("DELETE").withPath(subscriptionPath), VerificationTimes.exactly(1));
+    }
+
+    /**
+     * Test method for the {@link AccountApi#createSubscription(String, String, SubscriptionRequest)},
+     * the creation is not retried even if the error is transient.
+     */
+    @Test
+    void test_createSubscription_notRetried() {
+        String subscriptionsPath = "/accounts/" + ACCOUNT_ID + "/transactions/event-subscriptions";
+        mockServer
+                .when(request().withMethod("POST").withPath(subscriptionsPath))
+                .respond(response().withStatusCode(HttpStatusCode.SERVICE_UNAVAILABLE_503.code()));
+
+        AccountApi accountApi = AccountApiJerseyImpl.builder(MOCK_SERVER_URI, "apiKey")
+                .retry(RetrySettings.builder().initialBackoff(Duration.ofMillis(10)).build())
+                .build();
+        Throwable thrown = catchThrowable(() -> accountApi.createSubscription(ACCOUNT_ID, "accessToken",
+                new SubscriptionRequest().eventApiUrl("https://company.org/event-api/v1")));
+
+        assertThat(thrown).isInstanceOf(ItemSearchException.class);
+        mockServer.verify(request().withMethod("POST").withPath(subscriptionsPath), VerificationTimes.exactly(1));
+    }
+
+    /**
+     * Test method for the {@link AccountApi#accountId(String, String, String)}, resolved id is cached
+     * for the access token.
+     */
+    @Test
+    void test_accountId_cached() {
+        configureServer("/accounts/account-ids", "response-account-ids.json", HttpMethod.POST, HttpStatusCode.OK_200);
+
+        AccountApi accountApi = new AccountApiJerseyImpl(MOCK_SERVER_URI, "apiKey");
+        String accountId = accountApi.accountId("cz95 0100 0000 0012 3456 7899", "czk", "accessToken").find();
+        String cachedAccountId = accountApi.accountId("CZ9501000000001234567899", "CZK", "accessToken")
+                .findAsync()
+                .toCompletableFuture()
+                .join();
+
+        assertThat(accountId).isEqualTo(ACCOUNT_ID);
+        assertThat(cachedAccountId).isEqualTo(ACCOUNT_ID);
+        mockServer.verify(
+                request()
+                        .withMethod("POST")
+                        .withPath("/accounts/account-ids")
+                        .withBody(json("{\"iban\": \"CZ9501000000001234567899\", \"currency\": \"CZK\"}")),
+                VerificationTimes.exactly(1)
+        );
+    }
+
+    /**
+     * Test method for the {@link AccountApi#accountId(String, String, String)}, resolved id is not shared
+     * by other access tokens, neither cached nor in flight.
+     */
+    @Test
+    void test_accountId_notSharedByAccessTokens() {
+        mockServer
+                .when(request().withMethod("POST").withPath("/accounts/account-ids"))
+                .respond(response()
+                        .withStatusCode(HttpStatusCode.OK_200.code())
+                        .withHeader("Content-Type", "application/json")
+                        .withBody("{\"accountId\": \"" + ACCOUNT_ID + "\"}")
+                        .withDelay(TimeUnit.MILLISECONDS, 200));
+
+        AccountApi accountApi = new AccountApiJerseyImpl(MOCK_SERVER_URI, "apiKey");
+        CompletableFuture<String> first = accountApi.accountId("CZ9501000000001234567899", "CZK", "accessToken")
+                .findAsync()
+                .toCompletableFuture();
+        CompletableFuture<String> concurrent = accountApi.accountId("CZ9501000000001234567899", "CZK",
+                "otherAccessToken").findAsync().toCompletableFuture();
+        String later = accountApi.accountId("CZ9501000000001234567899", "CZK", "thirdAccessToken").find();
+
+        assertThat(first.join()).isEqualTo(ACCOUNT_ID);
+        assertThat(concurrent.join()).isEqualTo(ACCOUNT_ID);
+        assertThat(later).isEqualTo(ACCOUNT_ID);
+        for (String accessToken : Arrays.asList("accessToken", "otherAccessToken", "thirdAccessToken")) {
+            mockServer.verify(
+                    request()
+                            .withMethod("POST")
+                            .withPath("/accounts/account-ids")
+                            .withHeader("Authorization", "Bearer " + accessToken),
+                    VerificationTimes.exactly(1)
+            );
+        }
+    }
+
+    /**
+     * Test method for the {@link AccountBatch#accountIds(Collection, String, String)}.
+     */
+    @Test
+    void test_accountIds_batch() {
+        mockServer
+                .when(
+                        request()
+                                .withMethod("POST")
+                                .withPath("/accounts/account-ids")
+                                .withBody(json("{\"iban\": \"CZ9501000000001234567890\"}")))
+                .respond(response().withStatusCode(HttpStatusCode.UNPROCESSABLE_ENTITY_422.code()));
+        configureServer("/accounts/account-ids", "response-account-ids.json", HttpMethod.POST, HttpStatusCode.OK_200);
+
+        AccountApi accountApi = new AccountApiJerseyImpl(MOCK_SERVER_URI, "apiKey");
+        AccountBatchResult<String> result = AccountBatch.builder(accountApi).build().accountIds(
+                Arrays.asList("CZ9501000000001234567899", "CZ9501000000001234567890"), "CZK", "accessToken");
+
+        assertThat(result.getResults()).containsExactly(entry("CZ9501000000001234567899", ACCOUNT_ID));
+        assertThat(result.getErrors()).containsOnlyKeys("CZ9501000000001234567890");
+    }
+}
@@ -0,0 +1,85 @@
+package cz.kb.openbanking.adaa.client.jersey;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for the {@link TransactionEventReceiver}.
+ *
+ * @since 1.3
+ */
+class TransactionEventReceiverTest {
+
+    private static final String SUBSCRIPTION_ID = "71f415f4-412d-4c55-af05-15d1e0389f8f";
+
+    private static final String EVENT = "{\"accountId\": \"aKvemMIKdvv5VEvc5vdovmeeVas5w4wcSCSv4\"}";
+
+    /**
+     * Test method for the {@link TransactionEventReceiver} dispatching an event to the handler.
+     */
+    @Test
+    void test_receive_dispatched() throws Exception {
+        BlockingQueue<TransactionEvent> events = new LinkedBlockingQueue<>();
+        try (TransactionEventReceiver receiver = TransactionEventReceiver.builder(0)
+                .basePath("/event-api/v1")
+                .eventApiKey("eventApiKey")
+                .handler(events::add)
+                .start()) {
+            int status = post(receiver, "/event-api/v1/subscriptions/" + SUBSCRIPTION_ID + "/events",
+                    "eventApiKey", EVENT);
+
+            assertThat(status).isEqualTo(202);
+            TransactionEvent event = events.poll(5, TimeUnit.SECONDS);
+            assertThat(event).isNotNull();
+            assertThat(event.getSubscriptionId()).isEqualTo(SUBSCRIPTION_ID);
+            assertThat(event.getPayload()).containsEntry("accountId", "aKvemMIKdvv5VEvc5vdovmeeVas5w4wcSCSv4");
+        }
+    }
+
+    /**
+     * Test method for the {@link TransactionEventReceiver} rejecting invalid events.
+     */
+    @Test
+    void test_receive_rejected() throws Exception {
+        BlockingQueue<TransactionEvent> events = new LinkedBlockingQueue<>();
+        try (TransactionEventReceiver receiver = TransactionEventReceiver.builder(0)
+                .eventApiKey("eventApiKey")
+                .handler(events::add)
+                .start()) {
+            String eventsPath = "/subscriptions/" + SUBSCRIPTION_ID + "/events";
+
+            assertThat(post(receiver, eventsPath, "wrongKey", EVENT)).isEqualTo(401);
+            assertThat(post(receiver, eventsPath, "eventApiKey", "not JSON")).isEqualTo(400);
+            assertThat(post(receiver, "/subscriptions", "eventApiKey", EVENT)).isEqualTo(404);
+            assertThat(events).isEmpty();
+        }
+    }
+
+    private static int post(TransactionEventReceiver receiver, String path, String apiKey, String body)
+            throws IOException {
+        URL url = new URL("http", "localhost", receiver.getAddress().getPort(), path);
+        HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+        try {
+            connection.setRequestMethod("POST");
+            connection.setRequestProperty("Content-Type", "application/json");
+            connection.setRequestProperty("x-api-key", apiKey);
+            connection.setDoOutput(true);
+            try (OutputStream out = connection.getOutputStream()) {
+                out.write(body.getBytes(StandardCharsets.UTF_8));
+            }
+            return connection.getResponseCode();
+        } finally {
+            connection.disconnect();
+        }
+    }
+}
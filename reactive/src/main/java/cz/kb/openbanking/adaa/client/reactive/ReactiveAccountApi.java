@@ -0,0 +1,95 @@
+package cz.kb.openbanking.adaa.client.reactive;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.function.UnaryOperator;
+
+import cz.kb.openbanking.adaa.client.api.exception.ItemSearchException;
+import cz.kb.openbanking.adaa.client.api.search.TransactionHistorySearch;
+import cz.kb.openbanking.adaa.client.model.generated.Account;
+import cz.kb.openbanking.adaa.client.model.generated.AccountBalance;
+import cz.kb.openbanking.adaa.client.model.generated.AccountTransaction;
+import cz.kb.openbanking.adaa.client.model.generated.Statement;
+import org.springframework.core.io.buffer.DataBuffer;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Provides information about user's account details as Project Reactor publishers.
+ * Nothing is requested until a publisher is subscribed, every subscription requests the ADAA API again.
+ * Publishers signal {@link ItemSearchException} if the search fails. No thread is blocked while waiting
+ * for the ADAA API, except {@link #statementPdf(String, String, long) reading of the PDF statement}.
+ *
+ * @see cz.kb.openbanking.adaa.client.api.AccountApi
+ * @since 1.3
+ */
+public interface ReactiveAccountApi {
+
+    /**
+     * Searches for all accounts.
+     *
+     * @param accessToken OAuth2 access token, used to requests' authorization
+     * @return {@link Mono} of all accounts
+     */
+    Mono<List<Account>> accounts(String accessToken);
+
+    /**
+     * Searches for all account's balances.
+     *
+     * @param accountId   id of account
+     * @param accessToken OAuth2 access token, used to requests' authorization
+     * @return {@link Mono} of all account's balances
+     */
+    Mono<List<AccountBalance>> balances(String accountId, String accessToken);
+
+    /**
+     * Searches for all account's statements.
+     *
+     * @param accountId   id of account
+     * @param accessToken OAuth2 access token, used to requests' authorization
+     * @param dateFrom    date of returned statements
+     * @return {@link Mono} of account's statements
+     */
+    Mono<List<Statement>> statements(String accountId, String accessToken, OffsetDateTime dateFrom);
+
+    /**
+     * Searches for the user's transactions of all pages, see {@link #transactions(String, String, UnaryOperator)}.
+     *
+     * @param accountId   id of account
+     * @param accessToken OAuth2 access token, used to requests' authorization
+     * @return {@link Flux} of all transactions
+     */
+    Flux<AccountTransaction> transactions(String accountId, String accessToken);
+
+    /**
+     * Searches for the user's transactions of all pages, starting with the first page.
+     * Pages are requested by the demand of the subscriber: the next page is requested
+     * while the transactions of the current one are being emitted, at most two pages are held in memory.
+     * Cancelling the subscription stops requesting of further pages.
+     *
+     * @param accountId   id of account
+     * @param accessToken OAuth2 access token, used to requests' authorization
+     * @param search      customizes the search, e.g. by {@link TransactionHistorySearch#fromDate(OffsetDateTime)}
+     *                    or {@link TransactionHistorySearch#size(Integer)}, the requested page is ignored
+     * @return {@link Flux} of all transactions
+     */
+    Flux<AccountTransaction> transactions(String accountId, String accessToken,
+                                          UnaryOperator<TransactionHistorySearch> search);
+
+    /**
+     * Searches for statement in the PDF format and emits it in chunks read from the HTTP response,
+     * the document is never held in memory as a whole. The subscriber must
+     * {@link org.springframework.core.io.buffer.DataBufferUtils#release(DataBuffer) release} the buffers,
+     * e.g. by writing them to a WebFlux response.
+     * <p>
+     * Unlike the other searches, this one blocks: the chunks are read from the blocking stream of the HTTP response
+     * on a scheduler for blocking tasks ({@link reactor.core.scheduler.Schedulers#boundedElastic()} by default),
+     * one thread of it is occupied for the whole download.
+     *
+     * @param accountId   id of account
+     * @param accessToken OAuth2 access token, used to requests' authorization
+     * @param statementId statement identifier
+     * @return {@link Flux} of chunks of the PDF document
+     */
+    Flux<DataBuffer> statementPdf(String accountId, String accessToken, long statementId);
+}
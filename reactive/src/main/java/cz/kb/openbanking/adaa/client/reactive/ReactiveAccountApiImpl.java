@@ -0,0 +1,146 @@
+package cz.kb.openbanking.adaa.client.reactive;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.UnaryOperator;
+
+import cz.kb.openbanking.adaa.client.api.AccountApi;
+import cz.kb.openbanking.adaa.client.api.model.PageSlice;
+import cz.kb.openbanking.adaa.client.api.search.ItemSearch;
+import cz.kb.openbanking.adaa.client.api.search.PdfStatementSearch;
+import cz.kb.openbanking.adaa.client.api.search.TransactionHistorySearch;
+import cz.kb.openbanking.adaa.client.model.generated.Account;
+import cz.kb.openbanking.adaa.client.model.generated.AccountBalance;
+import cz.kb.openbanking.adaa.client.model.generated.AccountTransaction;
+import cz.kb.openbanking.adaa.client.model.generated.Statement;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * {@link ReactiveAccountApi} adapting {@link ItemSearch#findAsync()} of an {@link AccountApi},
+ * so no thread is blocked while waiting for the ADAA API. With the Jersey implementation the searches keep
+ * its response cache, retries, circuit breaker and throttling, and the HTTP I/O is done by the executor
+ * of its transport.
+ * <p>
+ * The PDF statement is the only exception: it's read from the blocking stream of the HTTP response
+ * ({@link PdfStatementSearch#findAsStream()}) on the given scheduler,
+ * {@link Schedulers#boundedElastic()} by default.
+ *
+ * @since 1.3
+ */
+public class ReactiveAccountApiImpl implements ReactiveAccountApi {
+
+    /**
+     * Size of the chunks of the PDF statement.
+     */
+    private static final int BUFFER_SIZE = 16 * 1024;
+
+    private final AccountApi accountApi;
+
+    private final DataBufferFactory bufferFactory;
+
+    private final Scheduler blockingScheduler;
+
+    /**
+     * New instance with default {@link DataBufferFactory} and {@link Schedulers#boundedElastic()}.
+     *
+     * @param accountApi adapted {@link AccountApi}
+     */
+    public ReactiveAccountApiImpl(AccountApi accountApi) {
+        this(accountApi, new DefaultDataBufferFactory(), Schedulers.boundedElastic());
+    }
+
+    /**
+     * New instance.
+     *
+     * @param accountApi        adapted {@link AccountApi}
+     * @param bufferFactory     factory of buffers of the PDF statement
+     * @param blockingScheduler scheduler reading the PDF statement from the HTTP response
+     */
+    public ReactiveAccountApiImpl(AccountApi accountApi, DataBufferFactory bufferFactory,
+                                  Scheduler blockingScheduler) {
+        if (accountApi == null) {
+            throw new IllegalArgumentException("accountApi must not be null");
+        }
+        if (bufferFactory == null) {
+            throw new IllegalArgumentException("bufferFactory must not be null");
+        }
+        if (blockingScheduler == null) {
+            throw new IllegalArgumentException("blockingScheduler must not be null");
+        }
+
+        this.accountApi = accountApi;
+        this.bufferFactory = bufferFactory;
+        this.blockingScheduler = blockingScheduler;
+    }
+
+    @Override
+    public Mono<List<Account>> accounts(String accessToken) {
+        return find(accountApi.accounts(accessToken));
+    }
+
+    @Override
+    public Mono<List<AccountBalance>> balances(String accountId, String accessToken) {
+        return find(accountApi.balances(accountId, accessToken));
+    }
+
+    @Override
+    public Mono<List<Statement>> statements(String accountId, String accessToken, OffsetDateTime dateFrom) {
+        return find(accountApi.statements(accountId, accessToken, dateFrom));
+    }
+
+    @Override
+    public Flux<AccountTransaction> transactions(String accountId, String accessToken) {
+        return transactions(accountId, accessToken, UnaryOperator.identity());
+    }
+
+    @Override
+    public Flux<AccountTransaction> transactions(String accountId, String accessToken,
+                                                 UnaryOperator<TransactionHistorySearch> search) {
+        if (search == null) {
+            throw new IllegalArgumentException("search must not be null");
+        }
+
+        TransactionHistorySearch transactionSearch = search.apply(accountApi.transactions(accountId, accessToken));
+        Flux<PageSlice<AccountTransaction>> pages = Flux.defer(() -> {
+            AtomicInteger nextPageNumber = new AtomicInteger();
+            return findPage(transactionSearch, nextPageNumber)
+                    .expand(page -> page.isLast() || page.getContent().isEmpty()
+                            ? Mono.empty()
+                            : findPage(transactionSearch, nextPageNumber));
+        });
+        // prefetch of one page: the next page is requested when the transactions of the current one start
+        // to be emitted
+        return pages.flatMapIterable(PageSlice::getContent, 1);
+    }
+
+    @Override
+    public Flux<DataBuffer> statementPdf(String accountId, String accessToken, long statementId) {
+        PdfStatementSearch search = accountApi.statementPdf(accountId, accessToken, statementId);
+        return DataBufferUtils.readInputStream(search::findAsStream, bufferFactory, BUFFER_SIZE)
+                .subscribeOn(blockingScheduler);
+    }
+
+    private static Mono<PageSlice<AccountTransaction>> findPage(TransactionHistorySearch search,
+                                                                AtomicInteger nextPageNumber) {
+        return Mono.defer(() -> find(search.page(nextPageNumber.getAndIncrement())));
+    }
+
+    /**
+     * Creates {@link Mono} calling {@link ItemSearch#findAsync()} on every subscription.
+     *
+     * @param search search to execute
+     * @param <T>    type of the result
+     * @return {@link Mono} of the result
+     */
+    private static <T> Mono<T> find(ItemSearch<T> search) {
+        return Mono.fromCompletionStage(search::findAsync);
+    }
+}
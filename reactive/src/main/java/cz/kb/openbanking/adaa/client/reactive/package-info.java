@@ -0,0 +1,4 @@
+/**
+ * Project Reactor API of the ADAA API client
+ */
+package cz.kb.openbanking.adaa.client.reactive;
@@ -0,0 +1,181 @@
+package cz.kb.openbanking.adaa.client.reactive;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockserver.model.HttpRequest.request;
+import static org.mockserver.model.HttpResponse.response;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import cz.kb.openbanking.adaa.client.api.exception.ItemSearchException;
+import cz.kb.openbanking.adaa.client.jersey.AccountApiJerseyImpl;
+import cz.kb.openbanking.adaa.client.model.generated.Account;
+import cz.kb.openbanking.adaa.client.model.generated.AccountTransaction;
+import org.apache.commons.io.IOUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockserver.integration.ClientAndServer;
+import org.mockserver.model.Header;
+import org.mockserver.model.HttpStatusCode;
+import org.mockserver.model.Parameter;
+import org.mockserver.verify.VerificationTimes;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Test class for the {@link ReactiveAccountApiImpl} over the {@link AccountApiJerseyImpl}.
+ *
+ * @since 1.3
+ */
+class ReactiveAccountApiImplTest {
+
+    private static final String ACCOUNT_ID = "aKvemMIKdvv5VEvc5vdovmeeVas5w4wcSCSv4";
+
+    private static final int MOCK_SERVER_PORT = 1080;
+
+    private static final String MOCK_SERVER_URI = "http://localhost:" + MOCK_SERVER_PORT;
+
+    private ClientAndServer mockServer;
+
+    private AccountApiJerseyImpl accountApi;
+
+    private ReactiveAccountApi reactiveAccountApi;
+
+    @BeforeEach
+    void setUp() {
+        mockServer = new ClientAndServer(MOCK_SERVER_PORT);
+        accountApi = new AccountApiJerseyImpl(MOCK_SERVER_URI, "apiKey");
+        reactiveAccountApi = new ReactiveAccountApiImpl(accountApi);
+    }
+
+    @AfterEach
+    void tearDown() {
+        accountApi.close();
+        mockServer.stop();
+    }
+
+    /**
+     * Test method for the {@link ReactiveAccountApi#accounts(String)}, nothing is requested before subscription.
+     */
+    @Test
+    void test_accounts_ok() throws IOException {
+        configureServer("/accounts", "response-accounts.json", HttpStatusCode.OK_200);
+
+        Mono<List<Account>> accounts = reactiveAccountApi.accounts("accessToken");
+        mockServer.verify(request().withPath("/accounts"), VerificationTimes.exactly(0));
+
+        assertThat(accounts.block()).extracting(Account::getAccountId).containsExactly(ACCOUNT_ID);
+        mockServer.verify(request().withPath("/accounts"), VerificationTimes.exactly(1));
+    }
+
+    /**
+     * Test method for the {@link ReactiveAccountApi#accounts(String)} signaling {@link ItemSearchException}.
+     */
+    @Test
+    void test_accounts_error() throws IOException {
+        configureServer("/accounts", "response-accounts.json", HttpStatusCode.INTERNAL_SERVER_ERROR_500);
+
+        Throwable thrown = catchThrowable(() -> reactiveAccountApi.accounts("accessToken").block());
+
+        assertThat(thrown).isInstanceOf(ItemSearchException.class);
+    }
+
+    /**
+     * Test method for the {@link ReactiveAccountApi#transactions(String, String)} over all pages.
+     */
+    @Test
+    void test_transactions_allPages_ok() throws IOException {
+        for (int page = 0; page < 3; page++) {
+            configureServer("/accounts/" + ACCOUNT_ID + "/transactions",
+                    "response-transaction-history-page-" + page + ".json", HttpStatusCode.OK_200,
+                    new Parameter("page", String.valueOf(page)));
+        }
+
+        List<String> result = reactiveAccountApi.transactions(ACCOUNT_ID, "accessToken", search -> search.size(1))
+                .map(AccountTransaction::getEntryReference)
+                .collectList()
+                .block();
+
+        assertThat(result).containsExactly("KB-1000000000", "KB-1000000001", "KB-1000000002");
+    }
+
+    /**
+     * Test method for the {@link ReactiveAccountApi#transactions(String, String)}, pages are requested
+     * by the demand of the subscriber.
+     */
+    @Test
+    void test_transactions_cancelled_noMorePages() throws IOException {
+        for (int page = 0; page < 3; page++) {
+            configureServer("/accounts/" + ACCOUNT_ID + "/transactions",
+                    "response-transaction-history-page-" + page + ".json", HttpStatusCode.OK_200,
+                    new Parameter("page", String.valueOf(page)));
+        }
+
+        AccountTransaction first = reactiveAccountApi.transactions(ACCOUNT_ID, "accessToken")
+                .next()
+                .block();
+
+        assertThat(first.getEntryReference()).isEqualTo("KB-1000000000");
+        mockServer.verify(
+                request()
+                        .withPath("/accounts/" + ACCOUNT_ID + "/transactions")
+                        .withQueryStringParameter("page", "2"),
+                VerificationTimes.exactly(0)
+        );
+    }
+
+    /**
+     * Test method for the {@link ReactiveAccountApi#statementPdf(String, String, long)}.
+     */
+    @Test
+    void test_statementPdf_ok() throws IOException {
+        byte[] response = IOUtils.toByteArray(
+                getClass().getClassLoader().getResourceAsStream("response-pdf-statement.pdf"));
+        mockServer
+                .when(
+                        request()
+                                .withPath("/accounts/" + ACCOUNT_ID + "/statements/1"))
+                .respond(
+                        response()
+                                .withStatusCode(HttpStatusCode.OK_200.code())
+                                .withHeader(new Header("Content-Type", "application/pdf"))
+                                .withBody(response));
+
+        List<DataBuffer> result = reactiveAccountApi.statementPdf(ACCOUNT_ID, "accessToken", 1)
+                .collectList()
+                .block();
+
+        byte[] joined = DataBufferUtils.join(Flux.fromIterable(result))
+                .map(buffer -> {
+                    byte[] bytes = new byte[buffer.readableByteCount()];
+                    buffer.read(bytes);
+                    DataBufferUtils.release(buffer);
+                    return bytes;
+                })
+                .block();
+        assertThat(joined).isEqualTo(response);
+    }
+
+    private void configureServer(String urlPath, String responseResourceName, HttpStatusCode status,
+                                 Parameter... queryParameters) throws IOException {
+        String response = IOUtils.toString(
+                getClass().getClassLoader().getResourceAsStream(responseResourceName), StandardCharsets.UTF_8);
+
+        mockServer
+                .when(
+                        request()
+                                .withMethod("GET")
+                                .withPath(urlPath)
+                                .withQueryStringParameters(queryParameters))
+                .respond(
+                        response()
+                                .withStatusCode(status.code())
+                                .withHeader(new Header("Content-Type", "application/json"))
+                                .withBody(response));
+    }
+}
@@ -1,18 +1,30 @@
 package cz.kb.openbanking.adaa.client.springboot.configuration;
 
 import javax.ws.rs.client.Client;
-import javax.ws.rs.client.ClientBuilder;
 
 import cz.kb.openbanking.adaa.client.api.AccountApi;
 import cz.kb.openbanking.adaa.client.jersey.AccountApiJerseyImpl;
+import cz.kb.openbanking.adaa.client.jersey.CircuitBreakerSettings;
+import cz.kb.openbanking.adaa.client.jersey.RetrySettings;
+import cz.kb.openbanking.adaa.client.jersey.ThrottlingSettings;
+import cz.kb.openbanking.adaa.client.jersey.TransportSettings;
+import cz.kb.openbanking.adaa.client.reactive.ReactiveAccountApi;
+import cz.kb.openbanking.adaa.client.reactive.ReactiveAccountApiImpl;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.SmartLifecycle;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.PropertySource;
 import org.springframework.util.Assert;
+import reactor.core.publisher.Flux;
 
 /**
  * ADAA API client's Spring Boot auto-configuration.
@@ -30,26 +42,40 @@ public class AdaaClientAutoConfiguration {
     private static final Logger log = LoggerFactory.getLogger(AdaaClientAutoConfiguration.class);
 
     /**
-     * Provides default Jersey JAX-RS client.
+     * Provides Jersey JAX-RS client with pooled HTTP transport configured by {@link AdaaClientProperties#getTransport()}.
      *
+     * @param clientProperties properties of the ADAA API client
      * @return {@link Client}
      */
     @Bean
     @ConditionalOnMissingBean
-    public Client getClient() {
-        return ClientBuilder.newClient();
+    public Client getClient(AdaaClientProperties clientProperties) {
+        Assert.notNull(clientProperties, "clientProperties must not be null");
+
+        TransportSettings transportSettings = getTransportSettings(clientProperties.getTransport());
+        log.debug("Creating Jersey client with transport settings {}.", transportSettings);
+        return transportSettings.createClient();
     }
 
     /**
      * Provides {@link AccountApiJerseyImpl} based on {@link AdaaClientProperties}.
+     * If the application context contains exactly one {@link ObjectMapper} then it's shared with the ADAA client,
+     * otherwise the client uses its own one. Failed calls are retried if {@link AdaaClientProperties#getRetry()}
+     * is enabled, calls are guarded by a circuit breaker if {@link AdaaClientProperties#getCircuitBreaker()}
+     * is enabled and calls are throttled if {@link AdaaClientProperties#getThrottling()} sets any limit.
+     * The client's builder is customized by all {@link AdaaClientBuilderCustomizer}s in the application context.
      *
      * @param clientProperties properties of the ADAA API client
      * @param client           Jersey JAX-RS client
+     * @param objectMapper     application's {@link ObjectMapper}, if any
+     * @param customizers      customizers of the client's builder
      * @return {@link AccountApiJerseyImpl}
      */
     @Bean
     @ConditionalOnMissingBean
-    public AccountApi getAccountApiJerseyImpl(AdaaClientProperties clientProperties, Client client) {
+    public AccountApi getAccountApiJerseyImpl(AdaaClientProperties clientProperties, Client client,
+                                              ObjectProvider<ObjectMapper> objectMapper,
+                                              ObjectProvider<AdaaClientBuilderCustomizer> customizers) {
         Assert.notNull(clientProperties, "clientProperties must not be null");
         String baseUri = clientProperties.getBaseUri();
         String apiKey = clientProperties.getApiKey();
@@ -58,6 +84,225 @@ public class AdaaClientAutoConfiguration {
         Assert.notNull(client, "client must not be null");
 
         log.debug("Creating AccountApiJerseyImpl bean with base URI '{}' and API key '{}'.", baseUri, apiKey);
-        return new AccountApiJerseyImpl(baseUri, apiKey, client);
+        AccountApiJerseyImpl.Builder builder = AccountApiJerseyImpl.builder(baseUri, apiKey).client(client);
+        if (clientProperties.getRetry().isEnabled()) {
+            builder.retry(getRetrySettings(clientProperties.getRetry()));
+        }
+        if (clientProperties.getCircuitBreaker().isEnabled()) {
+            builder.circuitBreaker(getCircuitBreakerSettings(clientProperties.getCircuitBreaker()));
+        }
+        if (clientProperties.getThrottling().isEnabled()) {
+            builder.throttling(getThrottlingSettings(clientProperties.getThrottling()));
+        }
+        ObjectMapper sharedObjectMapper = objectMapper.getIfUnique();
+        if (sharedObjectMapper != null) {
+            builder.objectMapper(sharedObjectMapper);
+        }
+        customizers.orderedStream().forEach(customizer -> customizer.customize(builder));
+        return builder.build();
+    }
+
+    /**
+     * Provides warm-up of the {@link AccountApiJerseyImpl} on start of the application
+     * if {@link AdaaClientProperties#getWarmUp()} is enabled. An application's own {@link AccountApi}
+     * of another implementation is not warmed up.
+     *
+     * @param clientProperties properties of the ADAA API client
+     * @param accountApi       the ADAA client
+     * @return {@link SmartLifecycle} warming up the client
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = AdaaClientProperties.PROPERTY_PREFIX, name = "warm-up.enabled",
+            havingValue = "true")
+    public SmartLifecycle adaaClientWarmUp(AdaaClientProperties clientProperties, AccountApi accountApi) {
+        Assert.notNull(clientProperties, "clientProperties must not be null");
+        Assert.notNull(accountApi, "accountApi must not be null");
+        Assert.isInstanceOf(AccountApiJerseyImpl.class, accountApi,
+                "only AccountApiJerseyImpl can be warmed up, disable adaa.client.warm-up.enabled");
+
+        Integer connections = clientProperties.getWarmUp().getConnections();
+        return new AdaaClientWarmUp((AccountApiJerseyImpl) accountApi,
+                connections == null ? AccountApiJerseyImpl.DEFAULT_WARM_UP_CONNECTIONS : connections);
+    }
+
+    /**
+     * Records metrics of the ADAA API calls to the application's {@link MeterRegistry}
+     * if Micrometer is on the classpath, e.g. by Spring Boot Actuator.
+     */
+    @Configuration
+    @ConditionalOnClass(MeterRegistry.class)
+    static class MetricsConfiguration {
+
+        /**
+         * Provides customizer that sets the application's {@link MeterRegistry} to the ADAA client,
+         * if the application context contains exactly one (or primary) {@link MeterRegistry}.
+         *
+         * @param meterRegistry application's {@link MeterRegistry}, if any
+         * @return {@link AdaaClientBuilderCustomizer}
+         */
+        @Bean
+        public AdaaClientBuilderCustomizer adaaClientMetricsCustomizer(ObjectProvider<MeterRegistry> meterRegistry) {
+            return builder -> {
+                MeterRegistry sharedMeterRegistry = meterRegistry.getIfUnique();
+                if (sharedMeterRegistry != null) {
+                    log.debug("Recording ADAA client metrics to {}.", sharedMeterRegistry);
+                    builder.meterRegistry(sharedMeterRegistry);
+                }
+            };
+        }
+    }
+
+    /**
+     * Provides reactive API of the ADAA client if the 'reactive' artifact and Project Reactor are on the classpath,
+     * e.g. in a Spring WebFlux application.
+     */
+    @Configuration
+    @ConditionalOnClass({ReactiveAccountApi.class, Flux.class})
+    static class ReactiveConfiguration {
+
+        /**
+         * Provides {@link ReactiveAccountApiImpl} adapting the application's {@link AccountApi}.
+         *
+         * @param accountApi ADAA API client
+         * @return {@link ReactiveAccountApiImpl}
+         */
+        @Bean
+        @ConditionalOnMissingBean
+        public ReactiveAccountApi reactiveAccountApi(AccountApi accountApi) {
+            Assert.notNull(accountApi, "accountApi must not be null");
+
+            log.debug("Creating ReactiveAccountApiImpl bean over {}.", accountApi);
+            return new ReactiveAccountApiImpl(accountApi);
+        }
+    }
+
+    /**
+     * Maps transport properties to {@link TransportSettings}, unset properties keep their default values.
+     *
+     * @param transport transport properties
+     * @return {@link TransportSettings}
+     */
+    private static TransportSettings getTransportSettings(AdaaClientProperties.Transport transport) {
+        TransportSettings.Builder builder = TransportSettings.builder();
+        if (transport.getMaxConnectionsTotal() != null) {
+            builder.maxConnectionsTotal(transport.getMaxConnectionsTotal());
+        }
+        if (transport.getMaxConnectionsPerRoute() != null) {
+            builder.maxConnectionsPerRoute(transport.getMaxConnectionsPerRoute());
+        }
+        if (transport.getConnectTimeout() != null) {
+            builder.connectTimeout(transport.getConnectTimeout());
+        }
+        if (transport.getReadTimeout() != null) {
+            builder.readTimeout(transport.getReadTimeout());
+        }
+        if (transport.getConnectionRequestTimeout() != null) {
+            builder.connectionRequestTimeout(transport.getConnectionRequestTimeout());
+        }
+        if (transport.getIdleConnectionTimeout() != null) {
+            builder.idleConnectionTimeout(transport.getIdleConnectionTimeout());
+        }
+        if (transport.isVirtualThreads()) {
+            builder.virtualThreads(true);
+        }
+        if (transport.getCompression() != null) {
+            builder.compression(transport.getCompression());
+        }
+        return builder.build();
+    }
+
+    /**
+     * Maps retry properties to {@link RetrySettings}, unset properties keep their default values.
+     *
+     * @param retry retry properties
+     * @return {@link RetrySettings}
+     */
+    private static RetrySettings getRetrySettings(AdaaClientProperties.Retry retry) {
+        RetrySettings.Builder builder = RetrySettings.builder();
+        if (retry.getMaxAttempts() != null) {
+            builder.maxAttempts(retry.getMaxAttempts());
+        }
+        if (retry.getInitialBackoff() != null) {
+            builder.initialBackoff(retry.getInitialBackoff());
+        }
+        if (retry.getMaxBackoff() != null) {
+            builder.maxBackoff(retry.getMaxBackoff());
+        }
+        if (retry.getBackoffMultiplier() != null) {
+            builder.backoffMultiplier(retry.getBackoffMultiplier());
+        }
+        if (retry.getJitter() != null) {
+            builder.jitter(retry.getJitter());
+        }
+        if (retry.getMaxRetryAfter() != null) {
+            builder.maxRetryAfter(retry.getMaxRetryAfter());
+        }
+        if (retry.getRetryableStatuses() != null) {
+            builder.retryableStatuses(retry.getRetryableStatuses());
+        }
+        if (retry.getRetryableErrorCodes() != null) {
+            builder.retryableErrorCodes(retry.getRetryableErrorCodes());
+        }
+        if (retry.getBudgetMaxTokens() != null || retry.getBudgetTokenRatio() != null) {
+            builder.budget(
+                    retry.getBudgetMaxTokens() == null
+                            ? RetrySettings.DEFAULT_BUDGET_MAX_TOKENS : retry.getBudgetMaxTokens(),
+                    retry.getBudgetTokenRatio() == null
+                            ? RetrySettings.DEFAULT_BUDGET_TOKEN_RATIO : retry.getBudgetTokenRatio());
+        }
+        return builder.build();
+    }
+
+    /**
+     * Maps throttling properties to {@link ThrottlingSettings}, unset properties keep their default values.
+     *
+     * @param throttling throttling properties
+     * @return {@link ThrottlingSettings}
+     */
+    private static ThrottlingSettings getThrottlingSettings(AdaaClientProperties.Throttling throttling) {
+        ThrottlingSettings.Builder builder = ThrottlingSettings.builder();
+        if (throttling.getRateLimit() != null) {
+            builder.rateLimit(throttling.getRateLimit());
+        }
+        if (throttling.getBurst() != null) {
+            builder.burst(throttling.getBurst());
+        }
+        if (throttling.getMaxConcurrentCalls() != null) {
+            builder.maxConcurrentCalls(throttling.getMaxConcurrentCalls());
+        }
+        if (throttling.getMaxWait() != null) {
+            builder.maxWait(throttling.getMaxWait());
+        }
+        return builder.build();
+    }
+
+    /**
+     * Maps circuit breaker properties to {@link CircuitBreakerSettings}, unset properties keep their default values.
+     *
+     * @param circuitBreaker circuit breaker properties
+     * @return {@link CircuitBreakerSettings}
+     */
+    private static CircuitBreakerSettings getCircuitBreakerSettings(
+            AdaaClientProperties.CircuitBreaker circuitBreaker) {
+        CircuitBreakerSettings.Builder builder = CircuitBreakerSettings.builder();
+        if (circuitBreaker.getFailureRateThreshold() != null) {
+            builder.failureRateThreshold(circuitBreaker.getFailureRateThreshold());
+        }
+        if (circuitBreaker.getSlowCallRateThreshold() != null) {
+            builder.slowCallRateThreshold(circuitBreaker.getSlowCallRateThreshold());
+        }
+        if (circuitBreaker.getSlowCallDuration() != null) {
+            builder.slowCallDuration(circuitBreaker.getSlowCallDuration());
+        }
+        if (circuitBreaker.getSlidingWindowSize() != null) {
+            builder.slidingWindowSize(circuitBreaker.getSlidingWindowSize());
+        }
+        if (circuitBreaker.getMinimumCalls() != null) {
+            builder.minimumCalls(circuitBreaker.getMinimumCalls());
+        }
+        if (circuitBreaker.getOpenDuration() != null) {
+            builder.openDuration(circuitBreaker.getOpenDuration());
+        }
+        return builder.build();
     }
 }
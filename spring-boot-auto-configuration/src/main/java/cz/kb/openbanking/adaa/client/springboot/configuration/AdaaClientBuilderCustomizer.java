@@ -0,0 +1,20 @@
+package cz.kb.openbanking.adaa.client.springboot.configuration;
+
+import cz.kb.openbanking.adaa.client.jersey.AccountApiJerseyImpl;
+
+/**
+ * Callback to customize the {@link AccountApiJerseyImpl.Builder} before the ADAA client bean is built
+ * by {@link AdaaClientAutoConfiguration}. All customizers in the application context are applied in their order.
+ *
+ * @since 1.3
+ */
+@FunctionalInterface
+public interface AdaaClientBuilderCustomizer {
+
+    /**
+     * Customizes the builder of the ADAA client.
+     *
+     * @param builder {@link AccountApiJerseyImpl.Builder}
+     */
+    void customize(AccountApiJerseyImpl.Builder builder);
+}
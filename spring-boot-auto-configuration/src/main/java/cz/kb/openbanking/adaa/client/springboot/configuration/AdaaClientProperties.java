@@ -7,6 +7,8 @@ import org.apache.commons.lang3.builder.ToStringBuilder;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.validation.annotation.Validated;
 
+import java.time.Duration;
+import java.util.Set;
 import javax.validation.constraints.NotBlank;
 
 
@@ -37,6 +39,31 @@ public class AdaaClientProperties {
     @NotBlank
     private String apiKey;
 
+    /**
+     * Settings of the pooled HTTP transport.
+     */
+    private final Transport transport = new Transport();
+
+    /**
+     * Settings of retrying of failed calls.
+     */
+    private final Retry retry = new Retry();
+
+    /**
+     * Settings of client-side throttling of the calls.
+     */
+    private final Throttling throttling = new Throttling();
+
+    /**
+     * Settings of the circuit breaker around the ADAA API.
+     */
+    private final CircuitBreaker circuitBreaker = new CircuitBreaker();
+
+    /**
+     * Settings of the warm-up of the client on start of the application.
+     */
+    private final WarmUp warmUp = new WarmUp();
+
     /**
      * New instance.
      */
@@ -65,6 +92,26 @@ public class AdaaClientProperties {
         this.apiKey = apiKey;
     }
 
+    public Transport getTransport() {
+        return transport;
+    }
+
+    public Retry getRetry() {
+        return retry;
+    }
+
+    public Throttling getThrottling() {
+        return throttling;
+    }
+
+    public CircuitBreaker getCircuitBreaker() {
+        return circuitBreaker;
+    }
+
+    public WarmUp getWarmUp() {
+        return warmUp;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -80,6 +127,11 @@ public class AdaaClientProperties {
         return new EqualsBuilder()
                 .append(getBaseUri(), that.getBaseUri())
                 .append(getApiKey(), that.getApiKey())
+                .append(getTransport(), that.getTransport())
+                .append(getRetry(), that.getRetry())
+                .append(getThrottling(), that.getThrottling())
+                .append(getCircuitBreaker(), that.getCircuitBreaker())
+                .append(getWarmUp(), that.getWarmUp())
                 .isEquals();
     }
 
@@ -88,6 +140,11 @@ public class AdaaClientProperties {
         return new HashCodeBuilder(17, 37)
                 .append(getBaseUri())
                 .append(getApiKey())
+                .append(getTransport())
+                .append(getRetry())
+                .append(getThrottling())
+                .append(getCircuitBreaker())
+                .append(getWarmUp())
                 .toHashCode();
     }
 
@@ -96,6 +153,705 @@ public class AdaaClientProperties {
         return new ToStringBuilder(this)
                 .append("baseUri", baseUri)
                 .append("apiKey", apiKey)
+                .append("transport", transport)
+                .append("retry", retry)
+                .append("throttling", throttling)
+                .append("circuitBreaker", circuitBreaker)
+                .append("warmUp", warmUp)
                 .toString();
     }
+
+    /**
+     * Settings of the pooled HTTP transport. Unset values fall back to the defaults of the Jersey implementation.
+     */
+    public static class Transport {
+
+        /**
+         * Maximal number of pooled connections.
+         */
+        private Integer maxConnectionsTotal;
+
+        /**
+         * Maximal number of pooled connections per route (host).
+         */
+        private Integer maxConnectionsPerRoute;
+
+        /**
+         * Timeout of establishing a connection.
+         */
+        private Duration connectTimeout;
+
+        /**
+         * Timeout of waiting for data.
+         */
+        private Duration readTimeout;
+
+        /**
+         * Timeout of waiting for a connection from the pool.
+         */
+        private Duration connectionRequestTimeout;
+
+        /**
+         * Time after that idle pooled connections are evicted.
+         */
+        private Duration idleConnectionTimeout;
+
+        /**
+         * Whether asynchronous calls are executed on virtual threads, requires Java 21 or newer.
+         */
+        private boolean virtualThreads;
+
+        /**
+         * Whether compressed (gzip, deflate) responses are requested, enabled by default.
+         */
+        private Boolean compression;
+
+        public Integer getMaxConnectionsTotal() {
+            return maxConnectionsTotal;
+        }
+
+        public void setMaxConnectionsTotal(Integer maxConnectionsTotal) {
+            this.maxConnectionsTotal = maxConnectionsTotal;
+        }
+
+        public Integer getMaxConnectionsPerRoute() {
+            return maxConnectionsPerRoute;
+        }
+
+        public void setMaxConnectionsPerRoute(Integer maxConnectionsPerRoute) {
+            this.maxConnectionsPerRoute = maxConnectionsPerRoute;
+        }
+
+        public Duration getConnectTimeout() {
+            return connectTimeout;
+        }
+
+        public void setConnectTimeout(Duration connectTimeout) {
+            this.connectTimeout = connectTimeout;
+        }
+
+        public Duration getReadTimeout() {
+            return readTimeout;
+        }
+
+        public void setReadTimeout(Duration readTimeout) {
+            this.readTimeout = readTimeout;
+        }
+
+        public Duration getConnectionRequestTimeout() {
+            return connectionRequestTimeout;
+        }
+
+        public void setConnectionRequestTimeout(Duration connectionRequestTimeout) {
+            this.connectionRequestTimeout = connectionRequestTimeout;
+        }
+
+        public Duration getIdleConnectionTimeout() {
+            return idleConnectionTimeout;
+        }
+
+        public void setIdleConnectionTimeout(Duration idleConnectionTimeout) {
+            this.idleConnectionTimeout = idleConnectionTimeout;
+        }
+
+        public boolean isVirtualThreads() {
+            return virtualThreads;
+        }
+
+        public void setVirtualThreads(boolean virtualThreads) {
+            this.virtualThreads = virtualThreads;
+        }
+
+        public Boolean getCompression() {
+            return compression;
+        }
+
+        public void setCompression(Boolean compression) {
+            this.compression = compression;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+
+            if (!(o instanceof Transport)) {
+                return false;
+            }
+
+            Transport that = (Transport) o;
+
+            return new EqualsBuilder()
+                    .append(getMaxConnectionsTotal(), that.getMaxConnectionsTotal())
+                    .append(getMaxConnectionsPerRoute(), that.getMaxConnectionsPerRoute())
+                    .append(getConnectTimeout(), that.getConnectTimeout())
+                    .append(getReadTimeout(), that.getReadTimeout())
+                    .append(getConnectionRequestTimeout(), that.getConnectionRequestTimeout())
+                    .append(getIdleConnectionTimeout(), that.getIdleConnectionTimeout())
+                    .append(isVirtualThreads(), that.isVirtualThreads())
+                    .append(getCompression(), that.getCompression())
+                    .isEquals();
+        }
+
+        @Override
+        public int hashCode() {
+            return new HashCodeBuilder(17, 37)
+                    .append(getMaxConnectionsTotal())
+                    .append(getMaxConnectionsPerRoute())
+                    .append(getConnectTimeout())
+                    .append(getReadTimeout())
+                    .append(getConnectionRequestTimeout())
+                    .append(getIdleConnectionTimeout())
+                    .append(isVirtualThreads())
+                    .append(getCompression())
+                    .toHashCode();
+        }
+
+        @Override
+        public String toString() {
+            return new ToStringBuilder(this)
+                    .append("maxConnectionsTotal", maxConnectionsTotal)
+                    .append("maxConnectionsPerRoute", maxConnectionsPerRoute)
+                    .append("connectTimeout", connectTimeout)
+                    .append("readTimeout", readTimeout)
+                    .append("connectionRequestTimeout", connectionRequestTimeout)
+                    .append("idleConnectionTimeout", idleConnectionTimeout)
+                    .append("virtualThreads", virtualThreads)
+                    .append("compression", compression)
+                    .toString();
+        }
+    }
+
+    /**
+     * Settings of retrying of failed calls. Unset values fall back to the defaults of the Jersey implementation.
+     */
+    public static class Retry {
+
+        /**
+         * Whether failed calls are retried.
+         */
+        private boolean enabled;
+
+        /**
+         * Maximal number of attempts of one call, including the first one.
+         */
+        private Integer maxAttempts;
+
+        /**
+         * Delay before the first retry.
+         */
+        private Duration initialBackoff;
+
+        /**
+         * Maximal delay between attempts.
+         */
+        private Duration maxBackoff;
+
+        /**
+         * Multiplier of the delay after each attempt, at least 1.
+         */
+        private Double backoffMultiplier;
+
+        /**
+         * Randomized part of the delay, from 0 (no jitter) to 1 (full jitter).
+         */
+        private Double jitter;
+
+        /**
+         * Maximal honored Retry-After, a call is not retried if the API asks to wait longer.
+         */
+        private Duration maxRetryAfter;
+
+        /**
+         * HTTP statuses of retried responses.
+         */
+        private Set<Integer> retryableStatuses;
+
+        /**
+         * Codes of errors of retried responses, regardless of the HTTP status.
+         */
+        private Set<String> retryableErrorCodes;
+
+        /**
+         * Capacity of the retry budget shared by all calls of the client, each retried failure takes one token.
+         */
+        private Integer budgetMaxTokens;
+
+        /**
+         * Part of a token returned to the retry budget by a successful call.
+         */
+        private Double budgetTokenRatio;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public Integer getMaxAttempts() {
+            return maxAttempts;
+        }
+
+        public void setMaxAttempts(Integer maxAttempts) {
+            this.maxAttempts = maxAttempts;
+        }
+
+        public Duration getInitialBackoff() {
+            return initialBackoff;
+        }
+
+        public void setInitialBackoff(Duration initialBackoff) {
+            this.initialBackoff = initialBackoff;
+        }
+
+        public Duration getMaxBackoff() {
+            return maxBackoff;
+        }
+
+        public void setMaxBackoff(Duration maxBackoff) {
+            this.maxBackoff = maxBackoff;
+        }
+
+        public Double getBackoffMultiplier() {
+            return backoffMultiplier;
+        }
+
+        public void setBackoffMultiplier(Double backoffMultiplier) {
+            this.backoffMultiplier = backoffMultiplier;
+        }
+
+        public Double getJitter() {
+            return jitter;
+        }
+
+        public void setJitter(Double jitter) {
+            this.jitter = jitter;
+        }
+
+        public Duration getMaxRetryAfter() {
+            return maxRetryAfter;
+        }
+
+        public void setMaxRetryAfter(Duration maxRetryAfter) {
+            this.maxRetryAfter = maxRetryAfter;
+        }
+
+        public Set<Integer> getRetryableStatuses() {
+            return retryableStatuses;
+        }
+
+        public void setRetryableStatuses(Set<Integer> retryableStatuses) {
+            this.retryableStatuses = retryableStatuses;
+        }
+
+        public Set<String> getRetryableErrorCodes() {
+            return retryableErrorCodes;
+        }
+
+        public void setRetryableErrorCodes(Set<String> retryableErrorCodes) {
+            this.retryableErrorCodes = retryableErrorCodes;
+        }
+
+        public Integer getBudgetMaxTokens() {
+            return budgetMaxTokens;
+        }
+
+        public void setBudgetMaxTokens(Integer budgetMaxTokens) {
+            this.budgetMaxTokens = budgetMaxTokens;
+        }
+
+        public Double getBudgetTokenRatio() {
+            return budgetTokenRatio;
+        }
+
+        public void setBudgetTokenRatio(Double budgetTokenRatio) {
+            this.budgetTokenRatio = budgetTokenRatio;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+
+            if (!(o instanceof Retry)) {
+                return false;
+            }
+
+            Retry that = (Retry) o;
+
+            return new EqualsBuilder()
+                    .append(isEnabled(), that.isEnabled())
+                    .append(getMaxAttempts(), that.getMaxAttempts())
+                    .append(getInitialBackoff(), that.getInitialBackoff())
+                    .append(getMaxBackoff(), that.getMaxBackoff())
+                    .append(getBackoffMultiplier(), that.getBackoffMultiplier())
+                    .append(getJitter(), that.getJitter())
+                    .append(getMaxRetryAfter(), that.getMaxRetryAfter())
+                    .append(getRetryableStatuses(), that.getRetryableStatuses())
+                    .append(getRetryableErrorCodes(), that.getRetryableErrorCodes())
+                    .append(getBudgetMaxTokens(), that.getBudgetMaxTokens())
+                    .append(getBudgetTokenRatio(), that.getBudgetTokenRatio())
+                    .isEquals();
+        }
+
+        @Override
+        public int hashCode() {
+            return new HashCodeBuilder(17, 37)
+                    .append(isEnabled())
+                    .append(getMaxAttempts())
+                    .append(getInitialBackoff())
+                    .append(getMaxBackoff())
+                    .append(getBackoffMultiplier())
+                    .append(getJitter())
+                    .append(getMaxRetryAfter())
+                    .append(getRetryableStatuses())
+                    .append(getRetryableErrorCodes())
+                    .append(getBudgetMaxTokens())
+                    .append(getBudgetTokenRatio())
+                    .toHashCode();
+        }
+
+        @Override
+        public String toString() {
+            return new ToStringBuilder(this)
+                    .append("enabled", enabled)
+                    .append("maxAttempts", maxAttempts)
+                    .append("initialBackoff", initialBackoff)
+                    .append("maxBackoff", maxBackoff)
+                    .append("backoffMultiplier", backoffMultiplier)
+                    .append("jitter", jitter)
+                    .append("maxRetryAfter", maxRetryAfter)
+                    .append("retryableStatuses", retryableStatuses)
+                    .append("retryableErrorCodes", retryableErrorCodes)
+                    .append("budgetMaxTokens", budgetMaxTokens)
+                    .append("budgetTokenRatio", budgetTokenRatio)
+                    .toString();
+        }
+    }
+
+    /**
+     * Settings of client-side throttling of the calls, shared by all calls of the API key.
+     * Throttling is enabled if the rate limit or the maximal number of concurrent calls is set.
+     * Unset values fall back to the defaults of the Jersey implementation.
+     */
+    public static class Throttling {
+
+        /**
+         * Maximal average number of requests per second.
+         */
+        private Double rateLimit;
+
+        /**
+         * Maximal number of requests sent at once after a period of inactivity.
+         */
+        private Integer burst;
+
+        /**
+         * Maximal number of concurrent requests.
+         */
+        private Integer maxConcurrentCalls;
+
+        /**
+         * Maximal wait for permission to send a request, zero means failing fast.
+         */
+        private Duration maxWait;
+
+        /**
+         * Checks whether any limit is set.
+         *
+         * @return {@code true} if the calls are throttled
+         */
+        public boolean isEnabled() {
+            return rateLimit != null || maxConcurrentCalls != null;
+        }
+
+        public Double getRateLimit() {
+            return rateLimit;
+        }
+
+        public void setRateLimit(Double rateLimit) {
+            this.rateLimit = rateLimit;
+        }
+
+        public Integer getBurst() {
+            return burst;
+        }
+
+        public void setBurst(Integer burst) {
+            this.burst = burst;
+        }
+
+        public Integer getMaxConcurrentCalls() {
+            return maxConcurrentCalls;
+        }
+
+        public void setMaxConcurrentCalls(Integer maxConcurrentCalls) {
+            this.maxConcurrentCalls = maxConcurrentCalls;
+        }
+
+        public Duration getMaxWait() {
+            return maxWait;
+        }
+
+        public void setMaxWait(Duration maxWait) {
+            this.maxWait = maxWait;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+
+            if (!(o instanceof Throttling)) {
+                return false;
+            }
+
+            Throttling that = (Throttling) o;
+
+            return new EqualsBuilder()
+                    .append(getRateLimit(), that.getRateLimit())
+                    .append(getBurst(), that.getBurst())
+                    .append(getMaxConcurrentCalls(), that.getMaxConcurrentCalls())
+                    .append(getMaxWait(), that.getMaxWait())
+                    .isEquals();
+        }
+
+        @Override
+        public int hashCode() {
+            return new HashCodeBuilder(17, 37)
+                    .append(getRateLimit())
+                    .append(getBurst())
+                    .append(getMaxConcurrentCalls())
+                    .append(getMaxWait())
+                    .toHashCode();
+        }
+
+        @Override
+        public String toString() {
+            return new ToStringBuilder(this)
+                    .append("rateLimit", rateLimit)
+                    .append("burst", burst)
+                    .append("maxConcurrentCalls", maxConcurrentCalls)
+                    .append("maxWait", maxWait)
+                    .toString();
+        }
+    }
+
+    /**
+     * Settings of the circuit breaker around the ADAA API. Unset values fall back to the defaults
+     * of the Jersey implementation.
+     */
+    public static class CircuitBreaker {
+
+        /**
+         * Whether the circuit breaker is enabled.
+         */
+        private boolean enabled;
+
+        /**
+         * Rate of failed requests (from 0 to 1) that opens the circuit breaker.
+         */
+        private Double failureRateThreshold;
+
+        /**
+         * Rate of slow requests (from 0 to 1) that opens the circuit breaker.
+         */
+        private Double slowCallRateThreshold;
+
+        /**
+         * Duration of a request considered slow.
+         */
+        private Duration slowCallDuration;
+
+        /**
+         * Number of the last requests that are evaluated.
+         */
+        private Integer slidingWindowSize;
+
+        /**
+         * Minimal number of recorded requests before the rates are evaluated.
+         */
+        private Integer minimumCalls;
+
+        /**
+         * Time between opening of the circuit breaker and the next is-alive probe.
+         */
+        private Duration openDuration;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public Double getFailureRateThreshold() {
+            return failureRateThreshold;
+        }
+
+        public void setFailureRateThreshold(Double failureRateThreshold) {
+            this.failureRateThreshold = failureRateThreshold;
+        }
+
+        public Double getSlowCallRateThreshold() {
+            return slowCallRateThreshold;
+        }
+
+        public void setSlowCallRateThreshold(Double slowCallRateThreshold) {
+            this.slowCallRateThreshold = slowCallRateThreshold;
+        }
+
+        public Duration getSlowCallDuration() {
+            return slowCallDuration;
+        }
+
+        public void setSlowCallDuration(Duration slowCallDuration) {
+            this.slowCallDuration = slowCallDuration;
+        }
+
+        public Integer getSlidingWindowSize() {
+            return slidingWindowSize;
+        }
+
+        public void setSlidingWindowSize(Integer slidingWindowSize) {
+            this.slidingWindowSize = slidingWindowSize;
+        }
+
+        public Integer getMinimumCalls() {
+            return minimumCalls;
+        }
+
+        public void setMinimumCalls(Integer minimumCalls) {
+            this.minimumCalls = minimumCalls;
+        }
+
+        public Duration getOpenDuration() {
+            return openDuration;
+        }
+
+        public void setOpenDuration(Duration openDuration) {
+            this.openDuration = openDuration;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+
+            if (!(o instanceof CircuitBreaker)) {
+                return false;
+            }
+
+            CircuitBreaker that = (CircuitBreaker) o;
+
+            return new EqualsBuilder()
+                    .append(isEnabled(), that.isEnabled())
+                    .append(getFailureRateThreshold(), that.getFailureRateThreshold())
+                    .append(getSlowCallRateThreshold(), that.getSlowCallRateThreshold())
+                    .append(getSlowCallDuration(), that.getSlowCallDuration())
+                    .append(getSlidingWindowSize(), that.getSlidingWindowSize())
+                    .append(getMinimumCalls(), that.getMinimumCalls())
+                    .append(getOpenDuration(), that.getOpenDuration())
+                    .isEquals();
+        }
+
+        @Override
+        public int hashCode() {
+            return new HashCodeBuilder(17, 37)
+                    .append(isEnabled())
+                    .append(getFailureRateThreshold())
+                    .append(getSlowCallRateThreshold())
+                    .append(getSlowCallDuration())
+                    .append(getSlidingWindowSize())
+                    .append(getMinimumCalls())
+                    .append(getOpenDuration())
+                    .toHashCode();
+        }
+
+        @Override
+        public String toString() {
+            return new ToStringBuilder(this)
+                    .append("enabled", enabled)
+                    .append("failureRateThreshold", failureRateThreshold)
+                    .append("slowCallRateThreshold", slowCallRateThreshold)
+                    .append("slowCallDuration", slowCallDuration)
+                    .append("slidingWindowSize", slidingWindowSize)
+                    .append("minimumCalls", minimumCalls)
+                    .append("openDuration", openDuration)
+                    .toString();
+        }
+    }
+
+    /**
+     * Settings of the warm-up of the client on start of the application.
+     */
+    public static class WarmUp {
+
+        /**
+         * Whether the client is warmed up on start of the application.
+         */
+        private boolean enabled;
+
+        /**
+         * Number of connections opened by the warm-up.
+         */
+        private Integer connections;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public Integer getConnections() {
+            return connections;
+        }
+
+        public void setConnections(Integer connections) {
+            this.connections = connections;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+
+            if (!(o instanceof WarmUp)) {
+                return false;
+            }
+
+            WarmUp that = (WarmUp) o;
+
+            return new EqualsBuilder()
+                    .append(isEnabled(), that.isEnabled())
+                    .append(getConnections(), that.getConnections())
+                    .isEquals();
+        }
+
+        @Override
+        public int hashCode() {
+            return new HashCodeBuilder(17, 37)
+                    .append(isEnabled())
+                    .append(getConnections())
+                    .toHashCode();
+        }
+
+        @Override
+        public String toString() {
+            return new ToStringBuilder(this)
+                    .append("enabled", enabled)
+                    .append("connections", connections)
+                    .toString();
+        }
+    }
 }
@@ -0,0 +1,70 @@
+package cz.kb.openbanking.adaa.client.springboot.configuration;
+
+import cz.kb.openbanking.adaa.client.api.exception.ItemSearchException;
+import cz.kb.openbanking.adaa.client.jersey.AccountApiJerseyImpl;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+
+/**
+ * Warms up the {@link AccountApiJerseyImpl} on start of the application context, before the embedded web server
+ * starts accepting requests, see {@link AccountApiJerseyImpl#warmUp(int)}.
+ * The warm-up is the best effort, its failure is logged and doesn't prevent the application from starting.
+ *
+ * @since 1.3
+ */
+class AdaaClientWarmUp implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(AdaaClientWarmUp.class);
+
+    private final AccountApiJerseyImpl accountApi;
+
+    private final int connections;
+
+    private volatile boolean running;
+
+    /**
+     * New instance.
+     *
+     * @param accountApi  client to warm up
+     * @param connections number of connections to open
+     */
+    AdaaClientWarmUp(AccountApiJerseyImpl accountApi, int connections) {
+        if (accountApi == null) {
+            throw new IllegalArgumentException("accountApi must not be null");
+        }
+
+        this.accountApi = accountApi;
+        this.connections = connections;
+    }
+
+    @Override
+    public void start() {
+        try {
+            accountApi.warmUp(connections);
+        } catch (ItemSearchException e) {
+            log.warn("Warm-up of the ADAA client failed. Error: {}", e.getMessage());
+        }
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Runs early, the web server is started in a later phase.
+     *
+     * @return phase of the lifecycle
+     */
+    @Override
+    public int getPhase() {
+        return 0;
+    }
+}